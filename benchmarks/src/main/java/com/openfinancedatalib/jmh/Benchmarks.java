@@ -0,0 +1,31 @@
+package com.openfinancedatalib.jmh;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of {@code benchmarks.jar}.
+ *
+ * <p>
+ * Accepts the usual JMH command line (benchmark regex, {@code -f},
+ * {@code -p payload=chart-252}, {@code -rf json}, ...) and always
+ * enables the GC profiler, so every result reports its allocation rate
+ * ({@code gc.alloc.rate.norm}, bytes per operation) next to its time.
+ */
+public final class Benchmarks {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+
+    private Benchmarks() {
+    }
+}
@@ -0,0 +1,186 @@
+package com.openfinancedatalib.jmh;
+
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpVersion;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.util.Callback;
+
+/**
+ * Minimal Yahoo stand-in speaking both HTTP/1.1 and cleartext HTTP/2
+ * ({@code h2c}), for the benchmarks that compare the two protocols.
+ *
+ * <p>
+ * The library's mock server only speaks HTTP/1.1; this one answers just
+ * the routes a {@code getQuote} call needs:
+ * <ul>
+ *   <li>{@code /} – session initialization (sets a cookie, answers
+ *       {@code 404} like {@code fc.yahoo.com})</li>
+ *   <li>{@code /v1/test/getcrumb} – a fixed crumb</li>
+ *   <li>{@code /v7/finance/quote} – a quote for each requested symbol</li>
+ * </ul>
+ *
+ * <p>
+ * Responses are delayed by a fixed latency without holding a server
+ * thread. Every TCP connection that carried a request is recorded, with
+ * the protocol it used, so a benchmark can check how many connections
+ * its requests were actually spread over.
+ */
+final class Http2QuoteServer implements AutoCloseable {
+
+    private final Server server;
+
+    private final ServerConnector connector;
+
+    /** Remote addresses of the connections that carried a request */
+    private final Set<SocketAddress> connections = ConcurrentHashMap.newKeySet();
+
+    /** Remote addresses of the connections that carried an HTTP/2 request */
+    private final Set<SocketAddress> http2Connections = ConcurrentHashMap.newKeySet();
+
+    private final long latencyMillis;
+
+    private Http2QuoteServer(Duration latency) {
+        this.latencyMillis = latency.toMillis();
+
+        HttpConfiguration config = new HttpConfiguration();
+
+        server = new Server();
+        connector = new ServerConnector(server,
+                new HttpConnectionFactory(config),
+                new HTTP2CServerConnectionFactory(config));
+        connector.setHost("127.0.0.1");
+        connector.setPort(0);
+
+        server.addConnector(connector);
+        server.setHandler(new Handler.Abstract.NonBlocking() {
+            @Override
+            public boolean handle(Request request, Response response, Callback callback) {
+                return Http2QuoteServer.this.handle(request, response, callback);
+            }
+        });
+    }
+
+    /**
+     * Starts a server on an ephemeral loopback port.
+     *
+     * @param latency delay added to every response
+     * @return running server
+     */
+    static Http2QuoteServer start(Duration latency) {
+        Http2QuoteServer quotes = new Http2QuoteServer(latency);
+        try {
+            quotes.server.start();
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to start the HTTP/2 quote server", e);
+        }
+        return quotes;
+    }
+
+    /**
+     * @return base URL of the server (no trailing slash)
+     */
+    String getBaseUrl() {
+        return "http://127.0.0.1:" + connector.getLocalPort();
+    }
+
+    /**
+     * @return number of TCP connections that carried a request
+     */
+    int connections() {
+        return connections.size();
+    }
+
+    /**
+     * @return number of TCP connections that carried an HTTP/2 request
+     */
+    int http2Connections() {
+        return http2Connections.size();
+    }
+
+    @Override
+    public void close() {
+        try {
+            server.stop();
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to stop the HTTP/2 quote server", e);
+        }
+    }
+
+    private boolean handle(Request request, Response response, Callback callback) {
+        SocketAddress remote = request.getConnectionMetaData().getRemoteSocketAddress();
+        connections.add(remote);
+        if (request.getConnectionMetaData().getHttpVersion() == HttpVersion.HTTP_2) {
+            http2Connections.add(remote);
+        }
+
+        String path = Request.getPathInContext(request);
+
+        if (path.equals("/")) {
+            response.getHeaders().add(HttpHeader.SET_COOKIE, "A3=benchmark; Path=/; HttpOnly");
+            respond(response, callback, 404, "text/html", "<html><body>Not Found</body></html>");
+
+        } else if (path.equals("/v1/test/getcrumb")) {
+            respond(response, callback, 200, "text/plain", "benchmark");
+
+        } else if (path.equals("/v7/finance/quote")) {
+            String symbols = Request.extractQueryParameters(request).getValue("symbols");
+            respond(response, callback, 200, "application/json", quotes(symbols));
+
+        } else {
+            respond(response, callback, 404, "text/plain", "Not Found");
+        }
+        return true;
+    }
+
+    /**
+     * Sends a response once the configured latency has elapsed.
+     */
+    private void respond(Response response, Callback callback, int status, String contentType, String body) {
+        Runnable send = () -> {
+            response.setStatus(status);
+            response.getHeaders().put(HttpHeader.CONTENT_TYPE, contentType);
+            response.write(true, ByteBuffer.wrap(body.getBytes(StandardCharsets.UTF_8)), callback);
+        };
+
+        if (latencyMillis > 0) {
+            connector.getScheduler().schedule(send, latencyMillis, TimeUnit.MILLISECONDS);
+        } else {
+            send.run();
+        }
+    }
+
+    /**
+     * @return quote response holding one quote per comma-separated symbol
+     */
+    private static String quotes(String symbols) {
+        StringBuilder json = new StringBuilder("{\"quoteResponse\":{\"result\":[");
+
+        if (symbols != null) {
+            String[] names = symbols.split(",");
+            for (int i = 0; i < names.length; i++) {
+                if (i > 0) {
+                    json.append(',');
+                }
+                json.append("{\"symbol\":\"").append(names[i])
+                        .append("\",\"currency\":\"USD\",\"regularMarketPrice\":100.0}");
+            }
+        }
+
+        return json.append("],\"error\":null}}").toString();
+    }
+}
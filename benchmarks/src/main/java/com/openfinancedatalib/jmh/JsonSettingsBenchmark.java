@@ -0,0 +1,108 @@
+package com.openfinancedatalib.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.openfinancedatalib.yahoo.config.YahooJsonSettings;
+import com.openfinancedatalib.yahoo.enums.YahooApiType;
+
+/**
+ * Parse throughput of chart and quoteSummary payloads under each
+ * {@link YahooJsonSettings} option.
+ *
+ * <ul>
+ *   <li>{@code sharedReader} – tree parse through the endpoint reader
+ *       of the settings selected by {@code settings}</li>
+ *   <li>{@code virtualThread} – the same parse from a response stream
+ *       on a new virtual thread, as the clients read bodies; compare
+ *       {@code defaults} (shared buffer pool) with {@code threadLocalPool}
+ *       under {@code -prof gc}</li>
+ *   <li>{@code coldMapper} – a new {@code ObjectMapper} per parse: the
+ *       cost each client paid for its first response when every client
+ *       owned its own mapper</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSettingsBenchmark {
+
+    @Param({ "chart-252", "chart-1260", "quoteSummary" })
+    public String payload;
+
+    @Param({ "defaults", "noIntern", "noCanonicalize", "bigDecimals", "blackbird", "threadLocalPool" })
+    public String settings;
+
+    private byte[] bytes;
+
+    private ObjectReader reader;
+
+    @Setup
+    public void setup() {
+        bytes = Payloads.get(payload);
+
+        YahooApiType apiType = payload.startsWith("chart")
+                ? YahooApiType.HISTORY
+                : YahooApiType.QUOTE_SUMMARY;
+
+        YahooJsonSettings json = switch (settings) {
+            case "defaults" -> YahooJsonSettings.defaults();
+            case "noIntern" -> YahooJsonSettings.builder().internFieldNames(false).build();
+            case "noCanonicalize" -> YahooJsonSettings.builder().canonicalizeFieldNames(false).build();
+            case "bigDecimals" -> YahooJsonSettings.builder().bigDecimals(apiType, true).build();
+            case "blackbird" -> YahooJsonSettings.builder().module(new BlackbirdModule()).build();
+            case "threadLocalPool" -> YahooJsonSettings.builder()
+                    .bufferPool(JsonRecyclerPools.threadLocalPool())
+                    .build();
+            default -> throw new IllegalArgumentException(settings);
+        };
+
+        reader = json.getReader(apiType);
+    }
+
+    @Benchmark
+    public JsonNode sharedReader() throws IOException {
+        return reader.readTree(bytes);
+    }
+
+    @Benchmark
+    public JsonNode virtualThread() throws InterruptedException {
+        AtomicReference<JsonNode> result = new AtomicReference<>();
+        Thread.ofVirtual().start(() -> {
+            try (JsonParser parser = reader.createParser(new ByteArrayInputStream(bytes))) {
+                result.set(reader.readTree(parser));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }).join();
+        return result.get();
+    }
+
+    @Benchmark
+    public JsonNode coldMapper() throws IOException {
+        return new ObjectMapper().readTree(bytes);
+    }
+}
@@ -0,0 +1,95 @@
+package com.openfinancedatalib.jmh;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.openfinancedatalib.OpenFinanceData;
+import com.openfinancedatalib.mock.YahooMockServer;
+
+/**
+ * Concurrent {@link OpenFinanceData#getQuote} calls against
+ * {@link YahooMockServer} with injected server latency and failures.
+ *
+ * <p>
+ * Every call uses a distinct symbol, so neither the cache nor request
+ * coalescing answers it: each one goes through sessions, crumbs, rate
+ * limiting, retries, decoding and parsing. Only the network to Yahoo is
+ * replaced.
+ *
+ * <p>
+ * Reported in sample mode: the percentiles show the latency of one call
+ * with {@code -t} concurrent callers (16 by default). Subtracting
+ * {@code latencyMs} from the median gives the time spent in the library,
+ * the loopback transport and the mock server. Calls failed by an
+ * injected {@code 503} are measured too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(16)
+@Fork(1)
+public class LoadBenchmark {
+
+    @Param({"1", "4"})
+    public int sessions;
+
+    @Param({"20"})
+    public long latencyMs;
+
+    @Param({"0", "0.01"})
+    public double failureRate;
+
+    private final AtomicLong symbols = new AtomicLong();
+
+    private YahooMockServer yahoo;
+
+    private OpenFinanceData api;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        yahoo = YahooMockServer.start();
+        api = new OpenFinanceData(yahoo.configBuilder().sessions(sessions).build());
+
+        // Session cookies and crumb of every pooled session
+        for (int i = 0; i < sessions; i++) {
+            api.getQuote("WARMUP" + i);
+        }
+
+        yahoo.latency(Duration.ofMillis(latencyMs)).failRandomly(503, failureRate);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        api.close();
+        yahoo.close();
+    }
+
+    @Benchmark
+    public JsonNode quote() {
+        try {
+            return api.getQuote("SYM" + symbols.incrementAndGet());
+        } catch (RuntimeException e) {
+            // Injected failure, surfaced after the library's retries
+            return null;
+        }
+    }
+}
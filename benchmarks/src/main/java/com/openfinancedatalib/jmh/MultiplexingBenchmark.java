@@ -0,0 +1,130 @@
+package com.openfinancedatalib.jmh;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.openfinancedatalib.OpenFinanceData;
+import com.openfinancedatalib.yahoo.config.YahooConfig;
+import com.openfinancedatalib.yahoo.config.YahooHttpSettings;
+import com.openfinancedatalib.yahoo.endpoint.YahooEndpointPool;
+
+/**
+ * Request rate against connection count, for HTTP/1.1 and HTTP/2, with
+ * {@code -t} concurrent {@link OpenFinanceData#getQuote} callers (64 by
+ * default) against {@link Http2QuoteServer}.
+ *
+ * <ul>
+ *   <li>{@code HTTP_2} – {@code connections} sessions, each with its own
+ *       {@code HttpClient}; every session multiplexes its requests as
+ *       streams of a single connection</li>
+ *   <li>{@code HTTP_1_1} – one session, with at most {@code connections}
+ *       requests in flight: a connection carries one request at a time,
+ *       so this bounds the connections the client keeps open</li>
+ * </ul>
+ *
+ * <p>
+ * With {@code latencyMs} of server latency, a connection serves at most
+ * {@code 1000 / latencyMs} HTTP/1.1 requests per second, whereas one
+ * HTTP/2 connection carries every caller at once. The HTTP/2 trials
+ * fail if the server saw requests over more connections than sessions,
+ * or over HTTP/1.1: the figures are only reported when the requests
+ * were actually multiplexed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(64)
+@Fork(1)
+public class MultiplexingBenchmark {
+
+    @Param({"HTTP_1_1", "HTTP_2"})
+    public HttpClient.Version version;
+
+    @Param({"1", "4", "16"})
+    public int connections;
+
+    @Param({"20"})
+    public long latencyMs;
+
+    private final AtomicLong symbols = new AtomicLong();
+
+    private Http2QuoteServer yahoo;
+
+    private OpenFinanceData api;
+
+    /** Bounds the HTTP/1.1 requests in flight ({@code null} for HTTP/2) */
+    private Semaphore inFlight;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        yahoo = Http2QuoteServer.start(Duration.ofMillis(latencyMs));
+
+        int sessions = version == HttpClient.Version.HTTP_2 ? connections : 1;
+        inFlight = version == HttpClient.Version.HTTP_2 ? null : new Semaphore(connections);
+
+        api = new OpenFinanceData(YahooConfig.builder()
+                .http(YahooHttpSettings.builder().version(version).build())
+                .sessionUrl(yahoo.getBaseUrl() + "/")
+                .endpoints(YahooEndpointPool.builder().endpoints(yahoo.getBaseUrl()).build())
+                .sessions(sessions)
+                .build());
+
+        // Session cookies and crumb of every pooled session, one at a
+        // time: the first request of a session upgrades its connection
+        for (int i = 0; i < sessions; i++) {
+            api.getQuote("WARMUP" + i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        try {
+            if (version == HttpClient.Version.HTTP_2
+                    && (yahoo.connections() > connections || yahoo.http2Connections() < yahoo.connections())) {
+                throw new IllegalStateException("HTTP/2 requests were not multiplexed: "
+                        + yahoo.connections() + " connections ("
+                        + yahoo.http2Connections() + " over HTTP/2) for " + connections + " sessions");
+            }
+        } finally {
+            api.close();
+            yahoo.close();
+        }
+    }
+
+    @Benchmark
+    public JsonNode quote() throws InterruptedException {
+        String symbol = "SYM" + symbols.incrementAndGet();
+
+        if (inFlight == null) {
+            return api.getQuote(symbol);
+        }
+
+        inFlight.acquire();
+        try {
+            return api.getQuote(symbol);
+        } finally {
+            inFlight.release();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.openfinancedatalib.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Cost of building the {@link JsonNode} tree of Yahoo payloads.
+ *
+ * <ul>
+ *   <li>{@code readTreeString} – the buffered path: decode the body to a
+ *       {@code String}, then parse it</li>
+ *   <li>{@code readTreeStream} – the streaming path: parse straight from
+ *       the (decompressed) body stream</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseBenchmark {
+
+    @Param({ "quote-1", "quote-50", "chart-22", "chart-252", "chart-1260", "quoteSummary", "search" })
+    public String payload;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        bytes = Payloads.get(payload);
+    }
+
+    @Benchmark
+    public JsonNode readTreeString() throws IOException {
+        return mapper.readTree(new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public JsonNode readTreeStream() throws IOException {
+        return mapper.readTree(new ByteArrayInputStream(bytes));
+    }
+}
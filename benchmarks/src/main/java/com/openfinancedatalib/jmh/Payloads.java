@@ -0,0 +1,121 @@
+package com.openfinancedatalib.jmh;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Yahoo payloads of different sizes, derived from the recorded responses
+ * shipped with the library's test sources ({@code /yahoo/*.json}).
+ *
+ * <p>
+ * Payload names, used as JMH {@code @Param} values:
+ * <ul>
+ *   <li>{@code quote-N} – quote response with {@code N} symbols</li>
+ *   <li>{@code chart-N} – chart response with {@code N} daily bars
+ *       (22 ≈ one month, 252 ≈ one year, 1260 ≈ five years)</li>
+ *   <li>{@code quoteSummary} – every recorded module</li>
+ *   <li>{@code search} – search response</li>
+ * </ul>
+ */
+public final class Payloads {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final long DAY_SECONDS = 86_400;
+
+    /**
+     * Returns the payload called {@code name}.
+     *
+     * @param name payload name (see the class documentation)
+     * @return UTF-8 JSON body
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static byte[] get(String name) {
+        try {
+            if (name.startsWith("quote-")) {
+                return quote(Integer.parseInt(name.substring("quote-".length())));
+            }
+            if (name.startsWith("chart-")) {
+                return chart(Integer.parseInt(name.substring("chart-".length())));
+            }
+            if (name.equals("quoteSummary") || name.equals("search")) {
+                return recorded(name + ".json");
+            }
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        throw new IllegalArgumentException("Unknown payload: " + name);
+    }
+
+    /**
+     * Repeats the recorded quote for {@code symbols} symbols.
+     */
+    private static byte[] quote(int symbols) throws IOException {
+        JsonNode body = MAPPER.readTree(recorded("quote.json"));
+        ArrayNode result = (ArrayNode) body.path("quoteResponse").path("result");
+        ObjectNode template = (ObjectNode) result.get(0);
+
+        result.removeAll();
+        for (int i = 0; i < symbols; i++) {
+            result.add(template.deepCopy().put("symbol", "SYM" + i));
+        }
+
+        return MAPPER.writeValueAsBytes(body);
+    }
+
+    /**
+     * Repeats the recorded bars, one day apart, up to {@code bars} bars.
+     */
+    private static byte[] chart(int bars) throws IOException {
+        JsonNode body = MAPPER.readTree(recorded("chart.json"));
+        JsonNode result = body.path("chart").path("result").path(0);
+
+        ArrayNode timestamps = (ArrayNode) result.path("timestamp");
+        ObjectNode quote = (ObjectNode) result.path("indicators").path("quote").path(0);
+        ObjectNode adjClose = (ObjectNode) result.path("indicators").path("adjclose").path(0);
+
+        long first = timestamps.get(0).asLong();
+        int recorded = timestamps.size();
+
+        ArrayNode newTimestamps = MAPPER.createArrayNode();
+        for (int i = 0; i < bars; i++) {
+            newTimestamps.add(first + i * DAY_SECONDS);
+        }
+        ((ObjectNode) result).set("timestamp", newTimestamps);
+
+        for (String column : new String[] { "open", "high", "low", "close", "volume" }) {
+            quote.set(column, repeat((ArrayNode) quote.get(column), recorded, bars));
+        }
+        adjClose.set("adjclose", repeat((ArrayNode) adjClose.get("adjclose"), recorded, bars));
+
+        return MAPPER.writeValueAsBytes(body);
+    }
+
+    private static ArrayNode repeat(ArrayNode values, int recorded, int size) {
+        ArrayNode repeated = MAPPER.createArrayNode();
+        for (int i = 0; i < size; i++) {
+            repeated.add(values.get(i % recorded));
+        }
+        return repeated;
+    }
+
+    private static byte[] recorded(String name) throws IOException {
+        try (InputStream in = Payloads.class.getResourceAsStream("/yahoo/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing recorded payload: /yahoo/" + name);
+            }
+            return in.readAllBytes();
+        }
+    }
+
+    private Payloads() {
+    }
+}
@@ -0,0 +1,81 @@
+package com.openfinancedatalib.jmh;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.openfinancedatalib.summary.FinancialData;
+import com.openfinancedatalib.summary.QuoteSummary;
+import com.openfinancedatalib.yahoo.config.YahooJsonSettings;
+import com.openfinancedatalib.yahoo.enums.YahooApiType;
+
+/**
+ * Reading three {@code financialData} fields of a quoteSummary payload
+ * (run with {@code -prof gc} to compare allocations).
+ *
+ * <ul>
+ *   <li>{@code tree} – full {@link JsonNode} tree, then
+ *       {@code path().path().asDouble()} chains</li>
+ *   <li>{@code split} – per-module token buffers only, as returned by
+ *       {@code getSummary} before any module is touched</li>
+ *   <li>{@code typedView} – token buffers, then the lazily decoded
+ *       {@link FinancialData} view</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuoteSummaryViewBenchmark {
+
+    private final ObjectReader reader = YahooJsonSettings.defaults().getReader(YahooApiType.QUOTE_SUMMARY);
+
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        bytes = Payloads.get("quoteSummary");
+    }
+
+    @Benchmark
+    public double tree() throws IOException {
+        JsonNode root = reader.readTree(bytes);
+        JsonNode financialData = root.path("quoteSummary").path("result").path(0).path("financialData");
+
+        return financialData.path("currentPrice").path("raw").asDouble()
+                + financialData.path("targetMeanPrice").path("raw").asDouble()
+                + financialData.path("totalCash").path("raw").asDouble();
+    }
+
+    @Benchmark
+    public QuoteSummary split() throws IOException {
+        try (JsonParser parser = reader.createParser(bytes)) {
+            parser.nextToken();
+            return QuoteSummary.read("AAPL", parser);
+        }
+    }
+
+    @Benchmark
+    public double typedView() throws IOException {
+        FinancialData financialData = split().getFinancialData().orElseThrow();
+
+        return financialData.getCurrentPrice()
+                + financialData.getTargetMeanPrice()
+                + financialData.getTotalCash();
+    }
+}
@@ -0,0 +1,88 @@
+package com.openfinancedatalib.jmh;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.openfinancedatalib.mock.YahooMockServer;
+import com.openfinancedatalib.yahoo.YahooRequestCoordinator;
+import com.openfinancedatalib.yahoo.enums.YahooApiType;
+
+/**
+ * Full {@link YahooRequestCoordinator#requestCoordinator} round trips
+ * against {@link YahooMockServer} on the loopback interface.
+ *
+ * <p>
+ * Covers crumb lookup, dispatch, HTTP exchange, decompression,
+ * validation and parsing. The mock server adds no latency and the
+ * response cache is disabled (the default), so every call reaches the
+ * server. The figures include the server's own cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoundTripBenchmark {
+
+    private static final Map<String, String> QUOTE_PARAMS = Map.of();
+
+    private static final Map<String, String> CHART_PARAMS = Map.of("range", "5d", "interval", "1d");
+
+    private static final Map<String, String> SUMMARY_PARAMS =
+            Map.of("modules", "summaryDetail,financialData,defaultKeyStatistics,calendarEvents");
+
+    private static final Map<String, String> SEARCH_PARAMS = Map.of("query", "apple");
+
+    private YahooMockServer yahoo;
+
+    private YahooRequestCoordinator coordinator;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        yahoo = YahooMockServer.start();
+        coordinator = new YahooRequestCoordinator(yahoo.configBuilder().build());
+
+        // Session cookies and crumb
+        coordinator.requestCoordinator("AAPL", YahooApiType.QUOTE, QUOTE_PARAMS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        yahoo.close();
+    }
+
+    @Benchmark
+    public JsonNode quote() {
+        return coordinator.requestCoordinator("AAPL", YahooApiType.QUOTE, QUOTE_PARAMS);
+    }
+
+    @Benchmark
+    public JsonNode chart() {
+        return coordinator.requestCoordinator("AAPL", YahooApiType.HISTORY, CHART_PARAMS);
+    }
+
+    @Benchmark
+    public JsonNode quoteSummary() {
+        return coordinator.requestCoordinator("AAPL", YahooApiType.QUOTE_SUMMARY, SUMMARY_PARAMS);
+    }
+
+    @Benchmark
+    public JsonNode search() {
+        return coordinator.requestCoordinator(null, YahooApiType.SEARCH, SEARCH_PARAMS);
+    }
+}
@@ -0,0 +1,83 @@
+package com.openfinancedatalib.jmh;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.openfinancedatalib.yahoo.validator.YahooResponseValidator;
+
+/**
+ * Cost of response validation.
+ *
+ * <ul>
+ *   <li>{@code validateBody} – {@link YahooResponseValidator#validate(int, String)},
+ *       which scans the whole buffered body</li>
+ *   <li>{@code validateStart} – {@link YahooResponseValidator#validateStart(JsonParser)},
+ *       the streaming check, which only reads the first token</li>
+ *   <li>{@code validatePayload} – {@link YahooResponseValidator#validatePayload(JsonNode)},
+ *       the structural error check on an already parsed tree</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    @Param({ "quote-1", "quote-50", "chart-22", "chart-252", "chart-1260", "quoteSummary" })
+    public String payload;
+
+    private final JsonFactory factory = new JsonFactory();
+
+    private byte[] bytes;
+
+    private String body;
+
+    private JsonNode tree;
+
+    @Setup
+    public void setup() throws IOException {
+        bytes = Payloads.get(payload);
+        body = new String(bytes, StandardCharsets.UTF_8);
+        tree = new ObjectMapper().readTree(bytes);
+    }
+
+    @Benchmark
+    public String validateBody() {
+        YahooResponseValidator.validate(200, body);
+        return body;
+    }
+
+    @Benchmark
+    public JsonToken validateStart() throws IOException {
+        try (JsonParser parser = factory.createParser(bytes)) {
+            YahooResponseValidator.validateStart(parser);
+            return parser.currentToken();
+        }
+    }
+
+    @Benchmark
+    public JsonNode validatePayload() {
+        YahooResponseValidator.validatePayload(tree);
+        return tree;
+    }
+}
@@ -0,0 +1,81 @@
+package com.openfinancedatalib.yahoo.client;
+
+import java.net.http.HttpRequest;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.openfinancedatalib.yahoo.session.YahooSessionManager;
+
+/**
+ * Cost of building the HTTP request of each client (endpoint selection,
+ * URL concatenation, {@code URI} parsing and headers).
+ *
+ * <p>
+ * Lives in the clients' package to reach their package-private
+ * {@code buildRequest} methods. No request is sent.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestBuildBenchmark {
+
+    private static final String CRUMB = "a1B2c3D4e5F";
+
+    private static final Map<String, String> CHART_PARAMS =
+            Map.of("range", "1y", "interval", "1d", "events", "div,splits");
+
+    private static final Map<String, String> SUMMARY_PARAMS =
+            Map.of("modules", "summaryDetail,financialData,defaultKeyStatistics,calendarEvents");
+
+    private static final Map<String, String> SEARCH_PARAMS =
+            Map.of("query", "apple", "quotesCount", "10");
+
+    private YahooQuoteClient quoteClient;
+    private YahooHistoryClient historyClient;
+    private YahooQuoteSummaryClient quoteSummaryClient;
+    private YahooSearchClient searchClient;
+
+    @Setup
+    public void setup() {
+        YahooSessionManager session = new YahooSessionManager();
+
+        quoteClient = new YahooQuoteClient(session);
+        historyClient = new YahooHistoryClient(session);
+        quoteSummaryClient = new YahooQuoteSummaryClient(session);
+        searchClient = new YahooSearchClient(session);
+    }
+
+    @Benchmark
+    public HttpRequest quote() {
+        return quoteClient.buildRequest("AAPL,MSFT,PETR4.SA", CRUMB);
+    }
+
+    @Benchmark
+    public HttpRequest chart() {
+        return historyClient.buildRequest("AAPL", CHART_PARAMS, CRUMB);
+    }
+
+    @Benchmark
+    public HttpRequest quoteSummary() {
+        return quoteSummaryClient.buildRequest("AAPL", SUMMARY_PARAMS, CRUMB);
+    }
+
+    @Benchmark
+    public HttpRequest search() {
+        return searchClient.buildRequest(SEARCH_PARAMS, CRUMB);
+    }
+}
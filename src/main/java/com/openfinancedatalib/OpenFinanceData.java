@@ -1,9 +1,18 @@
 package com.openfinancedatalib;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.Map;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.openfinancedatalib.history.HistorySyncResult;
+import com.openfinancedatalib.history.PriceSeries;
+import com.openfinancedatalib.history.store.StoredBars;
+import com.openfinancedatalib.summary.QuoteSummary;
 import com.openfinancedatalib.yahoo.YahooRequestCoordinator;
+import com.openfinancedatalib.yahoo.cache.YahooCacheStats;
+import com.openfinancedatalib.yahoo.client.YahooTransferStats;
+import com.openfinancedatalib.yahoo.config.YahooConfig;
 import com.openfinancedatalib.yahoo.enums.YahooApiType;
 
 /**
@@ -29,11 +38,18 @@ import com.openfinancedatalib.yahoo.enums.YahooApiType;
  * All methods return {@link JsonNode} containing the original
  * Yahoo Finance response structure, allowing full flexibility
  * for consumers.
+ *
+ * <p>
+ * An instance holds network connections and, when a bar store is
+ * configured, open files: {@link #close() close} it once it is no
+ * longer needed, e.g. with try-with-resources.
  */
-public class OpenFinanceData {
+public class OpenFinanceData implements AutoCloseable {
 
     private final YahooRequestCoordinator requestCoordinator;
 
+    private final OpenFinanceDataAsync async;
+
     // -------------------------------------------------
     // CONSTRUCTOR
     // -------------------------------------------------
@@ -46,7 +62,73 @@ public class OpenFinanceData {
      * authentication with Yahoo Finance.
      */
     public OpenFinanceData() {
-        this.requestCoordinator = new YahooRequestCoordinator();
+        this(YahooConfig.defaults());
+    }
+
+    /**
+     * Creates a new instance of the OpenFinanceData library
+     * with a custom configuration.
+     * <p>
+     * Allows tuning technical aspects of the Yahoo integration,
+     * such as client-side rate limiting and response caching.
+     *
+     * @param config Yahoo integration configuration
+     */
+    public OpenFinanceData(YahooConfig config) {
+        this.requestCoordinator = new YahooRequestCoordinator(config);
+        this.async = new OpenFinanceDataAsync(requestCoordinator);
+    }
+
+    // =================================================
+    // ASYNCHRONOUS ACCESS
+    // =================================================
+
+    /**
+     * Returns the non-blocking view of this instance.
+     * <p>
+     * The returned {@link OpenFinanceDataAsync} shares this
+     * instance's Yahoo session (cookies and crumb), so both
+     * APIs can be used side by side.
+     *
+     * @return asynchronous API bound to this instance
+     */
+    public OpenFinanceDataAsync async() {
+        return async;
+    }
+
+    /**
+     * Returns response cache statistics (hits, misses, evictions).
+     * <p>
+     * The cache is enabled through {@link YahooConfig.Builder#cache}.
+     *
+     * @return cache statistics, or {@code null} if caching is disabled
+     */
+    public YahooCacheStats getCacheStats() {
+        return requestCoordinator.cacheStats();
+    }
+
+    /**
+     * Returns the number of response bytes received from Yahoo,
+     * compressed (on the wire) and decompressed.
+     *
+     * @return transfer statistics
+     */
+    public YahooTransferStats getTransferStats() {
+        return requestCoordinator.transferStats();
+    }
+
+    /**
+     * Releases the Yahoo sessions and closes the bar store (if
+     * configured).
+     * <p>
+     * The {@link #async()} view is closed as well; requests issued
+     * afterwards fail.
+     *
+     * @throws java.io.UncheckedIOException if a bar file cannot be closed
+     */
+    @Override
+    public void close() {
+        requestCoordinator.close();
     }
 
     // =================================================
@@ -271,6 +353,49 @@ public class OpenFinanceData {
         );
     }
 
+    /**
+     * Returns quoteSummary modules as typed, lazily decoded views.
+     * <p>
+     * Same request as {@link #getQuoteSummary(String, Map)}, but no
+     * {@link JsonNode} tree is built: each module is buffered as JSON
+     * tokens and only decoded when accessed, with Yahoo's
+     * {@code {"raw": ..., "fmt": ...}} values flattened to primitives.
+     *
+     * <p>
+     * Example:
+     * <pre>
+     * QuoteSummary summary = api.getSummary("AAPL", "financialData", "summaryDetail");
+     * double price = summary.getFinancialData().orElseThrow().getCurrentPrice();
+     * </pre>
+     *
+     * <p>
+     * When no module is given, the modules of
+     * {@link #getFundamentals(String)} are requested.
+     *
+     * @param symbol the asset ticker symbol
+     * @param modules quoteSummary modules to request
+     * @return requested modules as a {@link QuoteSummary}
+     */
+    public QuoteSummary getSummary(String symbol, String... modules) {
+        return requestCoordinator.requestQuoteSummary(
+                symbol,
+                summaryParams(modules)
+        );
+    }
+
+    /**
+     * Builds the quoteSummary parameters of a module list.
+     *
+     * @param modules quoteSummary modules (empty for the default modules)
+     * @return quoteSummary query parameters
+     */
+    static Map<String, String> summaryParams(String... modules) {
+        if (modules.length == 0) {
+            return Map.of();
+        }
+        return Map.of("modules", String.join(",", modules));
+    }
+
     // =================================================
     // QUOTE (PRICE)
     // =================================================
@@ -292,6 +417,28 @@ public class OpenFinanceData {
         );
     }
 
+    /**
+     * Returns the current quotes for multiple assets.
+     * <p>
+     * Symbols are grouped into multi-symbol requests
+     * (the {@code /v7/finance/quote} endpoint accepts a
+     * comma-separated list), so a large watchlist costs
+     * only a handful of round trips.
+     *
+     * <p>
+     * Each entry of the returned map contains the raw element
+     * of {@code quoteResponse.result} for that symbol.
+     * Symbols not returned by Yahoo (e.g. invalid tickers)
+     * are absent from the map.
+     *
+     * @param symbols the asset ticker symbols
+     * @return map of symbol to {@link JsonNode} quote data,
+     *         in the order the symbols were provided
+     */
+    public Map<String, JsonNode> getQuotes(Collection<String> symbols) {
+        return requestCoordinator.requestQuotes(symbols);
+    }
+
     // =================================================
     // HISTORY (CHART)
     // =================================================
@@ -329,6 +476,36 @@ public class OpenFinanceData {
         );
     }
 
+    /**
+     * Returns historical price data for an arbitrary time span.
+     * <p>
+     * Yahoo limits how far a single intraday request may reach
+     * (7 days for {@code 1m}, 60 days up to {@code 90m}, 730 days for
+     * {@code 1h}). Longer spans are split into windows within those
+     * limits, fetched in parallel (under the rate limit) and stitched
+     * back into a single chart response ordered by timestamp.
+     *
+     * <p>
+     * Note that Yahoo also limits how far back intraday data exists at
+     * all (e.g. about 30 days for {@code 1m}).
+     *
+     * @param symbol the asset ticker symbol
+     * @param start first instant (inclusive)
+     * @param end last instant (exclusive)
+     * @param interval data interval
+     * @return {@link JsonNode} containing historical prices, in the
+     *         same {@code chart.result[0]} structure as
+     *         {@link #getHistory(String, String, String)}
+     */
+    public JsonNode getHistory(
+            String symbol,
+            Instant start,
+            Instant end,
+            String interval
+    ) {
+        return requestCoordinator.requestHistoryRange(symbol, start, end, interval, null);
+    }
+
     /**
      * Returns historical price data including corporate events.
      * <p>
@@ -370,6 +547,107 @@ public class OpenFinanceData {
         );
     }
 
+    /**
+     * Returns historical prices decoded into primitive columns.
+     * <p>
+     * Same data as {@link #getHistory(String, String, String)}, but the
+     * chart payload is decoded while streamed into a {@link PriceSeries}
+     * ({@code long[]} timestamps and volumes, {@code double[]} prices),
+     * which is far more compact than a {@link JsonNode} when many series
+     * are kept in memory.
+     *
+     * @param symbol the asset ticker symbol
+     * @param range time range of the historical data
+     * @param interval data interval
+     * @return historical prices as a {@link PriceSeries}
+     */
+    public PriceSeries getPriceSeries(
+            String symbol,
+            String range,
+            String interval
+    ) {
+        return getPriceSeries(symbol, range, interval, false);
+    }
+
+    /**
+     * Returns historical prices decoded into primitive columns,
+     * optionally retaining the raw chart payload.
+     * <p>
+     * When {@code retainRaw} is {@code true}, the original
+     * {@link JsonNode} is available through {@link PriceSeries#getRaw()}
+     * (at the cost of keeping the full tree in memory).
+     *
+     * @param symbol the asset ticker symbol
+     * @param range time range of the historical data
+     * @param interval data interval
+     * @param retainRaw whether the raw chart payload is kept
+     * @return historical prices as a {@link PriceSeries}
+     */
+    public PriceSeries getPriceSeries(
+            String symbol,
+            String range,
+            String interval,
+            boolean retainRaw
+    ) {
+        return requestCoordinator.requestPriceSeries(
+                symbol,
+                Map.of(
+                        "range", range,
+                        "interval", interval
+                ),
+                retainRaw
+        );
+    }
+
+    /**
+     * Returns historical prices from the local bar store, downloading
+     * only the bars it does not hold yet.
+     * <p>
+     * On the first call for a symbol/interval, the full {@code range}
+     * is downloaded and stored. Subsequent calls only request the bars
+     * after the last stored one (using {@code period1}/{@code period2}),
+     * so a daily refresh transfers a few bars instead of the whole range.
+     *
+     * <p>
+     * The bars are memory-mapped: they live outside the Java heap and
+     * are read without copying.
+     *
+     * @param symbol the asset ticker symbol
+     * @param range time range downloaded when nothing is stored yet
+     * @param interval data interval
+     * @return stored bars, up to date
+     * @throws IllegalStateException if no bar store is configured
+     *         (see {@link YahooConfig.Builder#barStore})
+     */
+    public StoredBars getStoredHistory(
+            String symbol,
+            String range,
+            String interval
+    ) {
+        return requestCoordinator.requestStoredHistory(symbol, range, interval);
+    }
+
+    /**
+     * Brings a held price series up to date, downloading only new bars.
+     * <p>
+     * Requests the bars from the last bar of {@code current} to now
+     * (explicit {@code period1}/{@code period2} instead of a range),
+     * replaces that last bar (it may have been in progress) and
+     * appends the newer ones.
+     *
+     * @param symbol the asset ticker symbol
+     * @param interval data interval of {@code current}
+     * @param current series already held (not empty)
+     * @return merged series and what changed
+     */
+    public HistorySyncResult syncHistory(
+            String symbol,
+            String interval,
+            PriceSeries current
+    ) {
+        return requestCoordinator.requestHistorySync(symbol, interval, current);
+    }
+
     // =================================================
     // SEARCH
     // =================================================
@@ -0,0 +1,435 @@
+package com.openfinancedatalib;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.openfinancedatalib.history.HistorySyncResult;
+import com.openfinancedatalib.history.PriceSeries;
+import com.openfinancedatalib.history.store.StoredBars;
+import com.openfinancedatalib.summary.QuoteSummary;
+import com.openfinancedatalib.yahoo.YahooRequestCoordinator;
+import com.openfinancedatalib.yahoo.config.YahooConfig;
+import com.openfinancedatalib.yahoo.enums.YahooApiType;
+
+/**
+ * Non-blocking entry point of the OpenFinanceData library.
+ * <p>
+ * Exposes the same operations as {@link OpenFinanceData}, but every
+ * method returns immediately with a {@link CompletableFuture}.
+ * Session bootstrap, crumb acquisition and the Yahoo request itself
+ * are all executed with {@link java.net.http.HttpClient#sendAsync},
+ * so hundreds of requests can be in flight from a handful of threads.
+ *
+ * <p>
+ * Failures are reported by completing the future exceptionally,
+ * using the same exception types as the blocking API.
+ *
+ * <p>
+ * Instances obtained through {@link OpenFinanceData#async()} share
+ * the session (cookies and crumb) of the blocking instance.
+ *
+ * <p>
+ * An instance created through its own constructors must be
+ * {@link #close() closed} once it is no longer needed.
+ */
+public class OpenFinanceDataAsync implements AutoCloseable {
+
+    private final YahooRequestCoordinator requestCoordinator;
+
+    // -------------------------------------------------
+    // CONSTRUCTORS
+    // -------------------------------------------------
+
+    /**
+     * Creates a new asynchronous instance of the OpenFinanceData library
+     * with its own Yahoo session.
+     */
+    public OpenFinanceDataAsync() {
+        this(YahooConfig.defaults());
+    }
+
+    /**
+     * Creates a new asynchronous instance of the OpenFinanceData library
+     * with its own Yahoo session and a custom configuration.
+     *
+     * @param config Yahoo integration configuration
+     */
+    public OpenFinanceDataAsync(YahooConfig config) {
+        this(new YahooRequestCoordinator(config));
+    }
+
+    /**
+     * Creates an asynchronous view over an existing coordinator.
+     *
+     * @param requestCoordinator coordinator shared with a blocking instance
+     */
+    OpenFinanceDataAsync(YahooRequestCoordinator requestCoordinator) {
+        this.requestCoordinator = requestCoordinator;
+    }
+
+    /**
+     * Releases the Yahoo sessions and closes the bar store (if
+     * configured).
+     * <p>
+     * For a view obtained through {@link OpenFinanceData#async()}, this
+     * closes the blocking instance as well.
+     *
+     * @throws java.io.UncheckedIOException if a bar file cannot be closed
+     */
+    @Override
+    public void close() {
+        requestCoordinator.close();
+    }
+
+    // =================================================
+    // QUOTE SUMMARY — PREDEFINED MODULE METHODS
+    // =================================================
+
+    /**
+     * Asynchronous variant of {@link OpenFinanceData#getFundamentals(String)}.
+     *
+     * @param symbol the asset ticker symbol (e.g. AAPL, MSFT, PETR4.SA)
+     * @return future completed with the company fundamentals
+     */
+    public CompletableFuture<JsonNode> getFundamentals(String symbol) {
+        return requestCoordinator.requestCoordinatorAsync(
+                symbol,
+                YahooApiType.QUOTE_SUMMARY,
+                Map.of()
+        );
+    }
+
+    /**
+     * Asynchronous variant of {@link OpenFinanceData#getProfile(String)}.
+     *
+     * @param symbol the asset ticker symbol
+     * @return future completed with company profile information
+     */
+    public CompletableFuture<JsonNode> getProfile(String symbol) {
+        return requestCoordinator.requestCoordinatorAsync(
+                symbol,
+                YahooApiType.QUOTE_SUMMARY,
+                Map.of("modules", "summaryProfile")
+        );
+    }
+
+    /**
+     * Asynchronous variant of {@link OpenFinanceData#getEarnings(String)}.
+     *
+     * @param symbol the asset ticker symbol
+     * @return future completed with earnings data
+     */
+    public CompletableFuture<JsonNode> getEarnings(String symbol) {
+        return requestCoordinator.requestCoordinatorAsync(
+                symbol,
+                YahooApiType.QUOTE_SUMMARY,
+                Map.of(
+                        "modules",
+                        "earnings,earningsHistory,earningsTrend"
+                )
+        );
+    }
+
+    /**
+     * Asynchronous variant of {@link OpenFinanceData#getFinancialStatements(String)}.
+     *
+     * @param symbol the asset ticker symbol
+     * @return future completed with financial statements
+     */
+    public CompletableFuture<JsonNode> getFinancialStatements(String symbol) {
+        return requestCoordinator.requestCoordinatorAsync(
+                symbol,
+                YahooApiType.QUOTE_SUMMARY,
+                Map.of(
+                        "modules",
+                        "incomeStatementHistory,balanceSheetHistory,cashflowStatementHistory"
+                )
+        );
+    }
+
+    /**
+     * Asynchronous variant of {@link OpenFinanceData#getAnalystRecommendations(String)}.
+     *
+     * @param symbol the asset ticker symbol
+     * @return future completed with analyst recommendations
+     */
+    public CompletableFuture<JsonNode> getAnalystRecommendations(String symbol) {
+        return requestCoordinator.requestCoordinatorAsync(
+                symbol,
+                YahooApiType.QUOTE_SUMMARY,
+                Map.of(
+                        "modules",
+                        "recommendationTrend,upgradeDowngradeHistory"
+                )
+        );
+    }
+
+    /**
+     * Asynchronous variant of {@link OpenFinanceData#getCalendarEvents(String)}.
+     *
+     * @param symbol the asset ticker symbol
+     * @return future completed with corporate calendar events
+     */
+    public CompletableFuture<JsonNode> getCalendarEvents(String symbol) {
+        return requestCoordinator.requestCoordinatorAsync(
+                symbol,
+                YahooApiType.QUOTE_SUMMARY,
+                Map.of("modules", "calendarEvents")
+        );
+    }
+
+    /**
+     * Asynchronous variant of {@link OpenFinanceData#getOwnership(String)}.
+     *
+     * @param symbol the asset ticker symbol
+     * @return future completed with ownership information
+     */
+    public CompletableFuture<JsonNode> getOwnership(String symbol) {
+        return requestCoordinator.requestCoordinatorAsync(
+                symbol,
+                YahooApiType.QUOTE_SUMMARY,
+                Map.of(
+                        "modules",
+                        "institutionOwnership,fundOwnership,insiderHolders,insiderTransactions"
+                )
+        );
+    }
+
+    // =================================================
+    // QUOTE SUMMARY — GENERIC (ADVANCED) METHOD
+    // =================================================
+
+    /**
+     * Asynchronous variant of {@link OpenFinanceData#getQuoteSummary(String, Map)}.
+     *
+     * @param symbol the asset ticker symbol
+     * @param params quoteSummary query parameters
+     * @return future completed with the raw Yahoo response
+     */
+    public CompletableFuture<JsonNode> getQuoteSummary(
+            String symbol,
+            Map<String, String> params
+    ) {
+        return requestCoordinator.requestCoordinatorAsync(
+                symbol,
+                YahooApiType.QUOTE_SUMMARY,
+                params
+        );
+    }
+
+    /**
+     * Asynchronous variant of {@link OpenFinanceData#getSummary(String, String...)}.
+     *
+     * @param symbol the asset ticker symbol
+     * @param modules quoteSummary modules to request
+     * @return future completed with the requested modules
+     */
+    public CompletableFuture<QuoteSummary> getSummary(String symbol, String... modules) {
+        return requestCoordinator.requestQuoteSummaryAsync(
+                symbol,
+                OpenFinanceData.summaryParams(modules)
+        );
+    }
+
+    // =================================================
+    // QUOTE (PRICE)
+    // =================================================
+
+    /**
+     * Asynchronous variant of {@link OpenFinanceData#getQuote(String)}.
+     *
+     * @param symbol the asset ticker symbol
+     * @return future completed with quote data
+     */
+    public CompletableFuture<JsonNode> getQuote(String symbol) {
+        return requestCoordinator.requestCoordinatorAsync(
+                symbol,
+                YahooApiType.QUOTE,
+                Map.of()
+        );
+    }
+
+    /**
+     * Asynchronous variant of {@link OpenFinanceData#getQuotes(Collection)}.
+     * <p>
+     * All symbol batches are requested concurrently.
+     *
+     * @param symbols the asset ticker symbols
+     * @return future completed with the map of symbol to quote data,
+     *         in the order the symbols were provided
+     */
+    public CompletableFuture<Map<String, JsonNode>> getQuotes(Collection<String> symbols) {
+        return requestCoordinator.requestQuotesAsync(symbols);
+    }
+
+    // =================================================
+    // HISTORY (CHART)
+    // =================================================
+
+    /**
+     * Asynchronous variant of {@link OpenFinanceData#getHistory(String, String, String)}.
+     *
+     * @param symbol the asset ticker symbol
+     * @param range time range of the historical data
+     * @param interval data interval
+     * @return future completed with historical prices
+     */
+    public CompletableFuture<JsonNode> getHistory(
+            String symbol,
+            String range,
+            String interval
+    ) {
+        return requestCoordinator.requestCoordinatorAsync(
+                symbol,
+                YahooApiType.HISTORY,
+                Map.of(
+                        "range", range,
+                        "interval", interval
+                )
+        );
+    }
+
+    /**
+     * Asynchronous variant of
+     * {@link OpenFinanceData#getHistory(String, Instant, Instant, String)}.
+     *
+     * @param symbol the asset ticker symbol
+     * @param start first instant (inclusive)
+     * @param end last instant (exclusive)
+     * @param interval data interval
+     * @return future completed with historical prices over the span
+     */
+    public CompletableFuture<JsonNode> getHistory(
+            String symbol,
+            Instant start,
+            Instant end,
+            String interval
+    ) {
+        return requestCoordinator.requestHistoryRangeAsync(symbol, start, end, interval, null);
+    }
+
+    /**
+     * Asynchronous variant of
+     * {@link OpenFinanceData#getHistoryWithEvents(String, String, String, String)}.
+     *
+     * @param symbol the asset ticker symbol
+     * @param range time range of the historical data
+     * @param interval data interval
+     * @param events events to include
+     * @return future completed with historical data with events
+     */
+    public CompletableFuture<JsonNode> getHistoryWithEvents(
+            String symbol,
+            String range,
+            String interval,
+            String events
+    ) {
+        return requestCoordinator.requestCoordinatorAsync(
+                symbol,
+                YahooApiType.HISTORY,
+                Map.of(
+                        "range", range,
+                        "interval", interval,
+                        "events", events
+                )
+        );
+    }
+
+    /**
+     * Asynchronous variant of
+     * {@link OpenFinanceData#getPriceSeries(String, String, String)}.
+     *
+     * @param symbol the asset ticker symbol
+     * @param range time range of the historical data
+     * @param interval data interval
+     * @return future completed with the historical prices
+     */
+    public CompletableFuture<PriceSeries> getPriceSeries(
+            String symbol,
+            String range,
+            String interval
+    ) {
+        return getPriceSeries(symbol, range, interval, false);
+    }
+
+    /**
+     * Asynchronous variant of
+     * {@link OpenFinanceData#getPriceSeries(String, String, String, boolean)}.
+     *
+     * @param symbol the asset ticker symbol
+     * @param range time range of the historical data
+     * @param interval data interval
+     * @param retainRaw whether the raw chart payload is kept
+     * @return future completed with the historical prices
+     */
+    public CompletableFuture<PriceSeries> getPriceSeries(
+            String symbol,
+            String range,
+            String interval,
+            boolean retainRaw
+    ) {
+        return requestCoordinator.requestPriceSeriesAsync(
+                symbol,
+                Map.of(
+                        "range", range,
+                        "interval", interval
+                ),
+                retainRaw
+        );
+    }
+
+    /**
+     * Asynchronous variant of
+     * {@link OpenFinanceData#getStoredHistory(String, String, String)}.
+     *
+     * @param symbol the asset ticker symbol
+     * @param range time range downloaded when nothing is stored yet
+     * @param interval data interval
+     * @return future completed with the stored bars
+     */
+    public CompletableFuture<StoredBars> getStoredHistory(
+            String symbol,
+            String range,
+            String interval
+    ) {
+        return requestCoordinator.requestStoredHistoryAsync(symbol, range, interval);
+    }
+
+    /**
+     * Asynchronous variant of
+     * {@link OpenFinanceData#syncHistory(String, String, PriceSeries)}.
+     *
+     * @param symbol the asset ticker symbol
+     * @param interval data interval of {@code current}
+     * @param current series already held (not empty)
+     * @return future completed with the merged series and what changed
+     */
+    public CompletableFuture<HistorySyncResult> syncHistory(
+            String symbol,
+            String interval,
+            PriceSeries current
+    ) {
+        return requestCoordinator.requestHistorySyncAsync(symbol, interval, current);
+    }
+
+    // =================================================
+    // SEARCH
+    // =================================================
+
+    /**
+     * Asynchronous variant of {@link OpenFinanceData#search(String)}.
+     *
+     * @param query search term (e.g. "Apple", "Tesla")
+     * @return future completed with search results
+     */
+    public CompletableFuture<JsonNode> search(String query) {
+        return requestCoordinator.requestCoordinatorAsync(
+                null,
+                YahooApiType.SEARCH,
+                Map.of("query", query)
+        );
+    }
+}
@@ -0,0 +1,195 @@
+package com.openfinancedatalib.bulk;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Executes a blocking operation for many symbols concurrently
+ * using virtual threads.
+ *
+ * <p>
+ * Typical usage is fanning out {@link com.openfinancedatalib.OpenFinanceData}
+ * calls over an entire index:
+ * <pre>
+ * OpenFinanceData api = new OpenFinanceData();
+ * BulkExecutor bulk = new BulkExecutor(16);
+ *
+ * bulk.execute(symbols, api::getFundamentals, result -&gt; {
+ *     if (result.isSuccess()) {
+ *         store(result.getSymbol(), result.getValue());
+ *     }
+ * });
+ * </pre>
+ *
+ * <p>
+ * Design notes:
+ * <ul>
+ *   <li>Each symbol runs on its own virtual thread, so blocking HTTP
+ *       calls do not pin platform threads</li>
+ *   <li>Concurrency is bounded by a {@link Semaphore} shared by every
+ *       execution of this instance (global limit)</li>
+ *   <li>Failures are captured per symbol in {@link BulkResult} and do
+ *       not abort the remaining symbols</li>
+ *   <li>The operation should be bound to a single, shared
+ *       {@code OpenFinanceData} instance, so all virtual threads reuse
+ *       the same Yahoo session (cookies and crumb)</li>
+ * </ul>
+ */
+public class BulkExecutor {
+
+    /**
+     * Limits how many operations run at the same time
+     * across all executions of this instance.
+     */
+    private final Semaphore permits;
+
+    /**
+     * Creates a new {@code BulkExecutor}.
+     *
+     * @param maxConcurrency maximum number of operations running at once
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     */
+    public BulkExecutor(int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * Runs the operation for every symbol and returns all results.
+     *
+     * <p>
+     * Blocks until every symbol has completed.
+     *
+     * @param symbols symbols to process
+     * @param operation blocking operation applied to each symbol
+     * @param <T> type returned by the operation
+     * @return results in completion order
+     */
+    public <T> List<BulkResult<T>> execute(
+            Collection<String> symbols,
+            Function<String, ? extends T> operation) {
+
+        List<BulkResult<T>> results = new ArrayList<>(symbols.size());
+        this.<T>execute(symbols, operation, results::add);
+        return results;
+    }
+
+    /**
+     * Runs the operation for every symbol, publishing each result
+     * as soon as it completes.
+     *
+     * <p>
+     * The callback is always invoked from the calling thread, one
+     * result at a time, so it does not need to be thread-safe.
+     * This method returns once every symbol has been published.
+     *
+     * <p>
+     * If the calling thread is interrupted, or the callback throws,
+     * the remaining operations are cancelled.
+     *
+     * @param symbols symbols to process
+     * @param operation blocking operation applied to each symbol
+     * @param onResult callback receiving each result
+     * @param <T> type returned by the operation
+     *
+     * @throws RuntimeException if the calling thread is interrupted
+     */
+    public <T> void execute(
+            Collection<String> symbols,
+            Function<String, ? extends T> operation,
+            Consumer<? super BulkResult<T>> onResult) {
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        try {
+            CompletionService<BulkResult<T>> completion =
+                    new ExecutorCompletionService<>(executor);
+
+            int submitted = 0;
+            for (String symbol : symbols) {
+                completion.submit(() -> run(symbol, operation));
+                submitted++;
+            }
+
+            // Publish results in completion order
+            for (int i = 0; i < submitted; i++) {
+                onResult.accept(completion.take().get());
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Bulk execution interrupted", e);
+
+        } catch (ExecutionException e) {
+            // run() never throws; kept for completeness
+            throw new RuntimeException("Bulk execution failed", e.getCause());
+
+        } finally {
+            // No-op when every task has completed; cancels them otherwise
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Removes blank and duplicated symbols, preserving order.
+     *
+     * <p>
+     * Shared by every multi-symbol entry point (bulk executions and
+     * multi-symbol quote requests), so that a symbol list is cleaned up
+     * the same way wherever it is sent.
+     *
+     * @param symbols asset ticker symbols ({@code null} entries allowed)
+     * @return unique, trimmed, non-blank symbols
+     */
+    public static Set<String> uniqueSymbols(Collection<String> symbols) {
+
+        Set<String> unique = new LinkedHashSet<>();
+        for (String symbol : symbols) {
+            if (symbol != null && !symbol.isBlank()) {
+                unique.add(symbol.trim());
+            }
+        }
+        return unique;
+    }
+
+    /**
+     * Runs the operation for a single symbol once a permit is available.
+     *
+     * @param symbol symbol to process
+     * @param operation operation to apply
+     * @param <T> type returned by the operation
+     * @return the symbol result, never throwing
+     */
+    private <T> BulkResult<T> run(String symbol, Function<String, ? extends T> operation) {
+
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return BulkResult.failure(symbol, e);
+        }
+
+        try {
+            return BulkResult.success(symbol, operation.apply(symbol));
+
+        } catch (RuntimeException e) {
+            return BulkResult.failure(symbol, e);
+
+        } finally {
+            permits.release();
+        }
+    }
+}
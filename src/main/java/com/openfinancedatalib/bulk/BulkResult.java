@@ -0,0 +1,94 @@
+package com.openfinancedatalib.bulk;
+
+/**
+ * Outcome of a single symbol processed by {@link BulkExecutor}.
+ *
+ * <p>
+ * Exactly one of {@link #getValue()} and {@link #getError()} is set:
+ * <ul>
+ *   <li>On success, the value returned by the operation</li>
+ *   <li>On failure, the exception thrown by the operation</li>
+ * </ul>
+ *
+ * <p>
+ * Failures are reported per symbol and never abort the remaining
+ * symbols of the bulk execution.
+ *
+ * @param <T> type returned by the bulk operation
+ */
+public final class BulkResult<T> {
+
+    /** Symbol this result belongs to */
+    private final String symbol;
+
+    /** Value returned by the operation, or {@code null} on failure */
+    private final T value;
+
+    /** Failure raised by the operation, or {@code null} on success */
+    private final Throwable error;
+
+    private BulkResult(String symbol, T value, Throwable error) {
+        this.symbol = symbol;
+        this.value = value;
+        this.error = error;
+    }
+
+    /**
+     * Creates a successful result.
+     *
+     * @param symbol the processed symbol
+     * @param value the value returned by the operation
+     * @param <T> value type
+     * @return a successful result
+     */
+    static <T> BulkResult<T> success(String symbol, T value) {
+        return new BulkResult<>(symbol, value, null);
+    }
+
+    /**
+     * Creates a failed result.
+     *
+     * @param symbol the processed symbol
+     * @param error the failure raised by the operation
+     * @param <T> value type
+     * @return a failed result
+     */
+    static <T> BulkResult<T> failure(String symbol, Throwable error) {
+        return new BulkResult<>(symbol, null, error);
+    }
+
+    /**
+     * @return the processed symbol
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * @return the value returned by the operation, or {@code null} on failure
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * @return the failure raised by the operation, or {@code null} on success
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * @return {@code true} if the operation completed without error
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess()
+                ? "BulkResult[" + symbol + ", success]"
+                : "BulkResult[" + symbol + ", failure: " + error + "]";
+    }
+}
@@ -0,0 +1,157 @@
+package com.openfinancedatalib.bulk;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.openfinancedatalib.OpenFinanceData;
+import com.openfinancedatalib.yahoo.exception.YahooUnavailableException;
+
+/**
+ * Fetches the same set of quoteSummary modules for many symbols.
+ *
+ * <p>
+ * Instead of one call per module group per symbol (e.g.
+ * {@code getFundamentals} then {@code getCalendarEvents}), the union of
+ * the requested modules is sent in a <b>single</b> quoteSummary request
+ * per symbol. The requests run concurrently through a
+ * {@link BulkExecutor}, and each symbol is published as soon as its
+ * response arrives.
+ *
+ * <p>
+ * Example:
+ * <pre>
+ * QuoteSummaryAggregator screener = new QuoteSummaryAggregator(api, new BulkExecutor(32));
+ *
+ * screener.aggregate(
+ *         symbols,
+ *         List.of("summaryDetail", "financialData", "calendarEvents", "recommendationTrend"),
+ *         result -&gt; {
+ *             if (result.isSuccess()) {
+ *                 JsonNode financialData = result.getValue().path("financialData");
+ *             }
+ *         });
+ * </pre>
+ *
+ * <p>
+ * The value of each successful {@link BulkResult} is the symbol's
+ * {@code quoteSummary.result[0]} object, keyed by module name. Modules
+ * Yahoo has no data for are absent from it.
+ */
+public class QuoteSummaryAggregator {
+
+    /** Facade sending the quoteSummary requests */
+    private final OpenFinanceData api;
+
+    /** Runs the per-symbol requests under a concurrency limit */
+    private final BulkExecutor bulk;
+
+    /**
+     * Creates a new {@code QuoteSummaryAggregator}.
+     *
+     * @param api facade sending the requests (shared, so every request
+     *            reuses its sessions, cache and rate limits)
+     * @param bulk executor bounding the number of concurrent requests
+     */
+    public QuoteSummaryAggregator(OpenFinanceData api, BulkExecutor bulk) {
+        this.api = api;
+        this.bulk = bulk;
+    }
+
+    /**
+     * Fetches the modules of every symbol and returns all results.
+     *
+     * <p>
+     * Blocks until every symbol has completed.
+     *
+     * @param symbols symbols to process (blank and duplicated symbols
+     *                are skipped)
+     * @param modules quoteSummary modules to fetch for each symbol
+     * @return results in completion order
+     * @throws IllegalArgumentException if no module is given
+     */
+    public List<BulkResult<JsonNode>> aggregate(
+            Collection<String> symbols,
+            Collection<String> modules) {
+
+        String merged = mergeModules(modules);
+        return bulk.execute(BulkExecutor.uniqueSymbols(symbols), symbol -> fetch(symbol, merged));
+    }
+
+    /**
+     * Fetches the modules of every symbol, publishing each result as
+     * soon as it arrives.
+     *
+     * <p>
+     * The callback is invoked from the calling thread, one result at a
+     * time (see {@link BulkExecutor#execute(Collection, java.util.function.Function, Consumer)}).
+     *
+     * @param symbols symbols to process (blank and duplicated symbols
+     *                are skipped)
+     * @param modules quoteSummary modules to fetch for each symbol
+     * @param onResult callback receiving each result
+     * @throws IllegalArgumentException if no module is given
+     */
+    public void aggregate(
+            Collection<String> symbols,
+            Collection<String> modules,
+            Consumer<? super BulkResult<JsonNode>> onResult) {
+
+        String merged = mergeModules(modules);
+        bulk.execute(BulkExecutor.uniqueSymbols(symbols), symbol -> fetch(symbol, merged), onResult);
+    }
+
+    /**
+     * Builds the {@code modules} parameter from a union of module names.
+     *
+     * <p>
+     * Entries may themselves be comma-separated lists; names are
+     * trimmed and duplicates removed, keeping the first occurrence.
+     *
+     * @param modules module names
+     * @return comma-separated module list
+     * @throws IllegalArgumentException if no module is given
+     */
+    static String mergeModules(Collection<String> modules) {
+        Set<String> unique = new LinkedHashSet<>();
+
+        for (String entry : modules) {
+            for (String module : entry.split(",")) {
+                if (!module.isBlank()) {
+                    unique.add(module.trim());
+                }
+            }
+        }
+
+        if (unique.isEmpty()) {
+            throw new IllegalArgumentException("At least one quoteSummary module is required");
+        }
+
+        return String.join(",", unique);
+    }
+
+    /**
+     * Sends the merged quoteSummary request of one symbol.
+     *
+     * @param symbol asset ticker symbol
+     * @param modules comma-separated module list
+     * @return the symbol's modules, keyed by module name
+     * @throws YahooUnavailableException if Yahoo returns no result
+     */
+    private JsonNode fetch(String symbol, String modules) {
+        JsonNode result = api.getQuoteSummary(symbol, Map.of("modules", modules))
+                .path("quoteSummary")
+                .path("result")
+                .path(0);
+
+        if (!result.isObject()) {
+            throw new YahooUnavailableException("Empty quoteSummary result for " + symbol);
+        }
+
+        return result;
+    }
+}
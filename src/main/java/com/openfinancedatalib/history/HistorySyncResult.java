@@ -0,0 +1,191 @@
+package com.openfinancedatalib.history;
+
+import java.util.Arrays;
+
+/**
+ * Outcome of an incremental history sync.
+ *
+ * <p>
+ * A sync downloads only the bars from the last bar already held to now,
+ * and merges them into the held series:
+ * <ul>
+ *   <li>Bars of older intervals than the last held bar are ignored</li>
+ *   <li>The bar of the same interval as the last held bar replaces it
+ *       (it may have been captured while still in progress)</li>
+ *   <li>Newer bars are appended</li>
+ * </ul>
+ *
+ * <p>
+ * Bars are matched by interval bucket, not by timestamp: while a bar is
+ * in progress Yahoo stamps it with the last trade time, and once complete
+ * with the start of the interval (e.g. the session open for {@code 1d}).
+ */
+public final class HistorySyncResult {
+
+    /** Held series with the downloaded bars merged in */
+    private final PriceSeries series;
+
+    /** Downloaded bars from the last held bar onwards */
+    private final PriceSeries delta;
+
+    /** Number of bars appended after the last held bar */
+    private final int addedBars;
+
+    /** Whether the values of the last held bar changed */
+    private final boolean lastBarUpdated;
+
+    private HistorySyncResult(
+            PriceSeries series,
+            PriceSeries delta,
+            int addedBars,
+            boolean lastBarUpdated) {
+        this.series = series;
+        this.delta = delta;
+        this.addedBars = addedBars;
+        this.lastBarUpdated = lastBarUpdated;
+    }
+
+    /**
+     * Merges freshly downloaded bars into the held series.
+     *
+     * @param current held series (not empty)
+     * @param fetched bars downloaded from the last held bar to now
+     * @return sync outcome
+     */
+    public static HistorySyncResult merge(PriceSeries current, PriceSeries fetched) {
+
+        int size = current.size();
+        long last = current.getTimestamps()[size - 1];
+        long[] timestamps = fetched.getTimestamps();
+        long length = PriceSeries.intervalSeconds(
+                current.getInterval() != null ? current.getInterval() : fetched.getInterval());
+
+        // Skip bars already held (Yahoo may return a few before period1),
+        // except the one whose interval holds the last held bar
+        int first = 0;
+        while (first < timestamps.length && timestamps[first] <= last) {
+            first++;
+        }
+        if (first > 0 && last - timestamps[first - 1] < length) {
+            first--;
+        }
+
+        PriceSeries delta = slice(fetched, first, timestamps.length);
+
+        boolean replacesLast = !delta.isEmpty() && delta.getTimestamps()[0] <= last;
+        boolean lastBarUpdated = replacesLast
+                && (delta.getTimestamps()[0] != last || !sameBar(current, size - 1, delta, 0));
+        int kept = replacesLast ? size - 1 : size;
+        int addedBars = delta.size() - (replacesLast ? 1 : 0);
+
+        if (addedBars == 0 && !lastBarUpdated) {
+            return new HistorySyncResult(current, delta, 0, false);
+        }
+
+        PriceSeries merged = new PriceSeries(
+                current.getSymbol(),
+                fetched.getCurrency() != null ? fetched.getCurrency() : current.getCurrency(),
+                fetched.getTimezone() != null ? fetched.getTimezone() : current.getTimezone(),
+                current.getInterval(),
+                concat(current.getTimestamps(), kept, delta.getTimestamps()),
+                concat(current.getOpen(), kept, delta.getOpen()),
+                concat(current.getHigh(), kept, delta.getHigh()),
+                concat(current.getLow(), kept, delta.getLow()),
+                concat(current.getClose(), kept, delta.getClose()),
+                concat(current.getAdjClose(), kept, delta.getAdjClose()),
+                concat(current.getVolume(), kept, delta.getVolume()),
+                null);
+
+        return new HistorySyncResult(merged, delta, addedBars, lastBarUpdated);
+    }
+
+    /**
+     * @return held series with the downloaded bars merged in (the held
+     *         series itself when nothing changed)
+     */
+    public PriceSeries getSeries() {
+        return series;
+    }
+
+    /**
+     * @return downloaded bars from the interval of the last held bar
+     *         onwards
+     */
+    public PriceSeries getDelta() {
+        return delta;
+    }
+
+    /**
+     * @return number of bars appended after the last held bar
+     */
+    public int getAddedBars() {
+        return addedBars;
+    }
+
+    /**
+     * @return {@code true} if the values of the last held bar changed
+     */
+    public boolean isLastBarUpdated() {
+        return lastBarUpdated;
+    }
+
+    /**
+     * @return {@code true} if the sync added or updated any bar
+     */
+    public boolean hasChanges() {
+        return addedBars > 0 || lastBarUpdated;
+    }
+
+    @Override
+    public String toString() {
+        return "HistorySyncResult[" + series.getSymbol()
+                + ", added=" + addedBars
+                + ", lastBarUpdated=" + lastBarUpdated + "]";
+    }
+
+    /**
+     * @return bars {@code [from, to)} of {@code series}
+     */
+    private static PriceSeries slice(PriceSeries series, int from, int to) {
+        if (from == 0 && to == series.size()) {
+            return series;
+        }
+        return new PriceSeries(
+                series.getSymbol(),
+                series.getCurrency(),
+                series.getTimezone(),
+                series.getInterval(),
+                Arrays.copyOfRange(series.getTimestamps(), from, to),
+                Arrays.copyOfRange(series.getOpen(), from, to),
+                Arrays.copyOfRange(series.getHigh(), from, to),
+                Arrays.copyOfRange(series.getLow(), from, to),
+                Arrays.copyOfRange(series.getClose(), from, to),
+                Arrays.copyOfRange(series.getAdjClose(), from, to),
+                Arrays.copyOfRange(series.getVolume(), from, to),
+                null);
+    }
+
+    /**
+     * @return whether bar {@code i} of {@code a} equals bar {@code j} of {@code b}
+     */
+    private static boolean sameBar(PriceSeries a, int i, PriceSeries b, int j) {
+        return Double.compare(a.getOpen()[i], b.getOpen()[j]) == 0
+                && Double.compare(a.getHigh()[i], b.getHigh()[j]) == 0
+                && Double.compare(a.getLow()[i], b.getLow()[j]) == 0
+                && Double.compare(a.getClose()[i], b.getClose()[j]) == 0
+                && Double.compare(a.getAdjClose()[i], b.getAdjClose()[j]) == 0
+                && a.getVolume()[i] == b.getVolume()[j];
+    }
+
+    private static long[] concat(long[] head, int kept, long[] tail) {
+        long[] values = Arrays.copyOf(head, kept + tail.length);
+        System.arraycopy(tail, 0, values, kept, tail.length);
+        return values;
+    }
+
+    private static double[] concat(double[] head, int kept, double[] tail) {
+        double[] values = Arrays.copyOf(head, kept + tail.length);
+        System.arraycopy(tail, 0, values, kept, tail.length);
+        return values;
+    }
+}
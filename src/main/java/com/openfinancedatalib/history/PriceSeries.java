@@ -0,0 +1,262 @@
+package com.openfinancedatalib.history;
+
+import java.util.Optional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Historical price series stored as primitive columns.
+ *
+ * <p>
+ * Each bar {@code i} is described by the values at index {@code i} of
+ * every column:
+ * <ul>
+ *   <li>{@link #getTimestamps()} – bar start, in epoch seconds</li>
+ *   <li>{@link #getOpen()}, {@link #getHigh()}, {@link #getLow()},
+ *       {@link #getClose()}, {@link #getAdjClose()} – prices</li>
+ *   <li>{@link #getVolume()} – traded volume</li>
+ * </ul>
+ *
+ * <p>
+ * Compared to the raw chart {@link JsonNode}, where every value is a
+ * boxed node inside an array node, the columns use an order of magnitude
+ * less memory, which matters when many series are kept resident.
+ *
+ * <p>
+ * Missing values (Yahoo returns {@code null} for bars without trades)
+ * are represented as {@link Double#NaN} in the price columns and
+ * {@code 0} in the volume column. The adjusted close column is filled
+ * with {@link Double#NaN} when Yahoo does not provide it (intraday
+ * intervals).
+ *
+ * <p>
+ * Column arrays are returned without copying and must not be modified.
+ */
+public final class PriceSeries {
+
+    /** Symbol reported by Yahoo */
+    private final String symbol;
+
+    /** Trading currency, or {@code null} if unknown */
+    private final String currency;
+
+    /** Exchange time zone name, or {@code null} if unknown */
+    private final String timezone;
+
+    /** Bar interval (e.g. {@code 1d}), or {@code null} if unknown */
+    private final String interval;
+
+    private final long[] timestamps;
+    private final double[] open;
+    private final double[] high;
+    private final double[] low;
+    private final double[] close;
+    private final double[] adjClose;
+    private final long[] volume;
+
+    /** Raw chart payload, or {@code null} if not retained */
+    private final JsonNode raw;
+
+    /**
+     * Creates a new {@code PriceSeries}.
+     *
+     * <p>
+     * The arrays are used as given (not copied).
+     *
+     * @param symbol     symbol
+     * @param currency   trading currency, or {@code null}
+     * @param timezone   exchange time zone name, or {@code null}
+     * @param interval   bar interval, or {@code null}
+     * @param timestamps bar start times in epoch seconds, ascending
+     * @param open       open prices
+     * @param high       high prices
+     * @param low        low prices
+     * @param close      close prices
+     * @param adjClose   adjusted close prices
+     * @param volume     volumes
+     * @param raw        raw chart payload, or {@code null}
+     *
+     * @throws IllegalArgumentException if the columns differ in length
+     */
+    public PriceSeries(
+            String symbol,
+            String currency,
+            String timezone,
+            String interval,
+            long[] timestamps,
+            double[] open,
+            double[] high,
+            double[] low,
+            double[] close,
+            double[] adjClose,
+            long[] volume,
+            JsonNode raw) {
+
+        int size = timestamps.length;
+        if (open.length != size || high.length != size || low.length != size
+                || close.length != size || adjClose.length != size
+                || volume.length != size) {
+            throw new IllegalArgumentException("All columns must have " + size + " values");
+        }
+
+        this.symbol = symbol;
+        this.currency = currency;
+        this.timezone = timezone;
+        this.interval = interval;
+        this.timestamps = timestamps;
+        this.open = open;
+        this.high = high;
+        this.low = low;
+        this.close = close;
+        this.adjClose = adjClose;
+        this.volume = volume;
+        this.raw = raw;
+    }
+
+    /**
+     * @return number of bars
+     */
+    public int size() {
+        return timestamps.length;
+    }
+
+    /**
+     * @return {@code true} if the series has no bars
+     */
+    public boolean isEmpty() {
+        return timestamps.length == 0;
+    }
+
+    /**
+     * @return symbol reported by Yahoo
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * @return trading currency, or {@code null} if unknown
+     */
+    public String getCurrency() {
+        return currency;
+    }
+
+    /**
+     * @return exchange time zone name (e.g. {@code America/New_York}),
+     *         or {@code null} if unknown
+     */
+    public String getTimezone() {
+        return timezone;
+    }
+
+    /**
+     * @return bar interval (e.g. {@code 1d}), or {@code null} if unknown
+     */
+    public String getInterval() {
+        return interval;
+    }
+
+    /**
+     * @return bar start times in epoch seconds, ascending
+     */
+    public long[] getTimestamps() {
+        return timestamps;
+    }
+
+    /**
+     * @return open prices ({@code NaN} when missing)
+     */
+    public double[] getOpen() {
+        return open;
+    }
+
+    /**
+     * @return high prices ({@code NaN} when missing)
+     */
+    public double[] getHigh() {
+        return high;
+    }
+
+    /**
+     * @return low prices ({@code NaN} when missing)
+     */
+    public double[] getLow() {
+        return low;
+    }
+
+    /**
+     * @return close prices ({@code NaN} when missing)
+     */
+    public double[] getClose() {
+        return close;
+    }
+
+    /**
+     * @return adjusted close prices ({@code NaN} when missing)
+     */
+    public double[] getAdjClose() {
+        return adjClose;
+    }
+
+    /**
+     * @return volumes ({@code 0} when missing)
+     */
+    public long[] getVolume() {
+        return volume;
+    }
+
+    /**
+     * Returns the raw chart payload this series was decoded from.
+     *
+     * <p>
+     * Only available when it was requested explicitly; otherwise the
+     * payload is decoded while streamed and never held in memory.
+     *
+     * @return raw chart payload, if retained
+     */
+    public Optional<JsonNode> getRaw() {
+        return Optional.ofNullable(raw);
+    }
+
+    /**
+     * Returns the length of a bar interval.
+     *
+     * <p>
+     * A bar covers {@code [timestamp, timestamp + length)}; months count
+     * as 31 days, the longest bucket they can span.
+     *
+     * @param interval Yahoo interval (e.g. {@code 5m}, {@code 1d},
+     *                 {@code 1wk}, {@code 3mo}), or {@code null}
+     * @return interval length in seconds, or {@code 1} (exact timestamp
+     *         match) if unknown
+     */
+    public static long intervalSeconds(String interval) {
+        if (interval == null) {
+            return 1;
+        }
+
+        int digits = 0;
+        while (digits < interval.length() && Character.isDigit(interval.charAt(digits))) {
+            digits++;
+        }
+        if (digits == 0 || digits > 6) {
+            return 1;
+        }
+
+        long count = Long.parseLong(interval.substring(0, digits));
+        long unit = switch (interval.substring(digits)) {
+            case "m" -> 60;
+            case "h" -> 3_600;
+            case "d" -> 86_400;
+            case "wk" -> 7 * 86_400;
+            case "mo" -> 31 * 86_400;
+            default -> 0;
+        };
+        return unit == 0 ? 1 : count * unit;
+    }
+
+    @Override
+    public String toString() {
+        return "PriceSeries[" + symbol + ", " + interval + ", " + size() + " bars]";
+    }
+}
@@ -0,0 +1,272 @@
+package com.openfinancedatalib.history.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.openfinancedatalib.history.PriceSeries;
+
+/**
+ * Append-only, memory-mapped file of fixed-width bars for one
+ * symbol/interval pair.
+ *
+ * <p>
+ * Layout (big-endian):
+ * <pre>
+ * header  (16 bytes): magic (int) | version (int) | bar count (long)
+ * record  (56 bytes): timestamp (long) | open | high | low | close | adjClose (double) | volume (long)
+ * </pre>
+ *
+ * <p>
+ * The file is mapped larger than its content and the mapping grows
+ * geometrically; the bar count in the header is the source of truth.
+ * New records are forced to disk before the count that publishes them
+ * is written (and forced in turn), so a crash never exposes a partially
+ * written bar.
+ *
+ * <p>
+ * Bars are kept in ascending timestamp order. The only in-place update
+ * allowed is replacing the last bar, which is how a bar that was still
+ * in progress at the previous sync gets its final values (and possibly
+ * an earlier timestamp, see {@link #append}). The bar is
+ * first withdrawn from the count, then rewritten and published again:
+ * a crash in between loses it (the next sync downloads it again) but
+ * never leaves it half overwritten.
+ *
+ * <p>
+ * Once closed, the file rejects every operation with a
+ * {@link ClosedChannelException}; views already created stay readable.
+ */
+final class BarFile implements Closeable {
+
+    /** File signature: "OFDB" */
+    private static final int MAGIC = 0x4F464442;
+
+    private static final int VERSION = 1;
+
+    static final int HEADER_SIZE = 16;
+
+    static final int RECORD_SIZE = 56;
+
+    /** Offset of the bar count in the header */
+    private static final int COUNT_OFFSET = 8;
+
+    /** Bars reserved when a file is created */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /** Marker returned when the file holds no bars */
+    static final long NO_BARS = Long.MIN_VALUE;
+
+    private final Path path;
+
+    private final FileChannel channel;
+
+    /** Current mapping (replaced when the file grows) */
+    private MappedByteBuffer buffer;
+
+    /** Number of bars stored */
+    private int count;
+
+    /**
+     * Opens (or creates) a bar file.
+     *
+     * @param path file location
+     * @throws IOException if the file cannot be opened or is not a bar file
+     */
+    BarFile(Path path) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+
+        try {
+            long size = channel.size();
+
+            buffer = channel.map(
+                    FileChannel.MapMode.READ_WRITE,
+                    0,
+                    Math.max(size, HEADER_SIZE + (long) INITIAL_CAPACITY * RECORD_SIZE));
+
+            if (size == 0) {
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(4, VERSION);
+                buffer.putLong(COUNT_OFFSET, 0);
+                buffer.force(0, HEADER_SIZE);
+            } else if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("Not a bar store file: " + path);
+            }
+
+            count = Math.toIntExact(buffer.getLong(COUNT_OFFSET));
+
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return timestamp of the last stored bar, or {@link #NO_BARS}
+     * @throws ClosedChannelException if the file is closed
+     */
+    synchronized long lastTimestamp() throws IOException {
+        ensureOpen();
+        return count == 0 ? NO_BARS : buffer.getLong(offset(count - 1));
+    }
+
+    /**
+     * Appends the bars of {@code series} that are newer than the stored ones.
+     *
+     * <p>
+     * The bar whose interval holds the last stored bar replaces it:
+     * Yahoo stamps a bar in progress with its last trade time, and the
+     * completed bar with the (earlier) start of its interval. Older bars
+     * are ignored.
+     *
+     * @param series bars to append, in ascending timestamp order
+     * @param interval bar interval (e.g. {@code 1d}), or {@code null} to
+     *                 replace only a bar with the same timestamp
+     * @return number of bars written (appended or replaced)
+     * @throws ClosedChannelException if the file is closed
+     * @throws IOException if the file cannot be grown
+     */
+    synchronized int append(PriceSeries series, String interval) throws IOException {
+
+        long last = lastTimestamp();
+        long[] timestamps = series.getTimestamps();
+
+        // Skip stored bars, except the one whose interval holds the last bar
+        int first = 0;
+        while (first < timestamps.length && timestamps[first] <= last) {
+            first++;
+        }
+        if (first > 0 && last - timestamps[first - 1] < PriceSeries.intervalSeconds(interval)) {
+            first--;
+        }
+
+        if (first == timestamps.length) {
+            return 0;
+        }
+
+        // Replace the last bar (it may have been in progress)
+        int target = count;
+        if (timestamps[first] <= last) {
+            target = count - 1;
+        }
+
+        int written = timestamps.length - first;
+        ensureCapacity(target + written);
+
+        if (target < count) {
+            // Withdraw the last bar before overwriting it
+            publish(target);
+        }
+
+        for (int i = first; i < timestamps.length; i++) {
+            write(target + i - first, series, i);
+        }
+        buffer.force(offset(target), written * RECORD_SIZE);
+
+        publish(target + written);
+
+        return written;
+    }
+
+    /**
+     * Returns a read-only, zero-copy view of the stored bars.
+     *
+     * @param symbol symbol reported by the view
+     * @param interval interval reported by the view
+     * @return view of the bars stored at the time of the call
+     * @throws ClosedChannelException if the file is closed
+     */
+    synchronized StoredBars read(String symbol, String interval) throws IOException {
+        ensureOpen();
+        ByteBuffer bars = buffer
+                .slice(HEADER_SIZE, count * RECORD_SIZE)
+                .asReadOnlyBuffer();
+
+        return new StoredBars(symbol, interval, bars, count);
+    }
+
+    /**
+     * @return whether the file is still open
+     */
+    boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Writes and forces the bar count.
+     *
+     * @param bars number of bars the file now holds
+     */
+    private void publish(int bars) {
+        count = bars;
+        buffer.putLong(COUNT_OFFSET, bars);
+        buffer.force(COUNT_OFFSET, Long.BYTES);
+    }
+
+    private void ensureOpen() throws ClosedChannelException {
+        if (!channel.isOpen()) {
+            throw new ClosedChannelException();
+        }
+    }
+
+    /**
+     * Writes bar {@code source} of {@code series} at record {@code index}.
+     */
+    private void write(int index, PriceSeries series, int source) {
+        int offset = offset(index);
+
+        buffer.putLong(offset, series.getTimestamps()[source]);
+        buffer.putDouble(offset + 8, series.getOpen()[source]);
+        buffer.putDouble(offset + 16, series.getHigh()[source]);
+        buffer.putDouble(offset + 24, series.getLow()[source]);
+        buffer.putDouble(offset + 32, series.getClose()[source]);
+        buffer.putDouble(offset + 40, series.getAdjClose()[source]);
+        buffer.putLong(offset + 48, series.getVolume()[source]);
+    }
+
+    /**
+     * Grows the mapping so that it can hold {@code bars} records.
+     *
+     * <p>
+     * Views created before the growth keep the previous mapping, which
+     * stays valid.
+     */
+    private void ensureCapacity(int bars) throws IOException {
+        long required = HEADER_SIZE + (long) bars * RECORD_SIZE;
+        if (required <= buffer.capacity()) {
+            return;
+        }
+
+        long capacity = Math.max(required, 2L * buffer.capacity());
+        if (capacity > Integer.MAX_VALUE) {
+            capacity = required;
+        }
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IOException("Bar store file is full: " + path);
+        }
+
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+
+    /**
+     * @return byte offset of record {@code index}
+     */
+    private static int offset(int index) {
+        return HEADER_SIZE + index * RECORD_SIZE;
+    }
+}
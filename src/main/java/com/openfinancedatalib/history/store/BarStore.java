@@ -0,0 +1,253 @@
+package com.openfinancedatalib.history.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+
+import com.openfinancedatalib.history.PriceSeries;
+
+/**
+ * Persistent local store of historical bars.
+ *
+ * <p>
+ * Each symbol/interval pair is kept in its own append-only file of
+ * fixed-width records ({@code <SYMBOL>_<interval>.bars}), memory-mapped
+ * so that the data lives outside the Java heap and is read without
+ * copying (see {@link StoredBars}).
+ *
+ * <p>
+ * The store only persists bars; deciding which bars to download is the
+ * responsibility of the caller (typically everything newer than
+ * {@link #lastTimestamp(String, String)}).
+ *
+ * <p>
+ * Files are opened on first use and at most {@code maxOpenFiles} are
+ * kept open: the least recently used one is closed (and unmapped once
+ * no view references it) when another file has to be opened.
+ *
+ * <p>
+ * This class is thread-safe. A directory must not be shared by several
+ * store instances (in the same or in different processes) at once.
+ */
+public final class BarStore implements Closeable {
+
+    /** Returned by {@link #lastTimestamp} when no bar is stored */
+    public static final long NO_BARS = BarFile.NO_BARS;
+
+    /** Files kept open by default */
+    public static final int DEFAULT_MAX_OPEN_FILES = 64;
+
+    private static final String EXTENSION = ".bars";
+
+    private final Path directory;
+
+    private final int maxOpenFiles;
+
+    /** Open files, keyed by file name, in access order (guarded by itself) */
+    private final LinkedHashMap<String, BarFile> files = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Creates a store backed by {@code directory}, keeping at most
+     * {@value #DEFAULT_MAX_OPEN_FILES} files open.
+     *
+     * @param directory store directory (created if missing)
+     * @throws RuntimeException if the directory cannot be created
+     */
+    public BarStore(Path directory) {
+        this(directory, DEFAULT_MAX_OPEN_FILES);
+    }
+
+    /**
+     * Creates a store backed by {@code directory}.
+     *
+     * @param directory store directory (created if missing)
+     * @param maxOpenFiles number of files kept open at once
+     * @throws IllegalArgumentException if {@code maxOpenFiles} is less than 1
+     * @throws RuntimeException if the directory cannot be created
+     */
+    public BarStore(Path directory, int maxOpenFiles) {
+        if (maxOpenFiles < 1) {
+            throw new IllegalArgumentException("maxOpenFiles must be at least 1");
+        }
+        this.maxOpenFiles = maxOpenFiles;
+
+        try {
+            this.directory = Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to create bar store directory " + directory, e);
+        }
+    }
+
+    /**
+     * Returns the timestamp of the most recent stored bar.
+     *
+     * @param symbol asset ticker symbol
+     * @param interval bar interval (e.g. {@code 1d})
+     * @return epoch seconds of the last bar, or {@link #NO_BARS}
+     */
+    public long lastTimestamp(String symbol, String interval) {
+        try {
+            return withFile(symbol, interval, BarFile::lastTimestamp);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read bars for " + symbol, e);
+        }
+    }
+
+    /**
+     * Appends the bars of {@code series} newer than the stored ones.
+     *
+     * <p>
+     * The bar whose interval holds the last stored bar replaces it (the
+     * stored bar may have been captured while still in progress, stamped
+     * with its last trade time); older bars are ignored.
+     *
+     * @param symbol asset ticker symbol
+     * @param interval bar interval
+     * @param series bars in ascending timestamp order
+     * @return number of bars written
+     * @throws RuntimeException if the store file cannot be written
+     */
+    public int append(String symbol, String interval, PriceSeries series) {
+        try {
+            return withFile(symbol, interval, file -> file.append(series, interval));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to append bars for " + symbol, e);
+        }
+    }
+
+    /**
+     * Returns a zero-copy view of the stored bars.
+     *
+     * @param symbol asset ticker symbol
+     * @param interval bar interval
+     * @return stored bars (empty if none)
+     */
+    public StoredBars read(String symbol, String interval) {
+        try {
+            return withFile(symbol, interval, file -> file.read(normalize(symbol), interval));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read bars for " + symbol, e);
+        }
+    }
+
+    /**
+     * Closes every open store file.
+     *
+     * @throws IOException if a file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+
+        synchronized (files) {
+            for (BarFile file : files.values()) {
+                try {
+                    file.close();
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+            files.clear();
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Runs an operation on the file of a symbol/interval pair.
+     *
+     * <p>
+     * A file evicted (and closed) by another thread between the lookup
+     * and the operation is opened again.
+     */
+    private <T> T withFile(String symbol, String interval, FileOperation<T> operation)
+            throws IOException {
+
+        for (;;) {
+            BarFile file = file(symbol, interval);
+            try {
+                return operation.apply(file);
+
+            } catch (AsynchronousCloseException e) {
+                // Interrupted: the channel was closed under the operation
+                throw e;
+
+            } catch (ClosedChannelException e) {
+                // Evicted concurrently: reopen
+            }
+        }
+    }
+
+    /**
+     * Returns the (lazily opened) file of a symbol/interval pair, closing
+     * the least recently used file when too many are open.
+     *
+     * <p>
+     * Eviction closes the file under the lock, after any operation
+     * running on it: the same file is never open twice.
+     */
+    private BarFile file(String symbol, String interval) {
+        String name = URLEncoder.encode(normalize(symbol), StandardCharsets.UTF_8)
+                + "_" + URLEncoder.encode(interval, StandardCharsets.UTF_8)
+                + EXTENSION;
+
+        synchronized (files) {
+            BarFile file = files.get(name);
+            if (file != null && file.isOpen()) {
+                return file;
+            }
+
+            try {
+                file = new BarFile(directory.resolve(name));
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to open bar store file " + name, e);
+            }
+            files.put(name, file);
+
+            Iterator<BarFile> eldest = files.values().iterator();
+            while (files.size() > maxOpenFiles) {
+                closeQuietly(eldest.next());
+                eldest.remove();
+            }
+            return file;
+        }
+    }
+
+    private static void closeQuietly(BarFile file) {
+        try {
+            file.close();
+        } catch (IOException e) {
+            // Nothing is buffered: every write has already been forced
+        }
+    }
+
+    private static String normalize(String symbol) {
+        return symbol.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Operation run on a store file.
+     *
+     * @param <T> result type
+     */
+    @FunctionalInterface
+    private interface FileOperation<T> {
+
+        /**
+         * @param file open store file
+         * @return operation result
+         * @throws IOException if the file cannot be read or written
+         */
+        T apply(BarFile file) throws IOException;
+    }
+}
@@ -0,0 +1,166 @@
+package com.openfinancedatalib.history.store;
+
+import java.nio.ByteBuffer;
+
+import com.openfinancedatalib.history.PriceSeries;
+
+/**
+ * Read-only, zero-copy view of the bars held by a {@link BarStore}.
+ *
+ * <p>
+ * Values are read directly from the memory-mapped store file; no
+ * bar is copied onto the Java heap unless {@link #toPriceSeries()} is
+ * called. Indexes follow ascending timestamp order.
+ *
+ * <p>
+ * The view covers the bars stored when it was created. A later sync
+ * may update the last bar in place (a bar that was still in progress),
+ * which is then visible through existing views.
+ */
+public final class StoredBars {
+
+    private final String symbol;
+
+    private final String interval;
+
+    /** Mapped records, positioned at the first bar */
+    private final ByteBuffer bars;
+
+    private final int size;
+
+    StoredBars(String symbol, String interval, ByteBuffer bars, int size) {
+        this.symbol = symbol;
+        this.interval = interval;
+        this.bars = bars;
+        this.size = size;
+    }
+
+    /**
+     * @return symbol of the stored bars
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * @return bar interval (e.g. {@code 1d})
+     */
+    public String getInterval() {
+        return interval;
+    }
+
+    /**
+     * @return number of bars
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return {@code true} if no bar is stored
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param index bar index
+     * @return bar start time, in epoch seconds
+     */
+    public long getTimestamp(int index) {
+        return bars.getLong(offset(index));
+    }
+
+    /**
+     * @param index bar index
+     * @return open price ({@code NaN} when missing)
+     */
+    public double getOpen(int index) {
+        return bars.getDouble(offset(index) + 8);
+    }
+
+    /**
+     * @param index bar index
+     * @return high price ({@code NaN} when missing)
+     */
+    public double getHigh(int index) {
+        return bars.getDouble(offset(index) + 16);
+    }
+
+    /**
+     * @param index bar index
+     * @return low price ({@code NaN} when missing)
+     */
+    public double getLow(int index) {
+        return bars.getDouble(offset(index) + 24);
+    }
+
+    /**
+     * @param index bar index
+     * @return close price ({@code NaN} when missing)
+     */
+    public double getClose(int index) {
+        return bars.getDouble(offset(index) + 32);
+    }
+
+    /**
+     * @param index bar index
+     * @return adjusted close price ({@code NaN} when missing)
+     */
+    public double getAdjClose(int index) {
+        return bars.getDouble(offset(index) + 40);
+    }
+
+    /**
+     * @param index bar index
+     * @return volume ({@code 0} when missing)
+     */
+    public long getVolume(int index) {
+        return bars.getLong(offset(index) + 48);
+    }
+
+    /**
+     * Copies the bars onto the heap as a {@link PriceSeries}.
+     *
+     * @return heap copy of the stored bars
+     */
+    public PriceSeries toPriceSeries() {
+        long[] timestamps = new long[size];
+        double[] open = new double[size];
+        double[] high = new double[size];
+        double[] low = new double[size];
+        double[] close = new double[size];
+        double[] adjClose = new double[size];
+        long[] volume = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            timestamps[i] = getTimestamp(i);
+            open[i] = getOpen(i);
+            high[i] = getHigh(i);
+            low[i] = getLow(i);
+            close[i] = getClose(i);
+            adjClose[i] = getAdjClose(i);
+            volume[i] = getVolume(i);
+        }
+
+        return new PriceSeries(
+                symbol, null, null, interval,
+                timestamps, open, high, low, close, adjClose, volume,
+                null);
+    }
+
+    @Override
+    public String toString() {
+        return "StoredBars[" + symbol + ", " + interval + ", " + size + " bars]";
+    }
+
+    /**
+     * @return byte offset of bar {@code index}
+     */
+    private int offset(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Bar " + index + " out of " + size);
+        }
+        return index * BarFile.RECORD_SIZE;
+    }
+}
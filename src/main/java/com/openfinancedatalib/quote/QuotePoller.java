@@ -0,0 +1,248 @@
+package com.openfinancedatalib.quote;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.openfinancedatalib.OpenFinanceData;
+
+/**
+ * Polls the quotes of a symbol universe on a fixed schedule and
+ * publishes only what changed.
+ *
+ * <p>
+ * Each poll fetches every symbol through
+ * {@link OpenFinanceData#getQuotes(Collection)}, which packs them into
+ * multi-symbol quote requests, so the cost of a poll grows with the
+ * number of batches rather than the number of symbols. Each quote is
+ * then compared with the previous poll, and a {@link QuoteUpdate}
+ * holding the changed fields is published for every symbol that
+ * changed.
+ *
+ * <p>
+ * Updates are delivered to {@link Flow.Subscriber}s through a
+ * {@link SubmissionPublisher}, which honours each subscriber's demand:
+ * <ul>
+ *   <li>Every subscriber has a bounded buffer
+ *       ({@link Flow#defaultBufferSize()} updates)</li>
+ *   <li>When a buffer is full, the poller waits for the subscriber
+ *       before publishing further updates, and the next polls are
+ *       delayed accordingly</li>
+ * </ul>
+ *
+ * <p>
+ * Example:
+ * <pre>
+ * try (QuotePoller poller = new QuotePoller(api, symbols, Duration.ofSeconds(5))) {
+ *     poller.subscribe(subscriber);
+ *     poller.start();
+ *     ...
+ * }
+ * </pre>
+ *
+ * <p>
+ * A failed poll (e.g. rate limited) publishes nothing and is retried at
+ * the next tick; the failure is available through
+ * {@link #getLastError()}. A fatal {@link Error} stops polling and
+ * completes every subscriber exceptionally. Closing the poller stops
+ * polling and completes every subscriber.
+ */
+public class QuotePoller implements Flow.Publisher<QuoteUpdate>, AutoCloseable {
+
+    /** Facade sending the quote requests */
+    private final OpenFinanceData api;
+
+    /** Symbol universe */
+    private final List<String> symbols;
+
+    /** Time between the start of two polls */
+    private final Duration interval;
+
+    /** Delivers updates to the subscribers */
+    private final SubmissionPublisher<QuoteUpdate> publisher = new SubmissionPublisher<>();
+
+    /** Runs the polls, one at a time */
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "openfinancedata-quote-poller");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * Quote of each symbol at the previous poll.
+     * <p>
+     * Only accessed by the poller thread.
+     */
+    private final Map<String, JsonNode> snapshots = new HashMap<>();
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    /** Failure of the most recent poll, or {@code null} if it succeeded */
+    private volatile Throwable lastError;
+
+    /**
+     * Creates a new {@code QuotePoller}.
+     *
+     * <p>
+     * Polling begins on {@link #start()}.
+     *
+     * @param api facade sending the quote requests
+     * @param symbols symbols to poll
+     * @param interval time between the start of two polls
+     * @throws IllegalArgumentException if {@code symbols} is empty or
+     *                                  {@code interval} is not positive
+     */
+    public QuotePoller(OpenFinanceData api, Collection<String> symbols, Duration interval) {
+        if (symbols.isEmpty()) {
+            throw new IllegalArgumentException("At least one symbol is required");
+        }
+        if (interval.isZero() || interval.isNegative()) {
+            throw new IllegalArgumentException("Polling interval must be positive");
+        }
+
+        this.api = api;
+        this.symbols = List.copyOf(symbols);
+        this.interval = interval;
+    }
+
+    /**
+     * Subscribes to the quote updates.
+     *
+     * <p>
+     * A subscriber added after polling started receives changes from
+     * the next poll on; it does not receive the initial snapshots.
+     *
+     * @param subscriber subscriber receiving the updates
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super QuoteUpdate> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+
+    /**
+     * Starts polling: the first poll runs immediately, the next ones
+     * every {@code interval}.
+     *
+     * <p>
+     * A poll that overruns the interval delays the next one; polls
+     * never overlap. Calling this method again has no effect.
+     */
+    public void start() {
+        if (started.compareAndSet(false, true)) {
+            scheduler.scheduleAtFixedRate(this::poll, 0, interval.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Returns the failure of the most recent poll.
+     *
+     * @return the failure, or empty if the last poll succeeded
+     */
+    public Optional<Throwable> getLastError() {
+        return Optional.ofNullable(lastError);
+    }
+
+    /**
+     * Stops polling and completes every subscriber.
+     *
+     * <p>
+     * Updates already buffered are still delivered.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        publisher.close();
+    }
+
+    /**
+     * Fetches every quote and publishes the changes.
+     *
+     * <p>
+     * Never throws, so the schedule is never cancelled by a failure: the
+     * failure is recorded and the next tick polls again. An
+     * {@link Error} is fatal instead: it stops polling and completes
+     * every subscriber exceptionally.
+     */
+    private void poll() {
+        Instant polledAt = Instant.now();
+
+        try {
+            publishChanges(api.getQuotes(symbols), polledAt);
+            lastError = null;
+
+        } catch (RuntimeException e) {
+            lastError = e;
+
+        } catch (Throwable t) {
+            lastError = t;
+            scheduler.shutdown();
+            publisher.closeExceptionally(t);
+        }
+    }
+
+    /**
+     * Publishes a {@link QuoteUpdate} for every quote that changed since
+     * the previous poll.
+     *
+     * @param quotes quotes fetched by this poll, by symbol
+     * @param polledAt start of this poll
+     */
+    private void publishChanges(Map<String, JsonNode> quotes, Instant polledAt) {
+        for (Map.Entry<String, JsonNode> entry : quotes.entrySet()) {
+            String symbol = entry.getKey();
+            JsonNode quote = entry.getValue();
+            JsonNode previous = snapshots.put(symbol, quote);
+
+            Map<String, JsonNode> changes = diff(previous, quote);
+            if (changes.isEmpty() || publisher.isClosed()) {
+                continue;
+            }
+
+            // Blocks while a subscriber's buffer is full (backpressure)
+            publisher.submit(new QuoteUpdate(symbol, changes, quote, polledAt, previous == null));
+        }
+    }
+
+    /**
+     * Computes the fields of {@code current} that differ from {@code previous}.
+     *
+     * @param previous quote at the previous poll, or {@code null}
+     * @param current quote at this poll
+     * @return changed fields in {@code current} order, removed fields last
+     *         (as JSON {@code null})
+     */
+    static Map<String, JsonNode> diff(JsonNode previous, JsonNode current) {
+        Map<String, JsonNode> changes = new LinkedHashMap<>();
+
+        for (Map.Entry<String, JsonNode> field : current.properties()) {
+            JsonNode before = previous == null ? null : previous.get(field.getKey());
+            if (!field.getValue().equals(before)) {
+                changes.put(field.getKey(), field.getValue());
+            }
+        }
+
+        if (previous != null) {
+            for (Map.Entry<String, JsonNode> field : previous.properties()) {
+                if (!current.has(field.getKey())) {
+                    changes.put(field.getKey(), NullNode.getInstance());
+                }
+            }
+        }
+
+        return changes;
+    }
+}
@@ -0,0 +1,98 @@
+package com.openfinancedatalib.quote;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Changes of a single quote between two polls of a {@link QuotePoller}.
+ *
+ * <p>
+ * {@link #getChanges()} holds only the fields whose value differs from
+ * the previous poll:
+ * <ul>
+ *   <li>New or modified fields map to their current value</li>
+ *   <li>Fields no longer returned by Yahoo map to a JSON {@code null}</li>
+ * </ul>
+ * The first update of a symbol is the {@linkplain #isInitial() initial
+ * snapshot} and contains every field.
+ */
+public final class QuoteUpdate {
+
+    /** Symbol of the quote */
+    private final String symbol;
+
+    /** Changed fields, by field name */
+    private final Map<String, JsonNode> changes;
+
+    /** Full quote as returned by this poll */
+    private final JsonNode quote;
+
+    /** When the poll that produced this update started */
+    private final Instant polledAt;
+
+    /** Whether this is the first update of the symbol */
+    private final boolean initial;
+
+    QuoteUpdate(
+            String symbol,
+            Map<String, JsonNode> changes,
+            JsonNode quote,
+            Instant polledAt,
+            boolean initial) {
+        this.symbol = symbol;
+        this.changes = Collections.unmodifiableMap(changes);
+        this.quote = quote;
+        this.polledAt = polledAt;
+        this.initial = initial;
+    }
+
+    /**
+     * @return symbol of the quote
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * @return changed fields by name (JSON {@code null} for removed fields)
+     */
+    public Map<String, JsonNode> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Returns the full quote of this poll.
+     *
+     * <p>
+     * The node is shared and must be treated as read-only.
+     *
+     * @return {@code quoteResponse.result} entry of the symbol
+     */
+    public JsonNode getQuote() {
+        return quote;
+    }
+
+    /**
+     * @return when the poll that produced this update started
+     */
+    public Instant getPolledAt() {
+        return polledAt;
+    }
+
+    /**
+     * @return {@code true} for the first update of the symbol, which
+     *         contains every field
+     */
+    public boolean isInitial() {
+        return initial;
+    }
+
+    @Override
+    public String toString() {
+        return "QuoteUpdate[" + symbol + ", changes=" + changes.keySet()
+                + (initial ? ", initial" : "") + "]";
+    }
+}
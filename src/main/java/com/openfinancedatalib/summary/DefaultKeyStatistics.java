@@ -0,0 +1,221 @@
+package com.openfinancedatalib.summary;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * Typed view of the {@code defaultKeyStatistics} quoteSummary module:
+ * share counts, per-share values, enterprise multiples and ownership.
+ *
+ * <p>
+ * Ratios are fractions and dates are epoch seconds. Missing values are
+ * {@link Double#NaN} ({@code 0} for share counts and dates).
+ */
+public final class DefaultKeyStatistics {
+
+    private static final SummaryFields FIELDS = new SummaryFields();
+
+    private static final int ENTERPRISE_VALUE = FIELDS.number("enterpriseValue");
+    private static final int ENTERPRISE_TO_REVENUE = FIELDS.number("enterpriseToRevenue");
+    private static final int ENTERPRISE_TO_EBITDA = FIELDS.number("enterpriseToEbitda");
+    private static final int FORWARD_PE = FIELDS.number("forwardPE");
+    private static final int PEG_RATIO = FIELDS.number("pegRatio");
+    private static final int PRICE_TO_BOOK = FIELDS.number("priceToBook");
+    private static final int BOOK_VALUE = FIELDS.number("bookValue");
+    private static final int TRAILING_EPS = FIELDS.number("trailingEps");
+    private static final int FORWARD_EPS = FIELDS.number("forwardEps");
+    private static final int PROFIT_MARGINS = FIELDS.number("profitMargins");
+    private static final int NET_INCOME_TO_COMMON = FIELDS.number("netIncomeToCommon");
+    private static final int EARNINGS_QUARTERLY_GROWTH = FIELDS.number("earningsQuarterlyGrowth");
+    private static final int SHARES_OUTSTANDING = FIELDS.number("sharesOutstanding");
+    private static final int FLOAT_SHARES = FIELDS.number("floatShares");
+    private static final int SHARES_SHORT = FIELDS.number("sharesShort");
+    private static final int SHORT_RATIO = FIELDS.number("shortRatio");
+    private static final int SHORT_PERCENT_OF_FLOAT = FIELDS.number("shortPercentOfFloat");
+    private static final int HELD_PERCENT_INSIDERS = FIELDS.number("heldPercentInsiders");
+    private static final int HELD_PERCENT_INSTITUTIONS = FIELDS.number("heldPercentInstitutions");
+    private static final int BETA = FIELDS.number("beta");
+    private static final int FIFTY_TWO_WEEK_CHANGE = FIELDS.number("52WeekChange");
+    private static final int LAST_FISCAL_YEAR_END = FIELDS.number("lastFiscalYearEnd");
+    private static final int MOST_RECENT_QUARTER = FIELDS.number("mostRecentQuarter");
+
+    private final SummaryFields.Values values;
+
+    private DefaultKeyStatistics(SummaryFields.Values values) {
+        this.values = values;
+    }
+
+    /**
+     * Decodes the module.
+     *
+     * @param parser parser positioned on the module object
+     * @return decoded view
+     * @throws IOException if the tokens cannot be read
+     */
+    static DefaultKeyStatistics read(JsonParser parser) throws IOException {
+        return new DefaultKeyStatistics(FIELDS.read(parser));
+    }
+
+    /**
+     * @return enterprise value, or {@code NaN}
+     */
+    public double getEnterpriseValue() {
+        return values.number(ENTERPRISE_VALUE);
+    }
+
+    /**
+     * @return enterprise value to revenue, or {@code NaN}
+     */
+    public double getEnterpriseToRevenue() {
+        return values.number(ENTERPRISE_TO_REVENUE);
+    }
+
+    /**
+     * @return enterprise value to EBITDA, or {@code NaN}
+     */
+    public double getEnterpriseToEbitda() {
+        return values.number(ENTERPRISE_TO_EBITDA);
+    }
+
+    /**
+     * @return price to forward earnings, or {@code NaN}
+     */
+    public double getForwardPE() {
+        return values.number(FORWARD_PE);
+    }
+
+    /**
+     * @return price/earnings to growth ratio, or {@code NaN}
+     */
+    public double getPegRatio() {
+        return values.number(PEG_RATIO);
+    }
+
+    /**
+     * @return price to book value, or {@code NaN}
+     */
+    public double getPriceToBook() {
+        return values.number(PRICE_TO_BOOK);
+    }
+
+    /**
+     * @return book value per share, or {@code NaN}
+     */
+    public double getBookValue() {
+        return values.number(BOOK_VALUE);
+    }
+
+    /**
+     * @return trailing twelve-month earnings per share, or {@code NaN}
+     */
+    public double getTrailingEps() {
+        return values.number(TRAILING_EPS);
+    }
+
+    /**
+     * @return forward earnings per share, or {@code NaN}
+     */
+    public double getForwardEps() {
+        return values.number(FORWARD_EPS);
+    }
+
+    /**
+     * @return net profit margin, or {@code NaN}
+     */
+    public double getProfitMargins() {
+        return values.number(PROFIT_MARGINS);
+    }
+
+    /**
+     * @return net income available to common shareholders, or {@code NaN}
+     */
+    public double getNetIncomeToCommon() {
+        return values.number(NET_INCOME_TO_COMMON);
+    }
+
+    /**
+     * @return quarterly earnings growth (year over year), or {@code NaN}
+     */
+    public double getEarningsQuarterlyGrowth() {
+        return values.number(EARNINGS_QUARTERLY_GROWTH);
+    }
+
+    /**
+     * @return shares outstanding, or {@code 0}
+     */
+    public long getSharesOutstanding() {
+        return values.count(SHARES_OUTSTANDING);
+    }
+
+    /**
+     * @return float shares, or {@code 0}
+     */
+    public long getFloatShares() {
+        return values.count(FLOAT_SHARES);
+    }
+
+    /**
+     * @return shares sold short, or {@code 0}
+     */
+    public long getSharesShort() {
+        return values.count(SHARES_SHORT);
+    }
+
+    /**
+     * @return days to cover the short interest, or {@code NaN}
+     */
+    public double getShortRatio() {
+        return values.number(SHORT_RATIO);
+    }
+
+    /**
+     * @return short interest as a fraction of the float, or {@code NaN}
+     */
+    public double getShortPercentOfFloat() {
+        return values.number(SHORT_PERCENT_OF_FLOAT);
+    }
+
+    /**
+     * @return fraction of shares held by insiders, or {@code NaN}
+     */
+    public double getHeldPercentInsiders() {
+        return values.number(HELD_PERCENT_INSIDERS);
+    }
+
+    /**
+     * @return fraction of shares held by institutions, or {@code NaN}
+     */
+    public double getHeldPercentInstitutions() {
+        return values.number(HELD_PERCENT_INSTITUTIONS);
+    }
+
+    /**
+     * @return beta (5 years, monthly), or {@code NaN}
+     */
+    public double getBeta() {
+        return values.number(BETA);
+    }
+
+    /**
+     * @return price change over the last 52 weeks (Yahoo's
+     *         {@code 52WeekChange})
+     */
+    public double getFiftyTwoWeekChange() {
+        return values.number(FIFTY_TWO_WEEK_CHANGE);
+    }
+
+    /**
+     * @return end of the last fiscal year in epoch seconds, or {@code 0}
+     */
+    public long getLastFiscalYearEnd() {
+        return values.count(LAST_FISCAL_YEAR_END);
+    }
+
+    /**
+     * @return end of the most recent quarter in epoch seconds, or {@code 0}
+     */
+    public long getMostRecentQuarter() {
+        return values.count(MOST_RECENT_QUARTER);
+    }
+}
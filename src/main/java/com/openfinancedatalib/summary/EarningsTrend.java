@@ -0,0 +1,308 @@
+package com.openfinancedatalib.summary;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Typed view of the {@code earningsTrend} quoteSummary module: analyst
+ * earnings and revenue estimates for the current and next quarters and
+ * fiscal years.
+ *
+ * <p>
+ * Yahoo reports one {@link Period} per horizon, identified by
+ * {@link Period#getPeriod()}: {@code 0q} (current quarter), {@code +1q}
+ * (next quarter), {@code 0y} (current fiscal year) and {@code +1y}
+ * (next fiscal year).
+ */
+public final class EarningsTrend {
+
+    /** Estimates of each horizon, in Yahoo's order */
+    private final List<Period> periods;
+
+    private EarningsTrend(List<Period> periods) {
+        this.periods = Collections.unmodifiableList(periods);
+    }
+
+    /**
+     * Decodes the module.
+     *
+     * @param parser parser positioned on the module object
+     * @return decoded view
+     * @throws IOException if the tokens cannot be read
+     */
+    static EarningsTrend read(JsonParser parser) throws IOException {
+
+        List<Period> periods = new ArrayList<>(4);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+
+            if (parser.nextToken() != JsonToken.START_ARRAY || !"trend".equals(field)) {
+                parser.skipChildren();
+                continue;
+            }
+
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (parser.currentToken() == JsonToken.START_OBJECT) {
+                    periods.add(new Period(Period.FIELDS.read(parser)));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        return new EarningsTrend(periods);
+    }
+
+    /**
+     * @return estimates of each horizon, in Yahoo's order
+     */
+    public List<Period> getPeriods() {
+        return periods;
+    }
+
+    /**
+     * Returns the estimates of one horizon.
+     *
+     * @param period horizon, e.g. {@code 0q} or {@code +1y}
+     * @return estimates of the horizon, or empty if not reported
+     */
+    public Optional<Period> getPeriod(String period) {
+        for (Period entry : periods) {
+            if (period.equals(entry.getPeriod())) {
+                return Optional.of(entry);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public String toString() {
+        return "EarningsTrend[" + periods.size() + " periods]";
+    }
+
+    /**
+     * Estimates of one horizon.
+     *
+     * <p>
+     * Growth values are fractions. Missing values are {@link Double#NaN}
+     * ({@code 0} for counts, {@code null} for texts and dates).
+     */
+    public static final class Period {
+
+        private static final SummaryFields FIELDS = new SummaryFields();
+
+        private static final int PERIOD = FIELDS.text("period");
+        private static final int END_DATE = FIELDS.text("endDate");
+        private static final int GROWTH = FIELDS.number("growth");
+        private static final int EARNINGS_AVG = FIELDS.number("earningsEstimate.avg");
+        private static final int EARNINGS_LOW = FIELDS.number("earningsEstimate.low");
+        private static final int EARNINGS_HIGH = FIELDS.number("earningsEstimate.high");
+        private static final int YEAR_AGO_EPS = FIELDS.number("earningsEstimate.yearAgoEps");
+        private static final int EARNINGS_ANALYSTS = FIELDS.number("earningsEstimate.numberOfAnalysts");
+        private static final int EARNINGS_GROWTH = FIELDS.number("earningsEstimate.growth");
+        private static final int REVENUE_AVG = FIELDS.number("revenueEstimate.avg");
+        private static final int REVENUE_LOW = FIELDS.number("revenueEstimate.low");
+        private static final int REVENUE_HIGH = FIELDS.number("revenueEstimate.high");
+        private static final int YEAR_AGO_REVENUE = FIELDS.number("revenueEstimate.yearAgoRevenue");
+        private static final int REVENUE_ANALYSTS = FIELDS.number("revenueEstimate.numberOfAnalysts");
+        private static final int REVENUE_GROWTH = FIELDS.number("revenueEstimate.growth");
+        private static final int EPS_CURRENT = FIELDS.number("epsTrend.current");
+        private static final int EPS_7_DAYS_AGO = FIELDS.number("epsTrend.7daysAgo");
+        private static final int EPS_30_DAYS_AGO = FIELDS.number("epsTrend.30daysAgo");
+        private static final int EPS_60_DAYS_AGO = FIELDS.number("epsTrend.60daysAgo");
+        private static final int EPS_90_DAYS_AGO = FIELDS.number("epsTrend.90daysAgo");
+        private static final int UP_LAST_7_DAYS = FIELDS.number("epsRevisions.upLast7days");
+        private static final int UP_LAST_30_DAYS = FIELDS.number("epsRevisions.upLast30days");
+        private static final int DOWN_LAST_30_DAYS = FIELDS.number("epsRevisions.downLast30days");
+        private static final int DOWN_LAST_90_DAYS = FIELDS.number("epsRevisions.downLast90days");
+
+        private final SummaryFields.Values values;
+
+        private Period(SummaryFields.Values values) {
+            this.values = values;
+        }
+
+        /**
+         * @return horizon ({@code 0q}, {@code +1q}, {@code 0y} or
+         *         {@code +1y}), or {@code null}
+         */
+        public String getPeriod() {
+            return values.text(PERIOD);
+        }
+
+        /**
+         * @return last day of the horizon, or {@code null}
+         */
+        public LocalDate getEndDate() {
+            String endDate = values.text(END_DATE);
+            return endDate == null ? null : LocalDate.parse(endDate);
+        }
+
+        /**
+         * @return expected earnings growth over the horizon, or {@code NaN}
+         */
+        public double getGrowth() {
+            return values.number(GROWTH);
+        }
+
+        /**
+         * @return mean EPS estimate, or {@code NaN}
+         */
+        public double getEarningsAvg() {
+            return values.number(EARNINGS_AVG);
+        }
+
+        /**
+         * @return lowest EPS estimate, or {@code NaN}
+         */
+        public double getEarningsLow() {
+            return values.number(EARNINGS_LOW);
+        }
+
+        /**
+         * @return highest EPS estimate, or {@code NaN}
+         */
+        public double getEarningsHigh() {
+            return values.number(EARNINGS_HIGH);
+        }
+
+        /**
+         * @return EPS of the same horizon a year earlier, or {@code NaN}
+         */
+        public double getYearAgoEps() {
+            return values.number(YEAR_AGO_EPS);
+        }
+
+        /**
+         * @return number of analysts estimating EPS, or {@code 0}
+         */
+        public int getEarningsAnalysts() {
+            return (int) values.count(EARNINGS_ANALYSTS);
+        }
+
+        /**
+         * @return EPS growth implied by the mean estimate, or {@code NaN}
+         */
+        public double getEarningsGrowth() {
+            return values.number(EARNINGS_GROWTH);
+        }
+
+        /**
+         * @return mean revenue estimate, or {@code NaN}
+         */
+        public double getRevenueAvg() {
+            return values.number(REVENUE_AVG);
+        }
+
+        /**
+         * @return lowest revenue estimate, or {@code NaN}
+         */
+        public double getRevenueLow() {
+            return values.number(REVENUE_LOW);
+        }
+
+        /**
+         * @return highest revenue estimate, or {@code NaN}
+         */
+        public double getRevenueHigh() {
+            return values.number(REVENUE_HIGH);
+        }
+
+        /**
+         * @return revenue of the same horizon a year earlier, or {@code NaN}
+         */
+        public double getYearAgoRevenue() {
+            return values.number(YEAR_AGO_REVENUE);
+        }
+
+        /**
+         * @return number of analysts estimating revenue, or {@code 0}
+         */
+        public int getRevenueAnalysts() {
+            return (int) values.count(REVENUE_ANALYSTS);
+        }
+
+        /**
+         * @return revenue growth implied by the mean estimate, or {@code NaN}
+         */
+        public double getRevenueGrowth() {
+            return values.number(REVENUE_GROWTH);
+        }
+
+        /**
+         * @return current mean EPS estimate, or {@code NaN}
+         */
+        public double getEpsCurrent() {
+            return values.number(EPS_CURRENT);
+        }
+
+        /**
+         * @return mean EPS estimate 7 days ago, or {@code NaN}
+         */
+        public double getEps7DaysAgo() {
+            return values.number(EPS_7_DAYS_AGO);
+        }
+
+        /**
+         * @return mean EPS estimate 30 days ago, or {@code NaN}
+         */
+        public double getEps30DaysAgo() {
+            return values.number(EPS_30_DAYS_AGO);
+        }
+
+        /**
+         * @return mean EPS estimate 60 days ago, or {@code NaN}
+         */
+        public double getEps60DaysAgo() {
+            return values.number(EPS_60_DAYS_AGO);
+        }
+
+        /**
+         * @return mean EPS estimate 90 days ago, or {@code NaN}
+         */
+        public double getEps90DaysAgo() {
+            return values.number(EPS_90_DAYS_AGO);
+        }
+
+        /**
+         * @return upward EPS revisions over the last 7 days, or {@code 0}
+         */
+        public int getUpLast7Days() {
+            return (int) values.count(UP_LAST_7_DAYS);
+        }
+
+        /**
+         * @return upward EPS revisions over the last 30 days, or {@code 0}
+         */
+        public int getUpLast30Days() {
+            return (int) values.count(UP_LAST_30_DAYS);
+        }
+
+        /**
+         * @return downward EPS revisions over the last 30 days, or {@code 0}
+         */
+        public int getDownLast30Days() {
+            return (int) values.count(DOWN_LAST_30_DAYS);
+        }
+
+        /**
+         * @return downward EPS revisions over the last 90 days, or {@code 0}
+         */
+        public int getDownLast90Days() {
+            return (int) values.count(DOWN_LAST_90_DAYS);
+        }
+
+        @Override
+        public String toString() {
+            return "EarningsTrend.Period[" + getPeriod() + "]";
+        }
+    }
+}
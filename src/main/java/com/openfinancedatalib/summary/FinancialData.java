@@ -0,0 +1,269 @@
+package com.openfinancedatalib.summary;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * Typed view of the {@code financialData} quoteSummary module: current
+ * price, analyst targets, balance sheet totals, margins and growth.
+ *
+ * <p>
+ * Ratios and margins are fractions ({@code 0.26} for 26%). Missing
+ * values are {@link Double#NaN} ({@code 0} for counts, {@code null} for
+ * texts).
+ */
+public final class FinancialData {
+
+    private static final SummaryFields FIELDS = new SummaryFields();
+
+    private static final int CURRENT_PRICE = FIELDS.number("currentPrice");
+    private static final int TARGET_HIGH_PRICE = FIELDS.number("targetHighPrice");
+    private static final int TARGET_LOW_PRICE = FIELDS.number("targetLowPrice");
+    private static final int TARGET_MEAN_PRICE = FIELDS.number("targetMeanPrice");
+    private static final int TARGET_MEDIAN_PRICE = FIELDS.number("targetMedianPrice");
+    private static final int RECOMMENDATION_MEAN = FIELDS.number("recommendationMean");
+    private static final int RECOMMENDATION_KEY = FIELDS.text("recommendationKey");
+    private static final int NUMBER_OF_ANALYST_OPINIONS = FIELDS.number("numberOfAnalystOpinions");
+    private static final int TOTAL_CASH = FIELDS.number("totalCash");
+    private static final int TOTAL_CASH_PER_SHARE = FIELDS.number("totalCashPerShare");
+    private static final int EBITDA = FIELDS.number("ebitda");
+    private static final int TOTAL_DEBT = FIELDS.number("totalDebt");
+    private static final int QUICK_RATIO = FIELDS.number("quickRatio");
+    private static final int CURRENT_RATIO = FIELDS.number("currentRatio");
+    private static final int TOTAL_REVENUE = FIELDS.number("totalRevenue");
+    private static final int DEBT_TO_EQUITY = FIELDS.number("debtToEquity");
+    private static final int REVENUE_PER_SHARE = FIELDS.number("revenuePerShare");
+    private static final int RETURN_ON_ASSETS = FIELDS.number("returnOnAssets");
+    private static final int RETURN_ON_EQUITY = FIELDS.number("returnOnEquity");
+    private static final int GROSS_PROFITS = FIELDS.number("grossProfits");
+    private static final int FREE_CASHFLOW = FIELDS.number("freeCashflow");
+    private static final int OPERATING_CASHFLOW = FIELDS.number("operatingCashflow");
+    private static final int EARNINGS_GROWTH = FIELDS.number("earningsGrowth");
+    private static final int REVENUE_GROWTH = FIELDS.number("revenueGrowth");
+    private static final int GROSS_MARGINS = FIELDS.number("grossMargins");
+    private static final int EBITDA_MARGINS = FIELDS.number("ebitdaMargins");
+    private static final int OPERATING_MARGINS = FIELDS.number("operatingMargins");
+    private static final int PROFIT_MARGINS = FIELDS.number("profitMargins");
+    private static final int FINANCIAL_CURRENCY = FIELDS.text("financialCurrency");
+
+    private final SummaryFields.Values values;
+
+    private FinancialData(SummaryFields.Values values) {
+        this.values = values;
+    }
+
+    /**
+     * Decodes the module.
+     *
+     * @param parser parser positioned on the module object
+     * @return decoded view
+     * @throws IOException if the tokens cannot be read
+     */
+    static FinancialData read(JsonParser parser) throws IOException {
+        return new FinancialData(FIELDS.read(parser));
+    }
+
+    /**
+     * @return current price, or {@code NaN}
+     */
+    public double getCurrentPrice() {
+        return values.number(CURRENT_PRICE);
+    }
+
+    /**
+     * @return highest analyst price target, or {@code NaN}
+     */
+    public double getTargetHighPrice() {
+        return values.number(TARGET_HIGH_PRICE);
+    }
+
+    /**
+     * @return lowest analyst price target, or {@code NaN}
+     */
+    public double getTargetLowPrice() {
+        return values.number(TARGET_LOW_PRICE);
+    }
+
+    /**
+     * @return mean analyst price target, or {@code NaN}
+     */
+    public double getTargetMeanPrice() {
+        return values.number(TARGET_MEAN_PRICE);
+    }
+
+    /**
+     * @return median analyst price target, or {@code NaN}
+     */
+    public double getTargetMedianPrice() {
+        return values.number(TARGET_MEDIAN_PRICE);
+    }
+
+    /**
+     * @return mean analyst rating, from 1 (strong buy) to 5 (sell)
+     */
+    public double getRecommendationMean() {
+        return values.number(RECOMMENDATION_MEAN);
+    }
+
+    /**
+     * @return consensus rating (e.g. {@code buy}), or {@code null}
+     */
+    public String getRecommendationKey() {
+        return values.text(RECOMMENDATION_KEY);
+    }
+
+    /**
+     * @return number of analysts covering the company, or {@code 0}
+     */
+    public int getNumberOfAnalystOpinions() {
+        return (int) values.count(NUMBER_OF_ANALYST_OPINIONS);
+    }
+
+    /**
+     * @return total cash, or {@code NaN}
+     */
+    public double getTotalCash() {
+        return values.number(TOTAL_CASH);
+    }
+
+    /**
+     * @return total cash per share, or {@code NaN}
+     */
+    public double getTotalCashPerShare() {
+        return values.number(TOTAL_CASH_PER_SHARE);
+    }
+
+    /**
+     * @return EBITDA (trailing twelve months), or {@code NaN}
+     */
+    public double getEbitda() {
+        return values.number(EBITDA);
+    }
+
+    /**
+     * @return total debt, or {@code NaN}
+     */
+    public double getTotalDebt() {
+        return values.number(TOTAL_DEBT);
+    }
+
+    /**
+     * @return quick ratio, or {@code NaN}
+     */
+    public double getQuickRatio() {
+        return values.number(QUICK_RATIO);
+    }
+
+    /**
+     * @return current ratio, or {@code NaN}
+     */
+    public double getCurrentRatio() {
+        return values.number(CURRENT_RATIO);
+    }
+
+    /**
+     * @return total revenue (trailing twelve months), or {@code NaN}
+     */
+    public double getTotalRevenue() {
+        return values.number(TOTAL_REVENUE);
+    }
+
+    /**
+     * @return debt to equity, in percent (as reported by Yahoo)
+     */
+    public double getDebtToEquity() {
+        return values.number(DEBT_TO_EQUITY);
+    }
+
+    /**
+     * @return revenue per share, or {@code NaN}
+     */
+    public double getRevenuePerShare() {
+        return values.number(REVENUE_PER_SHARE);
+    }
+
+    /**
+     * @return return on assets, or {@code NaN}
+     */
+    public double getReturnOnAssets() {
+        return values.number(RETURN_ON_ASSETS);
+    }
+
+    /**
+     * @return return on equity, or {@code NaN}
+     */
+    public double getReturnOnEquity() {
+        return values.number(RETURN_ON_EQUITY);
+    }
+
+    /**
+     * @return gross profits, or {@code NaN}
+     */
+    public double getGrossProfits() {
+        return values.number(GROSS_PROFITS);
+    }
+
+    /**
+     * @return free cash flow, or {@code NaN}
+     */
+    public double getFreeCashflow() {
+        return values.number(FREE_CASHFLOW);
+    }
+
+    /**
+     * @return operating cash flow, or {@code NaN}
+     */
+    public double getOperatingCashflow() {
+        return values.number(OPERATING_CASHFLOW);
+    }
+
+    /**
+     * @return year-over-year earnings growth of the last quarter, or {@code NaN}
+     */
+    public double getEarningsGrowth() {
+        return values.number(EARNINGS_GROWTH);
+    }
+
+    /**
+     * @return year-over-year revenue growth of the last quarter, or {@code NaN}
+     */
+    public double getRevenueGrowth() {
+        return values.number(REVENUE_GROWTH);
+    }
+
+    /**
+     * @return gross margin, or {@code NaN}
+     */
+    public double getGrossMargins() {
+        return values.number(GROSS_MARGINS);
+    }
+
+    /**
+     * @return EBITDA margin, or {@code NaN}
+     */
+    public double getEbitdaMargins() {
+        return values.number(EBITDA_MARGINS);
+    }
+
+    /**
+     * @return operating margin, or {@code NaN}
+     */
+    public double getOperatingMargins() {
+        return values.number(OPERATING_MARGINS);
+    }
+
+    /**
+     * @return net profit margin, or {@code NaN}
+     */
+    public double getProfitMargins() {
+        return values.number(PROFIT_MARGINS);
+    }
+
+    /**
+     * @return currency of the financial statements, or {@code null}
+     */
+    public String getFinancialCurrency() {
+        return values.text(FINANCIAL_CURRENCY);
+    }
+}
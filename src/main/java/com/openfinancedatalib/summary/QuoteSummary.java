@@ -0,0 +1,210 @@
+package com.openfinancedatalib.summary;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * quoteSummary modules of a symbol, decoded lazily.
+ *
+ * <p>
+ * Each module is kept as the buffered JSON tokens read from the response
+ * ({@link TokenBuffer}): a compact token array holding the shared field
+ * names and the scalar values, without the per-object hash maps of a
+ * {@link JsonNode} tree. A module is only decoded when it is first
+ * accessed, into either:
+ * <ul>
+ *   <li>a typed view ({@link #getFinancialData()},
+ *       {@link #getSummaryDetail()}, {@link #getDefaultKeyStatistics()},
+ *       {@link #getEarningsTrend()}), where Yahoo's
+ *       {@code {"raw": ..., "fmt": ...}} values are flattened to
+ *       primitives, or</li>
+ *   <li>a {@link JsonNode} tree ({@link #getModule(String)}), for the
+ *       modules without a typed view.</li>
+ * </ul>
+ * Typed views are decoded once and cached; instances are thread-safe.
+ */
+public final class QuoteSummary {
+
+    /** Symbol the modules were requested for */
+    private final String symbol;
+
+    /** Buffered tokens of each returned module, by module name */
+    private final Map<String, TokenBuffer> modules;
+
+    /** Typed views decoded so far, by module name */
+    private final Map<String, Object> views = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@code QuoteSummary}.
+     *
+     * <p>
+     * The map is used as given (not copied).
+     *
+     * @param symbol  symbol the modules were requested for
+     * @param modules buffered tokens of each module object, by module name
+     */
+    QuoteSummary(String symbol, Map<String, TokenBuffer> modules) {
+        this.symbol = symbol;
+        this.modules = Collections.unmodifiableMap(modules);
+    }
+
+    /**
+     * Reads a streamed {@code /v10/finance/quoteSummary} payload.
+     *
+     * <p>
+     * Each module object of {@code quoteSummary.result[0]} is buffered
+     * as is; none is decoded until it is accessed. The
+     * {@code quoteSummary.error} object is validated while reading.
+     *
+     * @param symbol symbol the modules were requested for
+     * @param parser parser positioned on the root object
+     * @return buffered modules
+     * @throws IOException if the body cannot be read or parsed
+     */
+    public static QuoteSummary read(String symbol, JsonParser parser) throws IOException {
+        return QuoteSummaryReader.read(symbol, parser);
+    }
+
+    /**
+     * @return symbol the modules were requested for
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * @return names of the modules returned by Yahoo
+     */
+    public Set<String> getModules() {
+        return modules.keySet();
+    }
+
+    /**
+     * @param module module name (e.g. {@code financialData})
+     * @return whether Yahoo returned the module
+     */
+    public boolean hasModule(String module) {
+        return modules.containsKey(module);
+    }
+
+    /**
+     * @return {@code financialData} module, or empty if not returned
+     */
+    public Optional<FinancialData> getFinancialData() {
+        return view("financialData", FinancialData::read);
+    }
+
+    /**
+     * @return {@code summaryDetail} module, or empty if not returned
+     */
+    public Optional<SummaryDetail> getSummaryDetail() {
+        return view("summaryDetail", SummaryDetail::read);
+    }
+
+    /**
+     * @return {@code defaultKeyStatistics} module, or empty if not returned
+     */
+    public Optional<DefaultKeyStatistics> getDefaultKeyStatistics() {
+        return view("defaultKeyStatistics", DefaultKeyStatistics::read);
+    }
+
+    /**
+     * @return {@code earningsTrend} module, or empty if not returned
+     */
+    public Optional<EarningsTrend> getEarningsTrend() {
+        return view("earningsTrend", EarningsTrend::read);
+    }
+
+    /**
+     * Builds the {@link JsonNode} tree of a module.
+     *
+     * <p>
+     * A new tree is built on every call; prefer the typed views when
+     * available.
+     *
+     * @param module module name (e.g. {@code calendarEvents})
+     * @return module tree, or empty if not returned
+     */
+    public Optional<JsonNode> getModule(String module) {
+        TokenBuffer tokens = modules.get(module);
+        if (tokens == null) {
+            return Optional.empty();
+        }
+        return Optional.of(decode(tokens, JsonParser::readValueAsTree));
+    }
+
+    /**
+     * Returns the typed view of a module, decoding it on first access.
+     *
+     * @param <T> view type
+     * @param module module name
+     * @param reader decodes the module object
+     * @return decoded view, or empty if the module was not returned
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Optional<T> view(String module, ModuleReader<T> reader) {
+        TokenBuffer tokens = modules.get(module);
+        if (tokens == null) {
+            return Optional.empty();
+        }
+
+        Object view = views.get(module);
+        if (view == null) {
+            // Concurrent first accesses may both decode; the first one is kept
+            Object decoded = decode(tokens, reader);
+            view = views.putIfAbsent(module, decoded);
+            if (view == null) {
+                view = decoded;
+            }
+        }
+        return Optional.of((T) view);
+    }
+
+    /**
+     * Replays the tokens of a module.
+     *
+     * @param <T> decoded type
+     * @param tokens buffered module object
+     * @param reader decodes the module object
+     * @return decoded module
+     */
+    private static <T> T decode(TokenBuffer tokens, ModuleReader<T> reader) {
+        try (JsonParser parser = tokens.asParser()) {
+            parser.nextToken();
+            return reader.read(parser);
+
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode quoteSummary module", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "QuoteSummary[" + symbol + ", modules=" + modules.keySet() + "]";
+    }
+
+    /**
+     * Decodes a buffered module.
+     *
+     * @param <T> decoded type
+     */
+    @FunctionalInterface
+    private interface ModuleReader<T> {
+
+        /**
+         * @param parser parser positioned on the module object
+         * @return decoded module
+         * @throws IOException if the tokens cannot be read
+         */
+        T read(JsonParser parser) throws IOException;
+    }
+}
@@ -0,0 +1,132 @@
+package com.openfinancedatalib.summary;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.openfinancedatalib.yahoo.exception.YahooUnavailableException;
+import com.openfinancedatalib.yahoo.validator.YahooResponseValidator;
+
+/**
+ * Splits {@code /v10/finance/quoteSummary} payloads into per-module
+ * token buffers.
+ *
+ * <p>
+ * The payload is read token by token: each module object of
+ * {@code quoteSummary.result[0]} is copied into its own
+ * {@link TokenBuffer} and no {@link JsonNode} tree is built. Decoding
+ * the modules is left to {@link QuoteSummary}, on first access.
+ *
+ * <p>
+ * The {@code quoteSummary.error} object is validated while reading
+ * through {@link YahooResponseValidator#validateError(JsonNode)}.
+ */
+final class QuoteSummaryReader {
+
+    /**
+     * Reads a streamed quoteSummary payload.
+     *
+     * @param symbol symbol the modules were requested for
+     * @param parser parser positioned on the root object
+     * @return buffered modules
+     * @throws IOException if the body cannot be read or parsed
+     */
+    static QuoteSummary read(String symbol, JsonParser parser) throws IOException {
+
+        Map<String, TokenBuffer> modules = null;
+        JsonNode error = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+
+            if (!"quoteSummary".equals(field) || token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String summaryField = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if ("result".equals(summaryField) && value == JsonToken.START_ARRAY) {
+                    modules = readFirstResult(parser);
+
+                } else if ("error".equals(summaryField)) {
+                    error = parser.readValueAsTree();
+
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        // Invalid symbol / Yahoo error payload
+        YahooResponseValidator.validateError(error);
+
+        if (modules == null) {
+            throw new YahooUnavailableException("Yahoo returned an empty quoteSummary");
+        }
+
+        return new QuoteSummary(symbol, modules);
+    }
+
+    /**
+     * Buffers the modules of the first entry of {@code quoteSummary.result}
+     * and skips the rest.
+     *
+     * @param parser parser positioned on the result array
+     * @return buffered modules, or {@code null} if the array is empty
+     * @throws IOException if the body cannot be read or parsed
+     */
+    private static Map<String, TokenBuffer> readFirstResult(JsonParser parser) throws IOException {
+
+        Map<String, TokenBuffer> modules = null;
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (modules == null && parser.currentToken() == JsonToken.START_OBJECT) {
+                modules = readModules(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return modules;
+    }
+
+    /**
+     * Copies each module object of a result into its own token buffer.
+     *
+     * @param parser parser positioned on the result object
+     * @return buffered modules, by module name, in Yahoo's order
+     * @throws IOException if the body cannot be read or parsed
+     */
+    private static Map<String, TokenBuffer> readModules(JsonParser parser) throws IOException {
+
+        Map<String, TokenBuffer> modules = new LinkedHashMap<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String module = parser.currentName();
+
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                TokenBuffer buffer = new TokenBuffer(parser);
+                buffer.copyCurrentStructure(parser);
+                modules.put(module, buffer);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return modules;
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private QuoteSummaryReader() {
+    }
+}
@@ -0,0 +1,246 @@
+package com.openfinancedatalib.summary;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * Typed view of the {@code summaryDetail} quoteSummary module: trading
+ * session, dividends, valuation multiples and 52-week range.
+ *
+ * <p>
+ * Yields are fractions ({@code 0.0044} for 0.44%) and dates are epoch
+ * seconds. Missing values are {@link Double#NaN} ({@code 0} for volumes
+ * and dates, {@code null} for texts).
+ */
+public final class SummaryDetail {
+
+    private static final SummaryFields FIELDS = new SummaryFields();
+
+    private static final int PREVIOUS_CLOSE = FIELDS.number("previousClose");
+    private static final int OPEN = FIELDS.number("open");
+    private static final int DAY_LOW = FIELDS.number("dayLow");
+    private static final int DAY_HIGH = FIELDS.number("dayHigh");
+    private static final int BID = FIELDS.number("bid");
+    private static final int ASK = FIELDS.number("ask");
+    private static final int VOLUME = FIELDS.number("volume");
+    private static final int AVERAGE_VOLUME = FIELDS.number("averageVolume");
+    private static final int AVERAGE_VOLUME_10_DAYS = FIELDS.number("averageVolume10days");
+    private static final int MARKET_CAP = FIELDS.number("marketCap");
+    private static final int BETA = FIELDS.number("beta");
+    private static final int TRAILING_PE = FIELDS.number("trailingPE");
+    private static final int FORWARD_PE = FIELDS.number("forwardPE");
+    private static final int PRICE_TO_SALES = FIELDS.number("priceToSalesTrailing12Months");
+    private static final int DIVIDEND_RATE = FIELDS.number("dividendRate");
+    private static final int DIVIDEND_YIELD = FIELDS.number("dividendYield");
+    private static final int EX_DIVIDEND_DATE = FIELDS.number("exDividendDate");
+    private static final int PAYOUT_RATIO = FIELDS.number("payoutRatio");
+    private static final int FIVE_YEAR_AVG_DIVIDEND_YIELD = FIELDS.number("fiveYearAvgDividendYield");
+    private static final int TRAILING_ANNUAL_DIVIDEND_RATE = FIELDS.number("trailingAnnualDividendRate");
+    private static final int TRAILING_ANNUAL_DIVIDEND_YIELD = FIELDS.number("trailingAnnualDividendYield");
+    private static final int FIFTY_TWO_WEEK_LOW = FIELDS.number("fiftyTwoWeekLow");
+    private static final int FIFTY_TWO_WEEK_HIGH = FIELDS.number("fiftyTwoWeekHigh");
+    private static final int FIFTY_DAY_AVERAGE = FIELDS.number("fiftyDayAverage");
+    private static final int TWO_HUNDRED_DAY_AVERAGE = FIELDS.number("twoHundredDayAverage");
+    private static final int CURRENCY = FIELDS.text("currency");
+
+    private final SummaryFields.Values values;
+
+    private SummaryDetail(SummaryFields.Values values) {
+        this.values = values;
+    }
+
+    /**
+     * Decodes the module.
+     *
+     * @param parser parser positioned on the module object
+     * @return decoded view
+     * @throws IOException if the tokens cannot be read
+     */
+    static SummaryDetail read(JsonParser parser) throws IOException {
+        return new SummaryDetail(FIELDS.read(parser));
+    }
+
+    /**
+     * @return previous close, or {@code NaN}
+     */
+    public double getPreviousClose() {
+        return values.number(PREVIOUS_CLOSE);
+    }
+
+    /**
+     * @return open price of the session, or {@code NaN}
+     */
+    public double getOpen() {
+        return values.number(OPEN);
+    }
+
+    /**
+     * @return session low, or {@code NaN}
+     */
+    public double getDayLow() {
+        return values.number(DAY_LOW);
+    }
+
+    /**
+     * @return session high, or {@code NaN}
+     */
+    public double getDayHigh() {
+        return values.number(DAY_HIGH);
+    }
+
+    /**
+     * @return best bid, or {@code NaN}
+     */
+    public double getBid() {
+        return values.number(BID);
+    }
+
+    /**
+     * @return best ask, or {@code NaN}
+     */
+    public double getAsk() {
+        return values.number(ASK);
+    }
+
+    /**
+     * @return session volume, or {@code 0}
+     */
+    public long getVolume() {
+        return values.count(VOLUME);
+    }
+
+    /**
+     * @return average daily volume (3 months), or {@code 0}
+     */
+    public long getAverageVolume() {
+        return values.count(AVERAGE_VOLUME);
+    }
+
+    /**
+     * @return average daily volume (10 days), or {@code 0}
+     */
+    public long getAverageVolume10Days() {
+        return values.count(AVERAGE_VOLUME_10_DAYS);
+    }
+
+    /**
+     * @return market capitalization, or {@code NaN}
+     */
+    public double getMarketCap() {
+        return values.number(MARKET_CAP);
+    }
+
+    /**
+     * @return beta (5 years, monthly), or {@code NaN}
+     */
+    public double getBeta() {
+        return values.number(BETA);
+    }
+
+    /**
+     * @return price to trailing earnings, or {@code NaN}
+     */
+    public double getTrailingPE() {
+        return values.number(TRAILING_PE);
+    }
+
+    /**
+     * @return price to forward earnings, or {@code NaN}
+     */
+    public double getForwardPE() {
+        return values.number(FORWARD_PE);
+    }
+
+    /**
+     * @return price to trailing twelve-month sales, or {@code NaN}
+     */
+    public double getPriceToSalesTrailing12Months() {
+        return values.number(PRICE_TO_SALES);
+    }
+
+    /**
+     * @return annual dividend per share, or {@code NaN}
+     */
+    public double getDividendRate() {
+        return values.number(DIVIDEND_RATE);
+    }
+
+    /**
+     * @return dividend yield, or {@code NaN}
+     */
+    public double getDividendYield() {
+        return values.number(DIVIDEND_YIELD);
+    }
+
+    /**
+     * @return ex-dividend date in epoch seconds, or {@code 0}
+     */
+    public long getExDividendDate() {
+        return values.count(EX_DIVIDEND_DATE);
+    }
+
+    /**
+     * @return dividend payout ratio, or {@code NaN}
+     */
+    public double getPayoutRatio() {
+        return values.number(PAYOUT_RATIO);
+    }
+
+    /**
+     * @return five-year average dividend yield, in percent (as reported
+     *         by Yahoo)
+     */
+    public double getFiveYearAvgDividendYield() {
+        return values.number(FIVE_YEAR_AVG_DIVIDEND_YIELD);
+    }
+
+    /**
+     * @return dividends per share paid over twelve months, or {@code NaN}
+     */
+    public double getTrailingAnnualDividendRate() {
+        return values.number(TRAILING_ANNUAL_DIVIDEND_RATE);
+    }
+
+    /**
+     * @return trailing annual dividend yield, or {@code NaN}
+     */
+    public double getTrailingAnnualDividendYield() {
+        return values.number(TRAILING_ANNUAL_DIVIDEND_YIELD);
+    }
+
+    /**
+     * @return 52-week low, or {@code NaN}
+     */
+    public double getFiftyTwoWeekLow() {
+        return values.number(FIFTY_TWO_WEEK_LOW);
+    }
+
+    /**
+     * @return 52-week high, or {@code NaN}
+     */
+    public double getFiftyTwoWeekHigh() {
+        return values.number(FIFTY_TWO_WEEK_HIGH);
+    }
+
+    /**
+     * @return 50-day moving average, or {@code NaN}
+     */
+    public double getFiftyDayAverage() {
+        return values.number(FIFTY_DAY_AVERAGE);
+    }
+
+    /**
+     * @return 200-day moving average, or {@code NaN}
+     */
+    public double getTwoHundredDayAverage() {
+        return values.number(TWO_HUNDRED_DAY_AVERAGE);
+    }
+
+    /**
+     * @return trading currency, or {@code null}
+     */
+    public String getCurrency() {
+        return values.text(CURRENCY);
+    }
+}
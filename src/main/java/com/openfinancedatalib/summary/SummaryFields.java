@@ -0,0 +1,223 @@
+package com.openfinancedatalib.summary;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Fields decoded by a typed quoteSummary view.
+ *
+ * <p>
+ * Each view declares the fields it exposes as numeric or text slots.
+ * Nested fields are declared with dotted paths (e.g.
+ * {@code earningsEstimate.avg}). Decoding walks the module tokens once,
+ * stores the declared fields in the slot arrays and skips everything
+ * else without materializing it.
+ *
+ * <p>
+ * Yahoo's formatted values ({@code {"raw": 0.26, "fmt": "26%"}}) are
+ * flattened: numeric slots keep {@code raw}, text slots keep
+ * {@code fmt}. Missing, {@code null} and empty ({@code {}}) values leave
+ * numeric slots at {@link Double#NaN} and text slots at {@code null}.
+ *
+ * <p>
+ * Slots are declared during class initialization of the view and never
+ * change afterwards.
+ */
+final class SummaryFields {
+
+    /** Shared value of views without text slots */
+    private static final String[] NO_TEXTS = new String[0];
+
+    /** Top-level fields, by name */
+    private final Node root = new Node();
+
+    private int numbers;
+
+    private int texts;
+
+    /**
+     * Declares a numeric field.
+     *
+     * @param path field name, or dotted path of a nested field
+     * @return slot of the field
+     */
+    int number(String path) {
+        node(path).number = numbers;
+        return numbers++;
+    }
+
+    /**
+     * Declares a text field.
+     *
+     * @param path field name, or dotted path of a nested field
+     * @return slot of the field
+     */
+    int text(String path) {
+        node(path).text = texts;
+        return texts++;
+    }
+
+    /**
+     * Decodes the object the parser is positioned on.
+     *
+     * @param parser parser positioned on a {@code START_OBJECT} token
+     * @return decoded slots
+     * @throws IOException if the tokens cannot be read
+     */
+    Values read(JsonParser parser) throws IOException {
+        double[] numberValues = new double[numbers];
+        Arrays.fill(numberValues, Double.NaN);
+
+        Values values = new Values(numberValues, texts == 0 ? NO_TEXTS : new String[texts]);
+        readObject(parser, root, values);
+        return values;
+    }
+
+    /**
+     * Decodes the fields of an object up to its {@code END_OBJECT}.
+     *
+     * @param parser parser positioned on a {@code START_OBJECT} token
+     * @param node declared fields of the object
+     * @param values slots being filled
+     * @throws IOException if the tokens cannot be read
+     */
+    private static void readObject(JsonParser parser, Node node, Values values) throws IOException {
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            Node field = node.children.get(parser.currentName());
+            JsonToken token = parser.nextToken();
+
+            if (field == null) {
+                parser.skipChildren();
+
+            } else if (token == JsonToken.START_OBJECT) {
+                if (field.children.isEmpty()) {
+                    readFormatted(parser, field, values);
+                } else {
+                    readObject(parser, field, values);
+                }
+
+            } else if (token.isScalarValue() && token != JsonToken.VALUE_NULL) {
+                readScalar(parser, field, values);
+
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Flattens a {@code {"raw": ..., "fmt": ...}} object.
+     *
+     * @param parser parser positioned on a {@code START_OBJECT} token
+     * @param field declared field
+     * @param values slots being filled
+     * @throws IOException if the tokens cannot be read
+     */
+    private static void readFormatted(JsonParser parser, Node field, Values values) throws IOException {
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+
+            if (token == JsonToken.VALUE_NULL) {
+                continue;
+            }
+
+            if (field.number >= 0 && "raw".equals(name)) {
+                values.numbers[field.number] = parser.getValueAsDouble(Double.NaN);
+
+            } else if (field.text >= 0 && "fmt".equals(name)) {
+                values.texts[field.text] = parser.getValueAsString();
+
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Stores a plain scalar value.
+     *
+     * @param parser parser positioned on the value
+     * @param field declared field
+     * @param values slots being filled
+     * @throws IOException if the tokens cannot be read
+     */
+    private static void readScalar(JsonParser parser, Node field, Values values) throws IOException {
+        if (field.number >= 0) {
+            values.numbers[field.number] = parser.getValueAsDouble(Double.NaN);
+        }
+        if (field.text >= 0) {
+            values.texts[field.text] = parser.getValueAsString();
+        }
+    }
+
+    /**
+     * Resolves (creating it if needed) the node of a dotted path.
+     *
+     * @param path dotted field path
+     * @return node of the path
+     */
+    private Node node(String path) {
+        Node node = root;
+        for (String name : path.split("\\.")) {
+            node = node.children.computeIfAbsent(name, ignored -> new Node());
+        }
+        return node;
+    }
+
+    /**
+     * Declared field: its slots and its declared nested fields.
+     */
+    private static final class Node {
+
+        /** Numeric slot, or {@code -1} */
+        int number = -1;
+
+        /** Text slot, or {@code -1} */
+        int text = -1;
+
+        /** Declared nested fields, by name */
+        final Map<String, Node> children = new HashMap<>();
+    }
+
+    /**
+     * Decoded slots of one object.
+     *
+     * @param numbers numeric slots ({@link Double#NaN} when missing)
+     * @param texts text slots ({@code null} when missing)
+     */
+    record Values(double[] numbers, String[] texts) {
+
+        /**
+         * @param slot numeric slot
+         * @return value, or {@link Double#NaN} if missing
+         */
+        double number(int slot) {
+            return numbers[slot];
+        }
+
+        /**
+         * @param slot numeric slot
+         * @return value truncated to a {@code long}, or {@code 0} if missing
+         */
+        long count(int slot) {
+            double value = numbers[slot];
+            return Double.isNaN(value) ? 0 : (long) value;
+        }
+
+        /**
+         * @param slot text slot
+         * @return value, or {@code null} if missing
+         */
+        String text(int slot) {
+            return texts[slot];
+        }
+    }
+}
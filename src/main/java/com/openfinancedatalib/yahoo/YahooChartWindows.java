@@ -0,0 +1,221 @@
+package com.openfinancedatalib.yahoo;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Splits long chart requests into windows accepted by Yahoo and stitches
+ * the responses back together.
+ *
+ * <p>
+ * Yahoo limits how much intraday history a single chart request may
+ * cover:
+ * <ul>
+ *   <li>{@code 1m} – 7 days</li>
+ *   <li>{@code 2m} to {@code 90m} – 60 days</li>
+ *   <li>{@code 60m} / {@code 1h} – 730 days</li>
+ * </ul>
+ * Daily and longer intervals are not limited and use a single window.
+ */
+final class YahooChartWindows {
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    /**
+     * Time span covered by one window.
+     */
+    record Window(long period1, long period2) {
+    }
+
+    /**
+     * Splits {@code [start, end)} into consecutive windows.
+     *
+     * @param start first instant (inclusive)
+     * @param end last instant (exclusive)
+     * @param interval bar interval
+     * @return windows in chronological order
+     * @throws IllegalArgumentException if {@code start} is not before {@code end}
+     */
+    static List<Window> split(Instant start, Instant end, String interval) {
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("start must be before end");
+        }
+
+        long from = start.getEpochSecond();
+        long to = end.getEpochSecond();
+        long step = maxSpan(interval).map(Duration::getSeconds).orElse(to - from);
+
+        List<Window> windows = new ArrayList<>();
+        for (long p1 = from; p1 < to; p1 += step) {
+            windows.add(new Window(p1, Math.min(to, p1 + step)));
+        }
+        return windows;
+    }
+
+    /**
+     * Returns the maximum span of a single request for {@code interval}.
+     *
+     * @param interval bar interval
+     * @return maximum span, or empty if unlimited
+     */
+    static Optional<Duration> maxSpan(String interval) {
+        return Optional.ofNullable(switch (interval) {
+            case "1m" -> Duration.ofDays(7);
+            case "2m", "5m", "15m", "30m", "90m" -> Duration.ofDays(60);
+            case "60m", "1h" -> Duration.ofDays(730);
+            default -> null;
+        });
+    }
+
+    /**
+     * Builds the chart parameters of a window.
+     *
+     * @param window time span
+     * @param interval bar interval
+     * @param events corporate events, or {@code null}
+     * @return chart query parameters
+     */
+    static Map<String, String> params(Window window, String interval, String events) {
+        String period1 = String.valueOf(window.period1());
+        String period2 = String.valueOf(window.period2());
+
+        return events == null
+                ? Map.of("period1", period1, "period2", period2, "interval", interval)
+                : Map.of("period1", period1, "period2", period2, "interval", interval,
+                        "events", events);
+    }
+
+    /**
+     * Stitches chart responses into a single chart response.
+     *
+     * <p>
+     * The {@code chart.result[0]} arrays of each window (timestamps,
+     * {@code indicators.quote[0]} and {@code indicators.adjclose[0]}
+     * columns) are concatenated in window order; bars whose timestamp is
+     * not greater than the previous one (window overlaps) are dropped.
+     * Events are merged, and {@code meta} is taken from the most recent
+     * window.
+     *
+     * @param responses chart responses in chronological window order
+     * @return chart response covering all windows
+     */
+    static JsonNode stitch(List<JsonNode> responses) {
+
+        ArrayNode timestamps = NODES.arrayNode();
+        ObjectNode quote = NODES.objectNode();
+        ArrayNode adjClose = null;
+        ObjectNode events = null;
+        JsonNode meta = null;
+        long last = Long.MIN_VALUE;
+
+        for (JsonNode response : responses) {
+            JsonNode result = response.path("chart").path("result").path(0);
+            if (result.isMissingNode()) {
+                continue;
+            }
+
+            if (result.hasNonNull("meta")) {
+                meta = result.get("meta");
+            }
+
+            // Corporate events are keyed by timestamp: merge maps
+            for (Map.Entry<String, JsonNode> type : result.path("events").properties()) {
+                if (!type.getValue().isObject()) {
+                    continue;
+                }
+                if (events == null) {
+                    events = NODES.objectNode();
+                }
+                ObjectNode merged = events.has(type.getKey())
+                        ? (ObjectNode) events.get(type.getKey())
+                        : events.putObject(type.getKey());
+                merged.setAll((ObjectNode) type.getValue());
+            }
+
+            JsonNode windowQuote = result.path("indicators").path("quote").path(0);
+            JsonNode windowAdj = result.path("indicators").path("adjclose").path(0).path("adjclose");
+            if (adjClose == null && windowAdj.isArray()) {
+                adjClose = NODES.arrayNode();
+            }
+
+            JsonNode windowTimestamps = result.path("timestamp");
+            for (int i = 0; i < windowTimestamps.size(); i++) {
+                long timestamp = windowTimestamps.get(i).asLong();
+                if (timestamp <= last) {
+                    continue;
+                }
+                last = timestamp;
+
+                // Columns are appended row by row to stay aligned
+                int row = timestamps.size();
+                timestamps.add(timestamp);
+
+                for (Iterator<String> it = windowQuote.fieldNames(); it.hasNext(); ) {
+                    String column = it.next();
+                    ArrayNode target = quote.has(column)
+                            ? (ArrayNode) quote.get(column)
+                            : quote.putArray(column);
+                    pad(target, row);
+                    target.add(windowQuote.get(column).get(i));
+                }
+
+                if (adjClose != null) {
+                    pad(adjClose, row);
+                    adjClose.add(windowAdj.get(i));
+                }
+            }
+        }
+
+        // Columns absent from the last windows end with nulls
+        for (JsonNode column : quote) {
+            pad((ArrayNode) column, timestamps.size());
+        }
+        if (adjClose != null) {
+            pad(adjClose, timestamps.size());
+        }
+
+        ObjectNode result = NODES.objectNode();
+        result.set("meta", meta == null ? NODES.objectNode() : meta);
+        result.set("timestamp", timestamps);
+        if (events != null) {
+            result.set("events", events);
+        }
+
+        ObjectNode indicators = result.putObject("indicators");
+        indicators.putArray("quote").add(quote);
+        if (adjClose != null) {
+            indicators.putArray("adjclose").addObject().set("adjclose", adjClose);
+        }
+
+        ObjectNode chart = NODES.objectNode();
+        chart.putObject("chart")
+                .<ObjectNode>set("result", NODES.arrayNode().add(result))
+                .putNull("error");
+        return chart;
+    }
+
+    /**
+     * Appends {@code null}s until {@code column} holds {@code size} values.
+     */
+    private static void pad(ArrayNode column, int size) {
+        while (column.size() < size) {
+            column.addNull();
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private YahooChartWindows() {
+    }
+}
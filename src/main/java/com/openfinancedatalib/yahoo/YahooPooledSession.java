@@ -0,0 +1,104 @@
+package com.openfinancedatalib.yahoo;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.openfinancedatalib.yahoo.client.YahooHistoryClient;
+import com.openfinancedatalib.yahoo.client.YahooQuoteClient;
+import com.openfinancedatalib.yahoo.client.YahooQuoteSummaryClient;
+import com.openfinancedatalib.yahoo.client.YahooSearchClient;
+import com.openfinancedatalib.yahoo.client.YahooTransferMeter;
+import com.openfinancedatalib.yahoo.config.YahooConfig;
+import com.openfinancedatalib.yahoo.config.YahooJsonSettings;
+import com.openfinancedatalib.yahoo.endpoint.YahooEndpointResolver;
+import com.openfinancedatalib.yahoo.ratelimit.YahooRateLimiter;
+import com.openfinancedatalib.yahoo.session.YahooCrumbProvider;
+import com.openfinancedatalib.yahoo.session.YahooSessionManager;
+
+/**
+ * One independent Yahoo session of a {@link YahooSessionPool}.
+ *
+ * <p>
+ * Groups everything bound to a single cookie jar:
+ * <ul>
+ *   <li>The {@link YahooSessionManager} (HttpClient and cookies)</li>
+ *   <li>The {@link YahooCrumbProvider} and its crumb</li>
+ *   <li>The API clients sending requests with those cookies</li>
+ *   <li>The {@link YahooRateLimiter}: Yahoo throttles each session
+ *       separately, so each one is paced on its own</li>
+ * </ul>
+ *
+ * <p>
+ * The transfer meter, the endpoint resolver and the JSON readers are
+ * shared by every session of the pool.
+ */
+final class YahooPooledSession {
+
+    /** Manages the HTTP session and cookies */
+    final YahooSessionManager sessionManager;
+
+    /** Fetches crumbs for this session's cookies */
+    final YahooCrumbProvider crumbProvider;
+
+    /** Client for the quoteSummary endpoint */
+    final YahooQuoteSummaryClient quoteSummaryClient;
+
+    /** Client for the quote (price) endpoint */
+    final YahooQuoteClient quoteClient;
+
+    /** Client for the historical price (chart) endpoint */
+    final YahooHistoryClient historyClient;
+
+    /** Client for the search endpoint */
+    final YahooSearchClient searchClient;
+
+    /** Client-side rate limiter applied before each dispatch */
+    final YahooRateLimiter rateLimiter;
+
+    /**
+     * Number of session-level failures since the last success.
+     */
+    final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    /** Calls currently using this session */
+    final AtomicInteger inFlight = new AtomicInteger();
+
+    /** Set once the session has been replaced in its pool slot */
+    final AtomicBoolean retired = new AtomicBoolean();
+
+    /** Set once the HttpClient has been closed */
+    final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * Creates a new session with an empty cookie jar and no crumb.
+     *
+     * @param config Yahoo integration configuration
+     * @param endpoints resolver shared by all sessions
+     * @param meter transfer meter shared by all sessions
+     */
+    YahooPooledSession(
+            YahooConfig config,
+            YahooEndpointResolver endpoints,
+            YahooTransferMeter meter) {
+
+        YahooJsonSettings json = config.getJsonSettings();
+
+        this.sessionManager = new YahooSessionManager(config.getHttpSettings(), config.getSessionUrl());
+        this.crumbProvider = new YahooCrumbProvider(sessionManager, endpoints);
+        this.quoteSummaryClient = new YahooQuoteSummaryClient(sessionManager, meter, endpoints, json);
+        this.quoteClient = new YahooQuoteClient(sessionManager, meter, endpoints, json);
+        this.historyClient = new YahooHistoryClient(sessionManager, meter, endpoints, json);
+        this.searchClient = new YahooSearchClient(sessionManager, meter, endpoints, json);
+        this.rateLimiter = new YahooRateLimiter(config.getRateLimits());
+    }
+
+    /**
+     * Closes the session's HttpClient (its connections and selector
+     * thread). Only the first call has an effect.
+     */
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            sessionManager.close();
+        }
+    }
+}
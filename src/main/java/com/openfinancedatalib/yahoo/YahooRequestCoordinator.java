@@ -1,17 +1,40 @@
 package com.openfinancedatalib.yahoo;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.openfinancedatalib.yahoo.client.YahooHistoryClient;
-import com.openfinancedatalib.yahoo.client.YahooQuoteClient;
-import com.openfinancedatalib.yahoo.client.YahooQuoteSummaryClient;
-import com.openfinancedatalib.yahoo.client.YahooSearchClient;
+import com.openfinancedatalib.bulk.BulkExecutor;
+import com.openfinancedatalib.history.HistorySyncResult;
+import com.openfinancedatalib.history.PriceSeries;
+import com.openfinancedatalib.history.store.BarStore;
+import com.openfinancedatalib.history.store.StoredBars;
+import com.openfinancedatalib.summary.QuoteSummary;
+import com.openfinancedatalib.yahoo.cache.YahooCacheStats;
+import com.openfinancedatalib.yahoo.cache.YahooResponseCache;
+import com.openfinancedatalib.yahoo.client.YahooFutures;
+import com.openfinancedatalib.yahoo.client.YahooTransferMeter;
+import com.openfinancedatalib.yahoo.client.YahooTransferStats;
+import com.openfinancedatalib.yahoo.config.YahooConfig;
+import com.openfinancedatalib.yahoo.endpoint.YahooEndpointResolver;
 import com.openfinancedatalib.yahoo.enums.YahooApiType;
 import com.openfinancedatalib.yahoo.exception.YahooAuthException;
-import com.openfinancedatalib.yahoo.session.YahooCrumbProvider;
-import com.openfinancedatalib.yahoo.session.YahooCrumbStore;
-import com.openfinancedatalib.yahoo.session.YahooSessionManager;
+import com.openfinancedatalib.yahoo.exception.YahooRateLimitException;
+import com.openfinancedatalib.yahoo.ratelimit.YahooRateLimiter;
 
 /**
  * Central coordinator for all Yahoo Finance requests.
@@ -20,8 +43,12 @@ import com.openfinancedatalib.yahoo.session.YahooSessionManager;
  * This class is the core of the Yahoo integration and is responsible for
  * orchestrating the complete request lifecycle, including:
  * <ul>
+ *   <li>Serving fresh responses from the optional cache</li>
+ *   <li>Sharing one network call between identical concurrent requests</li>
+ *   <li>Spreading requests over a pool of independent Yahoo sessions</li>
  *   <li>Ensuring Yahoo cookies are captured</li>
  *   <li>Obtaining a valid crumb</li>
+ *   <li>Throttling requests with a client-side rate limiter</li>
  *   <li>Dispatching the request to the correct API client</li>
  *   <li>Handling authentication failures and retrying requests</li>
  * </ul>
@@ -33,46 +60,88 @@ import com.openfinancedatalib.yahoo.session.YahooSessionManager;
 public class YahooRequestCoordinator {
 
     /**
-     * Provider responsible for fetching Yahoo crumbs.
+     * Maximum number of symbols sent in a single multi-symbol quote request.
+     */
+    static final int MAX_SYMBOLS_PER_BATCH = 100;
+
+    /**
+     * Maximum length (in characters) of the comma-separated symbol list
+     * sent in a single quote request.
+     *
      * <p>
-     * Assumes cookies are already valid.
+     * Keeps the final URL (base URL + symbols + crumb) well below the
+     * ~2000 character limit commonly enforced by proxies and servers.
      */
-    private final YahooCrumbProvider crumbProvider;
+    static final int MAX_SYMBOLS_LENGTH = 1500;
 
-    /** Client for the quoteSummary endpoint */
-    private final YahooQuoteSummaryClient quoteSummaryClient;
+    /**
+     * Independent Yahoo sessions (cookies, crumb, clients and rate
+     * limiter) the requests are spread over.
+     */
+    private final YahooSessionPool sessions;
 
-    /** Client for the quote (price) endpoint */
-    private final YahooQuoteClient quoteClient;
+    /**
+     * Optional response cache ({@code null} when disabled).
+     */
+    private final YahooResponseCache cache;
 
-    /** Client for the historical price (chart) endpoint */
-    private final YahooHistoryClient historyClient;
+    /**
+     * Wire and decoded body sizes of every client response.
+     */
+    private final YahooTransferMeter transferMeter = new YahooTransferMeter();
 
-    /** Client for the search endpoint */
-    private final YahooSearchClient searchClient;
+    /**
+     * Optional local store of historical bars ({@code null} when disabled).
+     */
+    private final BarStore barStore;
 
     /**
-     * Manages Yahoo HTTP session and cookies.
+     * Requests currently being executed, keyed by their normalized
+     * identity.
+     *
+     * <p>
+     * Concurrent callers asking for the same symbol, API type and
+     * parameters join the pending future instead of issuing a duplicate
+     * HTTP request. Entries are removed as soon as the request completes,
+     * so this is independent of (and does not require) the response cache.
+     */
+    private final Map<YahooRequestKey, CompletableFuture<JsonNode>> inFlight =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@code YahooRequestCoordinator} using the
+     * default configuration.
+     *
+     * @see YahooConfig#defaults()
      */
-    private final YahooSessionManager sessionManager;
+    public YahooRequestCoordinator() {
+        this(YahooConfig.defaults());
+    }
 
     /**
      * Creates a new {@code YahooRequestCoordinator} and initializes
      * all internal components.
      *
      * <p>
-     * A single {@link YahooSessionManager} instance is shared across
-     * all clients to ensure cookies are consistent.
+     * Each pooled session has its own cookies, crumb and rate limiter,
+     * shared by all of its clients so they stay consistent. A single
+     * {@link YahooEndpointResolver} is shared by every session so host
+     * health is tracked across sessions and endpoints.
+     *
+     * @param config Yahoo integration configuration
      */
-    public YahooRequestCoordinator() {
-        YahooSessionManager session = new YahooSessionManager();
+    public YahooRequestCoordinator(YahooConfig config) {
+        YahooEndpointResolver endpoints = config.getEndpointResolver();
 
-        this.crumbProvider = new YahooCrumbProvider(session);
-        this.quoteSummaryClient = new YahooQuoteSummaryClient(session);
-        this.quoteClient = new YahooQuoteClient(session);
-        this.historyClient = new YahooHistoryClient(session);
-        this.searchClient = new YahooSearchClient(session);
-        this.sessionManager = session;
+        this.sessions = new YahooSessionPool(
+                config.getSessionPoolSize(),
+                () -> new YahooPooledSession(config, endpoints, transferMeter));
+        this.cache = config.getCacheSettings()
+                .map(YahooResponseCache::new)
+                .orElse(null);
+        this.barStore = config.getBarStoreDirectory()
+                .map(BarStore::new)
+                .orElse(null);
     }
 
     /**
@@ -82,12 +151,24 @@ public class YahooRequestCoordinator {
      * Execution flow:
      * <ol>
      *   <li>Ensure a valid session and crumb</li>
+     *   <li>Wait for the endpoint rate limiter</li>
      *   <li>Dispatch the request to the correct client</li>
      *   <li>If authentication fails, renew crumb and retry once</li>
      * </ol>
      *
      * <p>
+     * When the response cache is enabled, a fresh cached response is
+     * returned without contacting Yahoo.
+     *
+     * <p>
+     * Concurrent calls with the same symbol, API type and parameters
+     * share a single network call and receive the same {@link JsonNode}
+     * instance, which callers must treat as read-only.
+     *
+     * <p>
      * This method retries <b>at most once</b> to avoid infinite loops.
+     * Rate limited requests ({@code 429}) are not retried; they shrink
+     * the endpoint rate and the exception is propagated.
      *
      * @param symbol asset ticker symbol (may be {@code null} for SEARCH)
      * @param apiType type of Yahoo API to call
@@ -99,33 +180,821 @@ public class YahooRequestCoordinator {
             YahooApiType apiType,
             Map<String, String> params) {
 
+        YahooRequestKey key = YahooRequestKey.of(symbol, apiType, params);
+
+        if (cache != null) {
+            JsonNode cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        CompletableFuture<JsonNode> pending = new CompletableFuture<>();
+        CompletableFuture<JsonNode> leader = inFlight.putIfAbsent(key, pending);
+
+        if (leader != null) {
+            // An identical request is already running: wait for its result
+            return join(leader);
+        }
+
+        try {
+            JsonNode response = fetch(apiType,
+                    (session, crumb) -> dispatch(session, symbol, apiType, params, crumb));
+            if (cache != null) {
+                cache.put(key, response);
+            }
+            pending.complete(response);
+            return response;
+
+        } catch (Throwable t) {
+            // Errors too: followers would otherwise wait forever
+            pending.completeExceptionally(t);
+            throw t;
+
+        } finally {
+            inFlight.remove(key, pending);
+        }
+    }
+
+    /**
+     * Executes a chart request over an arbitrary time span.
+     *
+     * <p>
+     * Execution flow:
+     * <ol>
+     *   <li>Split {@code [start, end)} into windows within Yahoo's
+     *       per-request limit for {@code interval}</li>
+     *   <li>Send every window concurrently through
+     *       {@link #requestCoordinatorAsync} (rate limited, cached and
+     *       coalesced like any other request)</li>
+     *   <li>Stitch the {@code chart.result[0]} arrays into one
+     *       ordered series, dropping duplicated timestamps</li>
+     * </ol>
+     *
+     * <p>
+     * When a single window is enough, the Yahoo response is returned
+     * unchanged.
+     *
+     * @param symbol asset ticker symbol
+     * @param start first instant (inclusive)
+     * @param end last instant (exclusive)
+     * @param interval bar interval
+     * @param events corporate events, or {@code null}
+     * @return chart response covering the whole span
+     * @throws IllegalArgumentException if {@code start} is not before {@code end}
+     */
+    public JsonNode requestHistoryRange(
+            String symbol,
+            Instant start,
+            Instant end,
+            String interval,
+            String events) {
+
+        return join(requestHistoryRangeAsync(symbol, start, end, interval, events));
+    }
+
+    /**
+     * Asynchronous variant of {@link #requestHistoryRange}.
+     *
+     * @param symbol asset ticker symbol
+     * @param start first instant (inclusive)
+     * @param end last instant (exclusive)
+     * @param interval bar interval
+     * @param events corporate events, or {@code null}
+     * @return future completed with the chart response covering the whole span
+     * @throws IllegalArgumentException if {@code start} is not before {@code end}
+     */
+    public CompletableFuture<JsonNode> requestHistoryRangeAsync(
+            String symbol,
+            Instant start,
+            Instant end,
+            String interval,
+            String events) {
+
+        List<YahooChartWindows.Window> windows = YahooChartWindows.split(start, end, interval);
+        List<CompletableFuture<JsonNode>> responses = new ArrayList<>();
+
+        for (YahooChartWindows.Window window : windows) {
+            responses.add(requestCoordinatorAsync(
+                    symbol,
+                    YahooApiType.HISTORY,
+                    YahooChartWindows.params(window, interval, events)));
+        }
+
+        if (responses.size() == 1) {
+            return responses.get(0);
+        }
+
+        return CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> YahooChartWindows.stitch(
+                        responses.stream().map(CompletableFuture::join).toList()));
+    }
+
+    /**
+     * Executes a chart request and decodes it into a {@link PriceSeries}.
+     *
+     * <p>
+     * Follows the same flow as {@link #requestCoordinator} (session,
+     * crumb, rate limit and a single retry on authentication failure),
+     * but the chart payload is decoded while it is streamed, straight
+     * into primitive columns. The response cache and in-flight
+     * coalescing apply to raw {@link JsonNode} responses only and are
+     * not used here.
+     *
+     * @param symbol asset ticker symbol
+     * @param params chart query parameters (range, interval, events)
+     * @param retainRaw whether the raw chart {@link JsonNode} is kept
+     *                  and exposed through {@link PriceSeries#getRaw()}
+     * @return decoded price series
+     */
+    public PriceSeries requestPriceSeries(
+            String symbol,
+            Map<String, String> params,
+            boolean retainRaw) {
+
+        return fetch(YahooApiType.HISTORY,
+                (session, crumb) -> session.historyClient.requestSeries(symbol, params, crumb, retainRaw));
+    }
+
+    /**
+     * Asynchronous variant of {@link #requestPriceSeries}.
+     *
+     * @param symbol asset ticker symbol
+     * @param params chart query parameters (range, interval, events)
+     * @param retainRaw whether the raw chart {@link JsonNode} is kept
+     * @return future completed with the decoded price series
+     */
+    public CompletableFuture<PriceSeries> requestPriceSeriesAsync(
+            String symbol,
+            Map<String, String> params,
+            boolean retainRaw) {
+
+        return fetchAsync(YahooApiType.HISTORY,
+                (session, crumb) -> session.historyClient.requestSeriesAsync(symbol, params, crumb, retainRaw));
+    }
+
+    /**
+     * Executes a quoteSummary request and buffers each module for lazy
+     * decoding into a {@link QuoteSummary}.
+     *
+     * <p>
+     * Follows the same flow as {@link #requestCoordinator}. As with
+     * {@link #requestPriceSeries}, the response cache and in-flight
+     * coalescing apply to raw {@link JsonNode} responses only and are
+     * not used here.
+     *
+     * @param symbol asset ticker symbol
+     * @param params quoteSummary query parameters (modules)
+     * @return buffered modules
+     */
+    public QuoteSummary requestQuoteSummary(
+            String symbol,
+            Map<String, String> params) {
+
+        return fetch(YahooApiType.QUOTE_SUMMARY,
+                (session, crumb) -> session.quoteSummaryClient.requestSummary(symbol, params, crumb));
+    }
+
+    /**
+     * Asynchronous variant of {@link #requestQuoteSummary}.
+     *
+     * @param symbol asset ticker symbol
+     * @param params quoteSummary query parameters (modules)
+     * @return future completed with the buffered modules
+     */
+    public CompletableFuture<QuoteSummary> requestQuoteSummaryAsync(
+            String symbol,
+            Map<String, String> params) {
+
+        return fetchAsync(YahooApiType.QUOTE_SUMMARY,
+                (session, crumb) -> session.quoteSummaryClient.requestSummaryAsync(symbol, params, crumb));
+    }
+
+    /**
+     * Returns historical bars from the local bar store, downloading
+     * only the bars missing from it.
+     *
+     * <p>
+     * Execution flow:
+     * <ol>
+     *   <li>Look up the last stored bar of the symbol/interval</li>
+     *   <li>If none, download the full {@code range}</li>
+     *   <li>Otherwise download only {@code period1 = last bar} to now
+     *       (the last bar is refreshed, as it may have been in progress)</li>
+     *   <li>Append the new bars and return a zero-copy view of the store</li>
+     * </ol>
+     *
+     * @param symbol asset ticker symbol
+     * @param range time range downloaded when nothing is stored yet
+     * @param interval bar interval
+     * @return stored bars, including the newly downloaded ones
+     * @throws IllegalStateException if the bar store is not configured
+     */
+    public StoredBars requestStoredHistory(String symbol, String range, String interval) {
+
+        BarStore store = requireBarStore();
+
+        PriceSeries missing = requestPriceSeries(
+                symbol,
+                missingBarsParams(store, symbol, range, interval),
+                false);
+
+        store.append(symbol, interval, missing);
+        return store.read(symbol, interval);
+    }
+
+    /**
+     * Asynchronous variant of {@link #requestStoredHistory}.
+     *
+     * @param symbol asset ticker symbol
+     * @param range time range downloaded when nothing is stored yet
+     * @param interval bar interval
+     * @return future completed with the stored bars
+     */
+    public CompletableFuture<StoredBars> requestStoredHistoryAsync(
+            String symbol,
+            String range,
+            String interval) {
+
+        BarStore store = requireBarStore();
+
+        return requestPriceSeriesAsync(
+                symbol,
+                missingBarsParams(store, symbol, range, interval),
+                false)
+                .thenApply(missing -> {
+                    store.append(symbol, interval, missing);
+                    return store.read(symbol, interval);
+                });
+    }
+
+    /**
+     * Builds the chart parameters covering the bars missing from the store.
+     *
+     * @return {@code range} parameters when nothing is stored, otherwise
+     *         {@code period1}/{@code period2} from the last stored bar to now
+     */
+    private static Map<String, String> missingBarsParams(
+            BarStore store,
+            String symbol,
+            String range,
+            String interval) {
+
+        long last = store.lastTimestamp(symbol, interval);
+
+        if (last == BarStore.NO_BARS) {
+            return Map.of("range", range, "interval", interval);
+        }
+
+        return barsSinceParams(last, interval);
+    }
+
+    /**
+     * Builds the chart parameters covering {@code from} to now.
+     *
+     * @param from first bar timestamp, in epoch seconds (inclusive)
+     * @param interval bar interval
+     * @return {@code period1}/{@code period2} parameters
+     */
+    private static Map<String, String> barsSinceParams(long from, String interval) {
+        return Map.of(
+                "period1", String.valueOf(from),
+                "period2", String.valueOf(Instant.now().getEpochSecond()),
+                "interval", interval);
+    }
+
+    /**
+     * Brings a held price series up to date.
+     *
+     * <p>
+     * Only the bars from the last held bar to now are requested
+     * (explicit {@code period1}/{@code period2}), then merged through
+     * {@link HistorySyncResult#merge}.
+     *
+     * @param symbol asset ticker symbol
+     * @param interval bar interval of {@code current}
+     * @param current held series
+     * @return merged series and what changed
+     * @throws IllegalArgumentException if {@code current} is empty
+     */
+    public HistorySyncResult requestHistorySync(
+            String symbol,
+            String interval,
+            PriceSeries current) {
+
+        PriceSeries fetched = requestPriceSeries(
+                symbol,
+                barsSinceParams(lastTimestamp(current), interval),
+                false);
+
+        return HistorySyncResult.merge(current, fetched);
+    }
+
+    /**
+     * Asynchronous variant of {@link #requestHistorySync}.
+     *
+     * @param symbol asset ticker symbol
+     * @param interval bar interval of {@code current}
+     * @param current held series
+     * @return future completed with the merged series and what changed
+     * @throws IllegalArgumentException if {@code current} is empty
+     */
+    public CompletableFuture<HistorySyncResult> requestHistorySyncAsync(
+            String symbol,
+            String interval,
+            PriceSeries current) {
+
+        return requestPriceSeriesAsync(
+                symbol,
+                barsSinceParams(lastTimestamp(current), interval),
+                false)
+                .thenApply(fetched -> HistorySyncResult.merge(current, fetched));
+    }
+
+    /**
+     * @return timestamp of the last bar of {@code series}
+     * @throws IllegalArgumentException if {@code series} is empty
+     */
+    private static long lastTimestamp(PriceSeries series) {
+        if (series.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "Cannot sync an empty series; download it with a range first");
+        }
+        return series.getTimestamps()[series.size() - 1];
+    }
+
+    /**
+     * @return the configured bar store
+     * @throws IllegalStateException if the bar store is not configured
+     */
+    private BarStore requireBarStore() {
+        if (barStore == null) {
+            throw new IllegalStateException(
+                    "Bar store is not configured (see YahooConfig.Builder#barStore)");
+        }
+        return barStore;
+    }
+
+    /**
+     * Executes a call against Yahoo on the next pooled session,
+     * bypassing the cache, and reports the outcome to the pool.
+     *
+     * @param <T> response type
+     * @param apiType type of Yahoo API being called (selects the rate limit)
+     * @param call sends the request with the session's clients and crumb
+     * @return Yahoo response
+     */
+    private <T> T fetch(
+            YahooApiType apiType,
+            BiFunction<YahooPooledSession, String, T> call) {
+
+        YahooPooledSession session = sessions.acquire();
+
+        try {
+            T response = fetch(session, apiType, crumb -> call.apply(session, crumb));
+            sessions.onSuccess(session);
+            return response;
+
+        } catch (Throwable t) {
+            sessions.onFailure(session, t);
+            throw t;
+        }
+    }
+
+    /**
+     * Executes a call against Yahoo on {@code session} (cookies, crumb,
+     * rate limit, dispatch and authentication retry).
+     *
+     * @param <T> response type
+     * @param session pooled session serving the request
+     * @param apiType type of Yahoo API being called (selects the rate limit)
+     * @param call sends the request with the given crumb
+     * @return Yahoo response
+     */
+    private <T> T fetch(
+            YahooPooledSession session,
+            YahooApiType apiType,
+            Function<String, T> call) {
+
         // Obtain a valid crumb before dispatching the request
-        String crumb = getValidCrumb();
+        String crumb = getValidCrumb(session);
+
+        // Identify the session (cookies) used by this request
+        long generation = session.sessionManager.generation();
 
         try {
             // Execute the request using the current crumb
-            return dispatch(symbol, apiType, params, crumb);
+            return throttledDispatch(session, apiType, call, crumb);
 
         } catch (YahooAuthException e) {
             // Authentication failed (expired crumb or session)
 
-            // Clear cached crumb to force regeneration
-            YahooCrumbStore.clear();
+            // Discard the rejected crumb and session to force regeneration
+            session.crumbProvider.invalidate(crumb);
+            session.sessionManager.invalidate(generation);
+
+            // Obtain a new crumb (recapturing cookies first) and retry the request once
+            String newCrumb = session.crumbProvider.getCrumb();
+
+            return throttledDispatch(session, apiType, call, newCrumb);
+        }
+    }
+
+    /**
+     * Asynchronous variant of {@link #requestCoordinator}.
+     *
+     * <p>
+     * Follows the same execution flow (session, crumb, dispatch and a
+     * single retry on authentication failure), but every step uses
+     * {@link java.net.http.HttpClient#sendAsync}, so no thread is blocked
+     * while waiting for Yahoo.
+     *
+     * @param symbol asset ticker symbol (may be {@code null} for SEARCH)
+     * @param apiType type of Yahoo API to call
+     * @param params query parameters for the request
+     * @return future completed with the Yahoo response
+     */
+    public CompletableFuture<JsonNode> requestCoordinatorAsync(
+            String symbol,
+            YahooApiType apiType,
+            Map<String, String> params) {
+
+        YahooRequestKey key = YahooRequestKey.of(symbol, apiType, params);
+
+        if (cache != null) {
+            JsonNode cached = cache.get(key);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+        }
+
+        return coalesceAsync(key, () -> fetchAsync(apiType,
+                        (session, crumb) -> dispatchAsync(session, symbol, apiType, params, crumb))
+                .thenApply(response -> {
+                    if (cache != null) {
+                        cache.put(key, response);
+                    }
+                    return response;
+                }));
+    }
+
+    /**
+     * Starts the request through {@code fetch} unless an identical
+     * request is already in flight, in which case its future is shared.
+     *
+     * <p>
+     * Each caller receives its own {@linkplain CompletableFuture#copy()
+     * copy} of the shared future, so cancelling or completing the returned
+     * future never affects the other callers.
+     *
+     * @param key normalized request identity
+     * @param fetch starts the actual request
+     * @return future completed with the Yahoo response
+     */
+    private CompletableFuture<JsonNode> coalesceAsync(
+            YahooRequestKey key,
+            Supplier<CompletableFuture<JsonNode>> fetch) {
+
+        CompletableFuture<JsonNode> pending = new CompletableFuture<>();
+        CompletableFuture<JsonNode> leader = inFlight.putIfAbsent(key, pending);
+
+        if (leader != null) {
+            return leader.copy();
+        }
+
+        CompletableFuture<JsonNode> started;
+        try {
+            started = fetch.get();
+        } catch (Throwable t) {
+            // Still complete (and remove) the shared future
+            started = CompletableFuture.failedFuture(t);
+        }
+
+        started.whenComplete((response, error) -> {
+            inFlight.remove(key, pending);
+
+            if (error != null) {
+                pending.completeExceptionally(YahooFutures.unwrap(error));
+            } else {
+                pending.complete(response);
+            }
+        });
+
+        return pending.copy();
+    }
+
+    /**
+     * Asynchronous variant of {@link #fetch(YahooApiType, BiFunction)}.
+     *
+     * @param <T> response type
+     * @param apiType type of Yahoo API being called (selects the rate limit)
+     * @param call sends the request with the session's clients and crumb
+     * @return future completed with the Yahoo response
+     */
+    private <T> CompletableFuture<T> fetchAsync(
+            YahooApiType apiType,
+            BiFunction<YahooPooledSession, String, CompletableFuture<T>> call) {
+
+        YahooPooledSession session = sessions.acquire();
+
+        CompletableFuture<T> response;
+        try {
+            response = fetchAsync(session, apiType, crumb -> call.apply(session, crumb));
+        } catch (Throwable t) {
+            sessions.onFailure(session, t);
+            throw t;
+        }
+
+        return response
+                .whenComplete((result, error) -> {
+                    if (error == null) {
+                        sessions.onSuccess(session);
+                    } else {
+                        sessions.onFailure(session, YahooFutures.unwrap(error));
+                    }
+                });
+    }
+
+    /**
+     * Asynchronous variant of
+     * {@link #fetch(YahooPooledSession, YahooApiType, Function)}.
+     *
+     * @param <T> response type
+     * @param session pooled session serving the request
+     * @param apiType type of Yahoo API being called (selects the rate limit)
+     * @param call sends the request with the given crumb
+     * @return future completed with the Yahoo response
+     */
+    private <T> CompletableFuture<T> fetchAsync(
+            YahooPooledSession session,
+            YahooApiType apiType,
+            Function<String, CompletableFuture<T>> call) {
+
+        return getValidCrumbAsync(session)
+                .thenCompose(crumb -> {
+
+                    // Identify the session (cookies) used by this request
+                    long generation = session.sessionManager.generation();
+
+                    return throttledDispatchAsync(session, apiType, call, crumb)
+                            .exceptionallyCompose(error -> {
+
+                                if (!(YahooFutures.unwrap(error) instanceof YahooAuthException)) {
+                                    return CompletableFuture.failedFuture(YahooFutures.unwrap(error));
+                                }
+
+                                // Discard the rejected crumb and session to force regeneration
+                                session.crumbProvider.invalidate(crumb);
+                                session.sessionManager.invalidate(generation);
+
+                                // Obtain a new crumb (recapturing cookies first) and retry once
+                                return session.crumbProvider.getCrumbAsync()
+                                        .thenCompose(newCrumb ->
+                                                throttledDispatchAsync(session, apiType, call, newCrumb));
+                            });
+                });
+    }
+
+    /**
+     * Executes multi-symbol quote requests and returns the quote
+     * of each symbol individually.
+     *
+     * <p>
+     * Execution flow:
+     * <ol>
+     *   <li>Remove blank and duplicated symbols</li>
+     *   <li>Split the symbols into URL-length-safe batches</li>
+     *   <li>Send each batch through {@link #requestCoordinator}</li>
+     *   <li>Demultiplex {@code quoteResponse.result} by symbol</li>
+     * </ol>
+     *
+     * <p>
+     * Symbols not returned by Yahoo (e.g. invalid tickers) are
+     * absent from the returned map.
+     *
+     * @param symbols asset ticker symbols
+     * @return map of requested symbol to its quote entry, in request order
+     */
+    public Map<String, JsonNode> requestQuotes(Collection<String> symbols) {
+
+        Map<String, JsonNode> quotes = new LinkedHashMap<>();
+
+        for (List<String> batch : partition(BulkExecutor.uniqueSymbols(symbols))) {
+
+            JsonNode response = requestCoordinator(
+                    String.join(",", batch),
+                    YahooApiType.QUOTE,
+                    Map.of());
+
+            demultiplex(batch, response, quotes);
+        }
+
+        return quotes;
+    }
+
+    /**
+     * Asynchronous variant of {@link #requestQuotes(Collection)}.
+     *
+     * <p>
+     * All batches are sent concurrently.
+     *
+     * @param symbols asset ticker symbols
+     * @return future completed with the map of requested symbol to its
+     *         quote entry, in request order
+     */
+    public CompletableFuture<Map<String, JsonNode>> requestQuotesAsync(Collection<String> symbols) {
+
+        List<List<String>> batches = partition(BulkExecutor.uniqueSymbols(symbols));
+        List<CompletableFuture<JsonNode>> responses = new ArrayList<>();
+
+        for (List<String> batch : batches) {
+            responses.add(requestCoordinatorAsync(
+                    String.join(",", batch),
+                    YahooApiType.QUOTE,
+                    Map.of()));
+        }
+
+        return CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    Map<String, JsonNode> quotes = new LinkedHashMap<>();
+                    for (int i = 0; i < batches.size(); i++) {
+                        demultiplex(batches.get(i), responses.get(i).join(), quotes);
+                    }
+                    return quotes;
+                });
+    }
+
+    /**
+     * Maps each symbol of a batch to its entry in
+     * {@code quoteResponse.result}.
+     *
+     * @param batch symbols sent in the request
+     * @param response multi-symbol quote response
+     * @param quotes target map
+     */
+    static void demultiplex(
+            List<String> batch,
+            JsonNode response,
+            Map<String, JsonNode> quotes) {
+
+        // Index returned entries by symbol (Yahoo normalizes case)
+        Map<String, JsonNode> bySymbol = new HashMap<>();
+        for (JsonNode entry : response.path("quoteResponse").path("result")) {
+            bySymbol.put(
+                    entry.path("symbol").asText().toUpperCase(Locale.ROOT),
+                    entry);
+        }
+
+        for (String symbol : batch) {
+            JsonNode entry = bySymbol.get(symbol.toUpperCase(Locale.ROOT));
+            if (entry != null) {
+                quotes.put(symbol, entry);
+            }
+        }
+    }
+
+    /**
+     * Returns the response cache statistics.
+     *
+     * @return cache statistics, or {@code null} if caching is disabled
+     */
+    public YahooCacheStats cacheStats() {
+        return cache == null ? null : cache.stats();
+    }
+
+    /**
+     * Returns the response transfer statistics (compressed size on the
+     * wire versus decompressed size).
+     *
+     * @return transfer statistics
+     */
+    public YahooTransferStats transferStats() {
+        return transferMeter.stats();
+    }
 
-            // Re-initialize session (recapture cookies)
-            sessionManager.getClient();
+    /**
+     * Closes the Yahoo sessions and the bar store (if configured).
+     *
+     * <p>
+     * Requests issued afterwards fail.
+     *
+     * @throws UncheckedIOException if a bar file cannot be closed
+     */
+    public void close() {
+        sessions.close();
 
-            // Obtain a new crumb and retry the request once
-            String newCrumb = crumbProvider.getCrumb();
+        if (barStore != null) {
+            try {
+                barStore.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to close bar store", e);
+            }
+        }
+    }
+
+    /**
+     * Splits symbols into batches respecting both
+     * {@link #MAX_SYMBOLS_PER_BATCH} and {@link #MAX_SYMBOLS_LENGTH}.
+     *
+     * @param symbols unique, non-blank symbols
+     * @return list of symbol batches
+     */
+    static List<List<String>> partition(Collection<String> symbols) {
+
+        List<List<String>> batches = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        int length = 0;
 
-            return dispatch(symbol, apiType, params, newCrumb);
+        for (String symbol : symbols) {
+
+            // +1 accounts for the comma separator
+            int added = symbol.length() + (current.isEmpty() ? 0 : 1);
+
+            if (!current.isEmpty()
+                    && (current.size() >= MAX_SYMBOLS_PER_BATCH
+                    || length + added > MAX_SYMBOLS_LENGTH)) {
+                batches.add(current);
+                current = new ArrayList<>();
+                length = 0;
+                added = symbol.length();
+            }
+
+            current.add(symbol);
+            length += added;
         }
+
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+
+        return batches;
+    }
+
+    /**
+     * Dispatches the request once the session's endpoint rate limiter
+     * allows it, and feeds the outcome back into the limiter.
+     *
+     * @param <T> response type
+     * @param session pooled session serving the request
+     * @param apiType Yahoo API type
+     * @param call sends the request with the given crumb
+     * @param crumb valid Yahoo crumb
+     * @return Yahoo response
+     */
+    private <T> T throttledDispatch(
+            YahooPooledSession session,
+            YahooApiType apiType,
+            Function<String, T> call,
+            String crumb) {
+
+        YahooRateLimiter rateLimiter = session.rateLimiter;
+        rateLimiter.acquire(apiType);
+
+        try {
+            T response = call.apply(crumb);
+            rateLimiter.onSuccess(apiType);
+            return response;
+
+        } catch (YahooRateLimitException e) {
+            rateLimiter.onRateLimited(apiType, e.getRetryAfter().orElse(null));
+            throw e;
+        }
+    }
+
+    /**
+     * Asynchronous variant of {@link #throttledDispatch}.
+     *
+     * @param <T> response type
+     * @param session pooled session serving the request
+     * @param apiType Yahoo API type
+     * @param call sends the request with the given crumb
+     * @param crumb valid Yahoo crumb
+     * @return future completed with the Yahoo response
+     */
+    private <T> CompletableFuture<T> throttledDispatchAsync(
+            YahooPooledSession session,
+            YahooApiType apiType,
+            Function<String, CompletableFuture<T>> call,
+            String crumb) {
+
+        YahooRateLimiter rateLimiter = session.rateLimiter;
+
+        return rateLimiter.acquireAsync(apiType)
+                .thenCompose(ignored -> call.apply(crumb))
+                .whenComplete((response, error) -> {
+                    if (error == null) {
+                        rateLimiter.onSuccess(apiType);
+                    } else if (YahooFutures.unwrap(error) instanceof YahooRateLimitException e) {
+                        rateLimiter.onRateLimited(apiType, e.getRetryAfter().orElse(null));
+                    }
+                });
     }
 
     /**
      * Dispatches the request to the appropriate Yahoo client
      * based on the API type.
      *
+     * @param session pooled session serving the request
      * @param symbol asset ticker symbol
      * @param apiType Yahoo API type
      * @param params query parameters
@@ -133,6 +1002,44 @@ public class YahooRequestCoordinator {
      * @return Yahoo response as {@link JsonNode}
      */
     private JsonNode dispatch(
+            YahooPooledSession session,
+            String symbol,
+            YahooApiType apiType,
+            Map<String, String> params,
+            String crumb) {
+
+        return switch (apiType) {
+
+            case QUOTE_SUMMARY ->
+                session.quoteSummaryClient.request(symbol, params, crumb);
+
+            case QUOTE ->
+                session.quoteClient.request(symbol, params, crumb);
+
+            case HISTORY ->
+                session.historyClient.request(symbol, params, crumb);
+
+            case SEARCH ->
+                session.searchClient.request(params, crumb);
+
+            default ->
+                throw new IllegalArgumentException(
+                        "Unsupported Yahoo API type: " + apiType);
+        };
+    }
+
+    /**
+     * Asynchronous variant of {@link #dispatch}.
+     *
+     * @param session pooled session serving the request
+     * @param symbol asset ticker symbol
+     * @param apiType Yahoo API type
+     * @param params query parameters
+     * @param crumb valid Yahoo crumb
+     * @return future completed with the Yahoo response
+     */
+    private CompletableFuture<JsonNode> dispatchAsync(
+            YahooPooledSession session,
             String symbol,
             YahooApiType apiType,
             Map<String, String> params,
@@ -141,16 +1048,16 @@ public class YahooRequestCoordinator {
         return switch (apiType) {
 
             case QUOTE_SUMMARY ->
-                quoteSummaryClient.request(symbol, params, crumb);
+                session.quoteSummaryClient.requestAsync(symbol, params, crumb);
 
             case QUOTE ->
-                quoteClient.request(symbol, params, crumb);
+                session.quoteClient.requestAsync(symbol, params, crumb);
 
             case HISTORY ->
-                historyClient.request(symbol, params, crumb);
+                session.historyClient.requestAsync(symbol, params, crumb);
 
             case SEARCH ->
-                searchClient.request(params, crumb);
+                session.searchClient.requestAsync(params, crumb);
 
             default ->
                 throw new IllegalArgumentException(
@@ -167,24 +1074,20 @@ public class YahooRequestCoordinator {
      * <ol>
      *   <li>Ensure cookies are available</li>
      *   <li>Reuse cached crumb if still valid</li>
-     *   <li>Fetch a new crumb if necessary</li>
+     *   <li>Fetch a new crumb if necessary (single-flight)</li>
      * </ol>
      *
+     * @param session pooled session serving the request
      * @return a valid Yahoo crumb
      * @throws YahooAuthException if a crumb cannot be obtained
      */
-    private String getValidCrumb() {
+    private String getValidCrumb(YahooPooledSession session) {
 
         // Always ensure a valid session before requesting a crumb
-        sessionManager.getClient(); // forces ensureSession()
-
-        // Reuse cached crumb if still valid
-        if (YahooCrumbStore.isValid()) {
-            return YahooCrumbStore.get();
-        }
+        session.sessionManager.getClient(); // single volatile read once initialized
 
-        // Fetch a new crumb
-        String crumb = crumbProvider.getCrumb();
+        // Cached crumb, or the single in-flight crumb request
+        String crumb = session.crumbProvider.getCrumb();
 
         // Defensive validation
         if (crumb == null || crumb.isBlank()) {
@@ -193,4 +1096,46 @@ public class YahooRequestCoordinator {
 
         return crumb;
     }
+
+    /**
+     * Asynchronous variant of {@link #getValidCrumb(YahooPooledSession)}.
+     *
+     * @param session pooled session serving the request
+     * @return future completed with a valid Yahoo crumb
+     */
+    private CompletableFuture<String> getValidCrumbAsync(YahooPooledSession session) {
+
+        // Always ensure a valid session before requesting a crumb
+        return session.sessionManager.getClientAsync()
+                .thenCompose(client -> session.crumbProvider.getCrumbAsync())
+                .thenApply(crumb -> {
+
+                    // Defensive validation
+                    if (crumb == null || crumb.isBlank()) {
+                        throw new YahooAuthException("Failed to obtain Yahoo crumb");
+                    }
+
+                    return crumb;
+                });
+    }
+
+    /**
+     * Waits for a pending request (started by another caller or
+     * asynchronously), rethrowing its failure unwrapped.
+     *
+     * @param pending future of the request
+     * @return Yahoo response
+     * @throws RuntimeException the failure reported by the request
+     */
+    private static JsonNode join(CompletableFuture<JsonNode> pending) {
+        try {
+            return pending.join();
+
+        } catch (CompletionException e) {
+            if (YahooFutures.unwrap(e) instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
 }
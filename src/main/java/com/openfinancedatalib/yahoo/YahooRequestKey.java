@@ -0,0 +1,122 @@
+package com.openfinancedatalib.yahoo;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import com.openfinancedatalib.yahoo.enums.YahooApiType;
+
+/**
+ * Identity of a Yahoo Finance request.
+ *
+ * <p>
+ * Two requests with equal keys return the same Yahoo data,
+ * which allows responses to be shared between callers.
+ *
+ * <p>
+ * Normalization rules:
+ * <ul>
+ *   <li>Symbols are compared case-insensitively</li>
+ *   <li>Parameters are compared regardless of insertion order</li>
+ *   <li>The {@code modules} parameter is compared regardless of
+ *       module order, whitespace and duplicates</li>
+ * </ul>
+ */
+public final class YahooRequestKey {
+
+    private final String symbol;
+    private final YahooApiType apiType;
+    private final Map<String, String> params;
+    private final int hash;
+
+    private YahooRequestKey(String symbol, YahooApiType apiType, Map<String, String> params) {
+        this.symbol = symbol;
+        this.apiType = apiType;
+        this.params = params;
+        this.hash = Objects.hash(symbol, apiType, params);
+    }
+
+    /**
+     * Creates a normalized request key.
+     *
+     * @param symbol asset ticker symbol (may be {@code null} for SEARCH)
+     * @param apiType Yahoo API type
+     * @param params query parameters (may be {@code null})
+     * @return the request key
+     */
+    public static YahooRequestKey of(
+            String symbol,
+            YahooApiType apiType,
+            Map<String, String> params) {
+
+        Map<String, String> normalized = new TreeMap<>();
+
+        if (params != null) {
+            params.forEach((name, value) -> {
+                if (value != null) {
+                    normalized.put(name, "modules".equals(name) ? normalizeModules(value) : value);
+                }
+            });
+        }
+
+        return new YahooRequestKey(
+                symbol == null ? null : symbol.trim().toUpperCase(Locale.ROOT),
+                apiType,
+                normalized);
+    }
+
+    /**
+     * @return normalized symbol, or {@code null}
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * @return Yahoo API type
+     */
+    public YahooApiType getApiType() {
+        return apiType;
+    }
+
+    /**
+     * @return normalized, sorted parameters
+     */
+    public Map<String, String> getParams() {
+        return params;
+    }
+
+    private static String normalizeModules(String modules) {
+        return String.join(",", Arrays.stream(modules.split(","))
+                .map(String::trim)
+                .filter(module -> !module.isEmpty())
+                .distinct()
+                .sorted()
+                .toList());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof YahooRequestKey key)) {
+            return false;
+        }
+        return apiType == key.apiType
+                && Objects.equals(symbol, key.symbol)
+                && params.equals(key.params);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return apiType + ":" + symbol + params;
+    }
+}
@@ -0,0 +1,199 @@
+package com.openfinancedatalib.yahoo;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+import com.openfinancedatalib.yahoo.exception.YahooAuthException;
+
+/**
+ * Fixed-size pool of independent Yahoo sessions.
+ *
+ * <p>
+ * Yahoo applies its limits per session (cookies and crumb). Spreading
+ * requests over several sessions, each with its own cookie jar, crumb
+ * and rate limiter, lets throughput grow with the pool size until
+ * Yahoo's IP-level limits apply.
+ *
+ * <p>
+ * Requests are assigned to sessions in turn. A session is considered
+ * unhealthy after {@value #MAX_CONSECUTIVE_FAILURES} consecutive
+ * {@link YahooAuthException}s (Yahoo rejected the session even after
+ * the crumb and cookies were renewed). An unhealthy session is
+ * recycled: its slot gets a fresh session (new cookies, crumb and rate
+ * limiter). Calls already running on the old session complete normally
+ * (including their authentication retry); its HttpClient is closed when
+ * the last of them ends.
+ *
+ * <p>
+ * Every {@link #acquire()} must be followed by exactly one
+ * {@link #onSuccess} or {@link #onFailure} call, which ends the call.
+ *
+ * <p>
+ * Other failures do not count against the session. In particular, a
+ * {@code 429} is handled by the session's own rate limiter (slower rate
+ * and {@code Retry-After} pause): recycling the session would discard
+ * that state and resume at full rate. Host failures are tracked by the
+ * {@link com.openfinancedatalib.yahoo.endpoint.YahooEndpointResolver}.
+ *
+ * <p>
+ * This class is thread-safe.
+ */
+final class YahooSessionPool {
+
+    /**
+     * Consecutive session-level failures after which a session is recycled.
+     */
+    static final int MAX_CONSECUTIVE_FAILURES = 3;
+
+    /** Current session of each slot */
+    private final AtomicReferenceArray<YahooPooledSession> slots;
+
+    /** Creates fresh sessions */
+    private final Supplier<YahooPooledSession> factory;
+
+    /** Round-robin position */
+    private final AtomicInteger next = new AtomicInteger();
+
+    /** Set once the pool has been closed */
+    private volatile boolean closed;
+
+    /**
+     * Creates a pool of {@code size} sessions.
+     *
+     * @param size number of sessions
+     * @param factory creates a fresh session
+     * @throws IllegalArgumentException if {@code size} is less than 1
+     */
+    YahooSessionPool(int size, Supplier<YahooPooledSession> factory) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Session pool size must be at least 1");
+        }
+
+        this.slots = new AtomicReferenceArray<>(size);
+        this.factory = factory;
+
+        for (int i = 0; i < size; i++) {
+            slots.set(i, factory.get());
+        }
+    }
+
+    /**
+     * Starts a call on the session the next request should use.
+     *
+     * <p>
+     * A session being recycled is skipped until its slot holds the
+     * replacement, so a call never starts on a session whose HttpClient
+     * may already be closed.
+     *
+     * @return a pooled session
+     * @throws IllegalStateException if the pool is closed
+     */
+    YahooPooledSession acquire() {
+        int slot = Math.floorMod(next.getAndIncrement(), slots.length());
+
+        for (;;) {
+            YahooPooledSession session = slots.get(slot);
+            session.inFlight.incrementAndGet();
+
+            if (!session.retired.get()) {
+                return session;
+            }
+
+            release(session);
+            if (closed) {
+                throw new IllegalStateException("Yahoo session pool is closed");
+            }
+
+            // Recycled concurrently: wait for the replacement
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Ends a successful call.
+     *
+     * @param session session that served the request
+     */
+    void onSuccess(YahooPooledSession session) {
+        if (session.consecutiveFailures.get() != 0) {
+            session.consecutiveFailures.set(0);
+        }
+        release(session);
+    }
+
+    /**
+     * Ends a failed call, recycling the session when it became
+     * unhealthy.
+     *
+     * @param session session that served the request
+     * @param error failure raised by the request
+     */
+    void onFailure(YahooPooledSession session, Throwable error) {
+        if (error instanceof YahooAuthException
+                && session.consecutiveFailures.incrementAndGet() >= MAX_CONSECUTIVE_FAILURES) {
+            recycle(session);
+        }
+        release(session);
+    }
+
+    /**
+     * Closes every current session.
+     *
+     * <p>
+     * Calls still running are aborted.
+     */
+    void close() {
+        closed = true;
+
+        for (int i = 0; i < slots.length(); i++) {
+            YahooPooledSession session = slots.get(i);
+            session.retired.set(true);
+            session.close();
+        }
+    }
+
+    /**
+     * Replaces {@code session} with a fresh one.
+     *
+     * <p>
+     * Only the first of concurrent failures of the same session builds
+     * the replacement. The old session is closed by the last call
+     * releasing it (the caller recycling it holds one). If the
+     * replacement cannot be created, the old session is kept.
+     *
+     * @param session unhealthy session
+     */
+    private void recycle(YahooPooledSession session) {
+        if (!session.retired.compareAndSet(false, true)) {
+            return;
+        }
+
+        YahooPooledSession fresh;
+        try {
+            fresh = factory.get();
+        } catch (RuntimeException e) {
+            session.retired.set(false);
+            return;
+        }
+
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) == session) {
+                slots.set(i, fresh);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Ends a call, closing its session if it was the last call of a
+     * recycled session.
+     *
+     * @param session session that served the call
+     */
+    private void release(YahooPooledSession session) {
+        if (session.inFlight.decrementAndGet() == 0 && session.retired.get()) {
+            session.close();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.openfinancedatalib.yahoo.cache;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.openfinancedatalib.yahoo.enums.YahooApiType;
+
+/**
+ * Settings of the {@link YahooResponseCache}.
+ *
+ * <p>
+ * Instances are immutable and created through {@link #builder()}.
+ * Default TTLs follow how often each kind of data changes:
+ * <ul>
+ *   <li>Quotes: 5 seconds</li>
+ *   <li>History and quoteSummary: 1 minute</li>
+ *   <li>Search: 10 minutes</li>
+ *   <li>Financial statements: 12 hours</li>
+ *   <li>Calendar events and ownership: 6 hours</li>
+ *   <li>Company profile: 24 hours</li>
+ * </ul>
+ */
+public final class YahooCacheSettings {
+
+    private final int maxEntries;
+    private final Map<YahooApiType, Duration> ttls;
+    private final Map<String, Duration> moduleTtls;
+
+    private YahooCacheSettings(Builder builder) {
+        this.maxEntries = builder.maxEntries;
+        this.ttls = Collections.unmodifiableMap(new EnumMap<>(builder.ttls));
+        this.moduleTtls = Collections.unmodifiableMap(new HashMap<>(builder.moduleTtls));
+    }
+
+    /**
+     * @return default cache settings
+     */
+    public static YahooCacheSettings defaults() {
+        return builder().build();
+    }
+
+    /**
+     * @return a new builder pre-populated with default values
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /** @return maximum number of cached responses */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * @param apiType Yahoo endpoint
+     * @return time-to-live of responses of that endpoint
+     */
+    public Duration getTtl(YahooApiType apiType) {
+        return ttls.getOrDefault(apiType, Duration.ZERO);
+    }
+
+    /** @return time-to-live per quoteSummary module */
+    public Map<String, Duration> getModuleTtls() {
+        return moduleTtls;
+    }
+
+    /**
+     * Builder for {@link YahooCacheSettings}.
+     */
+    public static final class Builder {
+
+        private int maxEntries = 10_000;
+
+        private final Map<YahooApiType, Duration> ttls = new EnumMap<>(YahooApiType.class);
+
+        private final Map<String, Duration> moduleTtls = new HashMap<>();
+
+        private Builder() {
+            ttls.put(YahooApiType.QUOTE, Duration.ofSeconds(5));
+            ttls.put(YahooApiType.QUOTE_SUMMARY, Duration.ofMinutes(1));
+            ttls.put(YahooApiType.HISTORY, Duration.ofMinutes(1));
+            ttls.put(YahooApiType.SEARCH, Duration.ofMinutes(10));
+
+            for (String module : new String[] {
+                    "incomeStatementHistory", "incomeStatementHistoryQuarterly",
+                    "balanceSheetHistory", "balanceSheetHistoryQuarterly",
+                    "cashflowStatementHistory", "cashflowStatementHistoryQuarterly" }) {
+                moduleTtls.put(module, Duration.ofHours(12));
+            }
+
+            for (String module : new String[] {
+                    "calendarEvents", "institutionOwnership", "fundOwnership",
+                    "insiderHolders", "insiderTransactions" }) {
+                moduleTtls.put(module, Duration.ofHours(6));
+            }
+
+            moduleTtls.put("summaryProfile", Duration.ofHours(24));
+        }
+
+        /**
+         * Sets the maximum number of cached responses.
+         *
+         * @param maxEntries size bound
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maxEntries} is not positive
+         */
+        public Builder maxEntries(int maxEntries) {
+            if (maxEntries <= 0) {
+                throw new IllegalArgumentException("maxEntries must be positive");
+            }
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Sets the TTL of an endpoint. {@link Duration#ZERO} disables caching.
+         *
+         * @param apiType Yahoo endpoint
+         * @param ttl time-to-live
+         * @return this builder
+         */
+        public Builder ttl(YahooApiType apiType, Duration ttl) {
+            ttls.put(apiType, ttl);
+            return this;
+        }
+
+        /**
+         * Sets the TTL of a quoteSummary module. {@link Duration#ZERO}
+         * disables caching of any request including that module.
+         *
+         * @param module quoteSummary module name (e.g. {@code financialData})
+         * @param ttl time-to-live
+         * @return this builder
+         */
+        public Builder moduleTtl(String module, Duration ttl) {
+            moduleTtls.put(module, ttl);
+            return this;
+        }
+
+        /**
+         * @return immutable cache settings
+         */
+        public YahooCacheSettings build() {
+            return new YahooCacheSettings(this);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.openfinancedatalib.yahoo.cache;
+
+/**
+ * Snapshot of {@link YahooResponseCache} statistics.
+ *
+ * <p>
+ * Values are cumulative since the cache was created.
+ */
+public final class YahooCacheStats {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final int size;
+
+    YahooCacheStats(long hits, long misses, long evictions, int size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+    }
+
+    /** @return number of lookups answered from the cache */
+    public long getHits() {
+        return hits;
+    }
+
+    /** @return number of lookups that required a Yahoo request */
+    public long getMisses() {
+        return misses;
+    }
+
+    /** @return number of entries removed to respect the size bound */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /** @return number of entries currently stored */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return fraction of lookups answered from the cache
+     *         ({@code 0} when no lookup happened)
+     */
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return "YahooCacheStats[hits=" + hits
+                + ", misses=" + misses
+                + ", evictions=" + evictions
+                + ", size=" + size
+                + ", hitRate=" + String.format("%.3f", getHitRate()) + "]";
+    }
+}
@@ -0,0 +1,180 @@
+package com.openfinancedatalib.yahoo.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.openfinancedatalib.yahoo.YahooRequestKey;
+import com.openfinancedatalib.yahoo.enums.YahooApiType;
+
+/**
+ * In-memory cache of Yahoo Finance responses.
+ *
+ * <p>
+ * Responses are keyed by {@link YahooRequestKey} (symbol, API type and
+ * normalized parameters) and expire after a TTL that depends on the
+ * endpoint and, for {@code quoteSummary}, on the requested modules.
+ *
+ * <p>
+ * Design notes:
+ * <ul>
+ *   <li>The number of entries is bounded; the least recently used entry
+ *       is evicted first (LRU)</li>
+ *   <li>A request for several modules uses the shortest TTL among them</li>
+ *   <li>A TTL of zero disables caching for that endpoint or module</li>
+ *   <li>Hits, misses and evictions are counted without locking</li>
+ * </ul>
+ *
+ * <p>
+ * IMPORTANT: cached {@link JsonNode} instances are shared between callers
+ * and must be treated as read-only.
+ */
+public class YahooResponseCache {
+
+    /**
+     * Cached response with its expiration instant.
+     */
+    private static final class Entry {
+
+        final JsonNode value;
+
+        /** Expiration instant ({@link System#nanoTime()} based) */
+        final long expiresAt;
+
+        Entry(JsonNode value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final YahooCacheSettings settings;
+
+    /** Access-ordered map: iteration starts at the least recently used entry */
+    private final LinkedHashMap<YahooRequestKey, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new {@code YahooResponseCache}.
+     *
+     * @param settings TTLs and size bound
+     */
+    public YahooResponseCache(YahooCacheSettings settings) {
+        this.settings = settings;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<YahooRequestKey, Entry> eldest) {
+                if (size() > settings.getMaxEntries()) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached response for a request, if still fresh.
+     *
+     * @param key request key
+     * @return the cached response, or {@code null} on a miss
+     */
+    public JsonNode get(YahooRequestKey key) {
+        Entry entry;
+
+        synchronized (entries) {
+            entry = entries.get(key);
+
+            if (entry != null && System.nanoTime() - entry.expiresAt >= 0) {
+                entries.remove(key);
+                entry = null;
+            }
+        }
+
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return entry.value;
+    }
+
+    /**
+     * Stores a response using the TTL configured for the request.
+     *
+     * <p>
+     * Nothing is stored when the resolved TTL is zero.
+     *
+     * @param key request key
+     * @param response Yahoo response
+     */
+    public void put(YahooRequestKey key, JsonNode response) {
+        Duration ttl = ttlFor(key);
+        if (ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+
+        Entry entry = new Entry(response, System.nanoTime() + ttl.toNanos());
+
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Removes every cached response.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * @return a snapshot of the cache statistics
+     */
+    public YahooCacheStats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new YahooCacheStats(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    /**
+     * Resolves the TTL of a request.
+     *
+     * <p>
+     * For {@code quoteSummary}, the shortest TTL among the requested
+     * modules is used; modules without a specific TTL use the endpoint TTL.
+     *
+     * @param key request key
+     * @return time-to-live of the response
+     */
+    Duration ttlFor(YahooRequestKey key) {
+        Duration endpointTtl = settings.getTtl(key.getApiType());
+
+        if (key.getApiType() != YahooApiType.QUOTE_SUMMARY) {
+            return endpointTtl;
+        }
+
+        String modules = key.getParams().get("modules");
+        if (modules == null || modules.isEmpty()) {
+            return endpointTtl;
+        }
+
+        Duration ttl = null;
+        for (String module : modules.split(",")) {
+            Duration moduleTtl = settings.getModuleTtls().getOrDefault(module, endpointTtl);
+            if (ttl == null || moduleTtl.compareTo(ttl) < 0) {
+                ttl = moduleTtl;
+            }
+        }
+        return ttl;
+    }
+}
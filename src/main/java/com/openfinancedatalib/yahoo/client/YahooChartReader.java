@@ -0,0 +1,351 @@
+package com.openfinancedatalib.yahoo.client;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.openfinancedatalib.history.PriceSeries;
+import com.openfinancedatalib.yahoo.exception.YahooUnavailableException;
+import com.openfinancedatalib.yahoo.validator.YahooResponseValidator;
+
+/**
+ * Decodes {@code /v8/finance/chart} payloads into {@link PriceSeries}.
+ *
+ * <p>
+ * The payload is read token by token, so OHLCV values go straight into
+ * primitive arrays without building intermediate {@link JsonNode}s.
+ * Only {@code chart.result[0]} is decoded; corporate events and other
+ * unknown fields are skipped.
+ *
+ * <p>
+ * The {@code chart.error} object is validated while reading through
+ * {@link YahooResponseValidator#validateError(JsonNode)}.
+ */
+final class YahooChartReader {
+
+    /** Initial capacity of the growable columns */
+    private static final int INITIAL_CAPACITY = 256;
+
+    /**
+     * Decodes a streamed chart payload.
+     *
+     * @param parser parser positioned on the root object
+     * @return decoded series (without raw payload)
+     * @throws IOException if the body cannot be read or parsed
+     */
+    static PriceSeries read(JsonParser parser) throws IOException {
+        return read(parser, null);
+    }
+
+    /**
+     * Decodes an already parsed chart payload and retains it.
+     *
+     * @param root chart payload
+     * @param codec codec used to read nested trees
+     * @return decoded series exposing {@code root} as raw payload
+     * @throws IOException if the payload cannot be traversed
+     */
+    static PriceSeries decode(JsonNode root, ObjectCodec codec) throws IOException {
+        try (JsonParser parser = root.traverse(codec)) {
+            parser.nextToken();
+            return read(parser, root);
+        }
+    }
+
+    /**
+     * Walks {@code {"chart": {"result": [...], "error": ...}}}.
+     *
+     * @param parser parser positioned on the root object
+     * @param raw raw payload to retain, or {@code null}
+     * @return decoded series
+     * @throws IOException if the body cannot be read or parsed
+     */
+    private static PriceSeries read(JsonParser parser, JsonNode raw) throws IOException {
+
+        Columns columns = null;
+        JsonNode error = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+
+            if (!"chart".equals(field) || token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String chartField = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if ("result".equals(chartField) && value == JsonToken.START_ARRAY) {
+                    columns = readFirstResult(parser);
+
+                } else if ("error".equals(chartField)) {
+                    error = parser.readValueAsTree();
+
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        // Invalid symbol / Yahoo error payload
+        YahooResponseValidator.validateError(error);
+
+        if (columns == null) {
+            throw new YahooUnavailableException("Yahoo returned an empty chart");
+        }
+
+        return columns.toSeries(raw);
+    }
+
+    /**
+     * Decodes the first entry of {@code chart.result} and skips the rest.
+     *
+     * @param parser parser positioned on the result array
+     * @return decoded columns, or {@code null} if the array is empty
+     * @throws IOException if the body cannot be read or parsed
+     */
+    private static Columns readFirstResult(JsonParser parser) throws IOException {
+
+        Columns columns = null;
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (columns == null && parser.currentToken() == JsonToken.START_OBJECT) {
+                columns = readResult(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return columns;
+    }
+
+    /**
+     * Decodes one chart result object.
+     *
+     * @param parser parser positioned on the result object
+     * @return decoded columns
+     * @throws IOException if the body cannot be read or parsed
+     */
+    private static Columns readResult(JsonParser parser) throws IOException {
+
+        Columns columns = new Columns();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+
+            switch (field) {
+                case "meta" -> {
+                    JsonNode meta = parser.readValueAsTree();
+                    columns.symbol = text(meta, "symbol");
+                    columns.currency = text(meta, "currency");
+                    columns.timezone = text(meta, "exchangeTimezoneName");
+                    columns.interval = text(meta, "dataGranularity");
+                }
+                case "timestamp" -> columns.timestamps = readLongs(parser);
+                case "indicators" -> readIndicators(parser, columns);
+                default -> parser.skipChildren();
+            }
+        }
+
+        return columns;
+    }
+
+    /**
+     * Decodes {@code indicators.quote[0]} and {@code indicators.adjclose[0]}.
+     *
+     * @param parser parser positioned on the indicators object
+     * @param columns target columns
+     * @throws IOException if the body cannot be read or parsed
+     */
+    private static void readIndicators(JsonParser parser, Columns columns) throws IOException {
+
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+
+            if ((!"quote".equals(field) && !"adjclose".equals(field))
+                    || parser.currentToken() != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+
+            boolean first = true;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (!first || parser.currentToken() != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                first = false;
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String column = parser.currentName();
+                    parser.nextToken();
+
+                    switch (column) {
+                        case "open" -> columns.open = readDoubles(parser);
+                        case "high" -> columns.high = readDoubles(parser);
+                        case "low" -> columns.low = readDoubles(parser);
+                        case "close" -> columns.close = readDoubles(parser);
+                        case "adjclose" -> columns.adjClose = readDoubles(parser);
+                        case "volume" -> columns.volume = readLongs(parser);
+                        default -> parser.skipChildren();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a JSON array of integers ({@code null} becomes {@code 0}).
+     *
+     * @param parser parser positioned on the array
+     * @return array values, or an empty array if the value is not an array
+     * @throws IOException if the body cannot be read or parsed
+     */
+    private static long[] readLongs(JsonParser parser) throws IOException {
+
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return new long[0];
+        }
+
+        long[] values = new long[INITIAL_CAPACITY];
+        int size = 0;
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = switch (token) {
+                case VALUE_NUMBER_INT -> parser.getLongValue();
+                case VALUE_NUMBER_FLOAT -> (long) parser.getDoubleValue();
+                default -> {
+                    parser.skipChildren();
+                    yield 0L;
+                }
+            };
+        }
+
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Reads a JSON array of numbers ({@code null} becomes {@code NaN}).
+     *
+     * @param parser parser positioned on the array
+     * @return array values, or an empty array if the value is not an array
+     * @throws IOException if the body cannot be read or parsed
+     */
+    private static double[] readDoubles(JsonParser parser) throws IOException {
+
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return new double[0];
+        }
+
+        double[] values = new double[INITIAL_CAPACITY];
+        int size = 0;
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            if (token.isNumeric()) {
+                values[size++] = parser.getDoubleValue();
+            } else {
+                parser.skipChildren();
+                values[size++] = Double.NaN;
+            }
+        }
+
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * @return the text value of {@code field}, or {@code null} if absent
+     */
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    /**
+     * Columns collected while reading a chart result.
+     */
+    private static final class Columns {
+
+        String symbol;
+        String currency;
+        String timezone;
+        String interval;
+
+        long[] timestamps = new long[0];
+        double[] open;
+        double[] high;
+        double[] low;
+        double[] close;
+        double[] adjClose;
+        long[] volume;
+
+        /**
+         * Aligns every column to the timestamps and builds the series.
+         *
+         * @param raw raw payload to retain, or {@code null}
+         * @return the series
+         */
+        PriceSeries toSeries(JsonNode raw) {
+            int size = timestamps.length;
+
+            return new PriceSeries(
+                    symbol,
+                    currency,
+                    timezone,
+                    interval,
+                    timestamps,
+                    fit(open, size),
+                    fit(high, size),
+                    fit(low, size),
+                    fit(close, size),
+                    fit(adjClose, size),
+                    fit(volume, size),
+                    raw);
+        }
+
+        private static double[] fit(double[] column, int size) {
+            if (column != null && column.length == size) {
+                return column;
+            }
+            int kept = column == null ? 0 : Math.min(column.length, size);
+            double[] fitted = column == null ? new double[size] : Arrays.copyOf(column, size);
+            Arrays.fill(fitted, kept, size, Double.NaN);
+            return fitted;
+        }
+
+        private static long[] fit(long[] column, int size) {
+            if (column != null && column.length == size) {
+                return column;
+            }
+            return column == null ? new long[size] : Arrays.copyOf(column, size);
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private YahooChartReader() {
+    }
+}
@@ -0,0 +1,133 @@
+package com.openfinancedatalib.yahoo.client;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+import java.util.Locale;
+import java.util.function.LongConsumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Decodes compressed response bodies while they are streamed.
+ *
+ * <p>
+ * Supported {@code Content-Encoding} values are {@code gzip},
+ * {@code deflate} and {@code identity}. Brotli is not advertised because
+ * the JDK has no decoder for it.
+ *
+ * <p>
+ * Wire and decoded byte counts are reported to a
+ * {@link YahooTransferMeter} when the returned stream is closed.
+ */
+final class YahooContentDecoder {
+
+    /**
+     * Value of the {@code Accept-Encoding} header sent by every client.
+     */
+    static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    /**
+     * Returns the decoded body of a response.
+     *
+     * @param response response with an unread body
+     * @param meter meter receiving the byte counts
+     * @return decompressing stream over the body
+     * @throws IOException if the encoding is unsupported or the
+     *                     compressed header cannot be read
+     */
+    static InputStream decode(HttpResponse<InputStream> response, YahooTransferMeter meter)
+            throws IOException {
+
+        String encoding = response.headers()
+                .firstValue("Content-Encoding")
+                .orElse("identity")
+                .trim()
+                .toLowerCase(Locale.ROOT);
+
+        CountingInputStream wire = new CountingInputStream(response.body(), null);
+
+        InputStream decoded;
+        try {
+            decoded = switch (encoding) {
+                case "gzip", "x-gzip" -> new GZIPInputStream(wire, 8192);
+                case "deflate" -> new InflaterInputStream(wire);
+                case "identity", "" -> wire;
+                default -> throw new IOException("Unsupported Content-Encoding: " + encoding);
+            };
+        } catch (IOException e) {
+            wire.close();
+            throw e;
+        }
+
+        boolean compressed = decoded != wire;
+
+        return new CountingInputStream(decoded, body ->
+                meter.record(compressed, wire.count, body));
+    }
+
+    /**
+     * Counts the bytes read through it and reports the total on close.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        /** Receives the byte count on close, or {@code null} */
+        private final LongConsumer onClose;
+
+        private long count;
+
+        private boolean closed;
+
+        CountingInputStream(InputStream in, LongConsumer onClose) {
+            super(in);
+            this.onClose = onClose;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                super.close();
+            } finally {
+                if (onClose != null) {
+                    onClose.accept(count);
+                }
+            }
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private YahooContentDecoder() {
+    }
+}
@@ -0,0 +1,31 @@
+package com.openfinancedatalib.yahoo.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Helpers shared by the asynchronous request paths of the clients and
+ * of {@code YahooRequestCoordinator}.
+ */
+public final class YahooFutures {
+
+    /**
+     * Removes the {@link CompletionException} layer added by
+     * {@link CompletableFuture} stages.
+     *
+     * @param error failure reported by a future
+     * @return the underlying cause
+     */
+    public static Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private YahooFutures() {
+    }
+}
@@ -1,12 +1,19 @@
 package com.openfinancedatalib.yahoo.client;
 
+import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import java.time.Instant;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.openfinancedatalib.history.PriceSeries;
+import com.openfinancedatalib.yahoo.config.YahooJsonSettings;
+import com.openfinancedatalib.yahoo.endpoint.YahooEndpointPool;
+import com.openfinancedatalib.yahoo.endpoint.YahooEndpointResolver;
+import com.openfinancedatalib.yahoo.enums.YahooApiType;
 import com.openfinancedatalib.yahoo.session.YahooSessionManager;
 import com.openfinancedatalib.yahoo.validator.YahooResponseValidator;
 
@@ -36,6 +43,10 @@ import com.openfinancedatalib.yahoo.validator.YahooResponseValidator;
  * </ul>
  *
  * <p>
+ * Chart payloads can be large, so the body is parsed directly from the
+ * network stream instead of being buffered as a {@code String} first.
+ *
+ * <p>
  * This class does NOT:
  * <ul>
  *   <li>Manage cookies or session lifecycle</li>
@@ -50,23 +61,61 @@ import com.openfinancedatalib.yahoo.validator.YahooResponseValidator;
 public class YahooHistoryClient {
 
     /**
-     * Session manager providing an {@link java.net.http.HttpClient}
-     * with valid Yahoo cookies.
+     * Executor responsible for sending, validating and parsing requests.
      */
-    private final YahooSessionManager sessionManager;
+    private final YahooHttpExecutor executor;
 
     /**
-     * Jackson object mapper used to parse JSON responses.
+     * Creates a new {@code YahooHistoryClient} with its own transfer meter.
+     *
+     * @param sessionManager session manager responsible for cookies
      */
-    private final ObjectMapper mapper = new ObjectMapper();
+    public YahooHistoryClient(YahooSessionManager sessionManager) {
+        this(sessionManager, new YahooTransferMeter());
+    }
 
     /**
-     * Creates a new {@code YahooHistoryClient}.
+     * Creates a new {@code YahooHistoryClient} using the default Yahoo hosts.
      *
      * @param sessionManager session manager responsible for cookies
+     * @param meter meter receiving wire and decoded body sizes
+     * @see YahooEndpointPool#defaults()
      */
-    public YahooHistoryClient(YahooSessionManager sessionManager) {
-        this.sessionManager = sessionManager;
+    public YahooHistoryClient(YahooSessionManager sessionManager, YahooTransferMeter meter) {
+        this(sessionManager, meter, YahooEndpointPool.defaults());
+    }
+
+    /**
+     * Creates a new {@code YahooHistoryClient} sending requests to the hosts
+     * chosen by {@code endpoints}.
+     *
+     * @param sessionManager session manager responsible for cookies
+     * @param meter meter receiving wire and decoded body sizes
+     * @param endpoints resolver choosing the Yahoo host of each request
+     */
+    public YahooHistoryClient(
+            YahooSessionManager sessionManager,
+            YahooTransferMeter meter,
+            YahooEndpointResolver endpoints) {
+        this(sessionManager, meter, endpoints, YahooJsonSettings.defaults());
+    }
+
+    /**
+     * Creates a new {@code YahooHistoryClient} parsing responses with the
+     * reader configured by {@code json}.
+     *
+     * @param sessionManager session manager responsible for cookies
+     * @param meter meter receiving wire and decoded body sizes
+     * @param endpoints resolver choosing the Yahoo host of each request
+     * @param json shared Jackson setup
+     */
+    public YahooHistoryClient(
+            YahooSessionManager sessionManager,
+            YahooTransferMeter meter,
+            YahooEndpointResolver endpoints,
+            YahooJsonSettings json) {
+        this.executor = new YahooHttpExecutor(
+                sessionManager, meter, endpoints, json.getReader(YahooApiType.HISTORY));
     }
 
     /**
@@ -76,6 +125,9 @@ public class YahooHistoryClient {
      * Supported parameters:
      * <ul>
      *   <li>{@code range} – time range (default: {@code 1mo})</li>
+     *   <li>{@code period1} / {@code period2} – explicit time window in
+     *       epoch seconds; when {@code period1} is present it replaces
+     *       {@code range} ({@code period2} defaults to now)</li>
      *   <li>{@code interval} – data interval (default: {@code 1d})</li>
      *   <li>{@code events} – optional corporate events
      *       ({@code div}, {@code splits}, {@code div,splits})</li>
@@ -102,49 +154,155 @@ public class YahooHistoryClient {
      *         the response cannot be parsed
      */
     public JsonNode request(String symbol, Map<String, String> params, String crumb) {
-        try {
-            // Resolve parameters with default values
-            String range = params.getOrDefault("range", "1mo");
-            String interval = params.getOrDefault("interval", "1d");
-            String events = params.get("events");
-
-            // Build Yahoo Finance chart URL
-            StringBuilder url = new StringBuilder(
-                    "https://query1.finance.yahoo.com/v8/finance/chart/"
-                            + symbol
-                            + "?range=" + range
-                            + "&interval=" + interval
-                            + "&crumb=" + crumb
-            );
-
-            // Optional events (dividends, splits)
-            if (events != null) {
-                url.append("&events=").append(events);
-            }
-
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(url.toString()))
-                    .GET()
-                    .header("User-Agent", "Mozilla/5.0")
-                    .build();
-
-            // Execute request using an HttpClient with valid cookies
-            HttpResponse<String> response =
-                    sessionManager.getClient()
-                            .send(request, HttpResponse.BodyHandlers.ofString());
-
-            // Validate HTTP status and response body
-            YahooResponseValidator.validate(
-                    response.statusCode(),
-                    response.body()
-            );
-
-            // Parse and return JSON response
-            return mapper.readTree(response.body());
-
-        } catch (Exception e) {
-            throw new RuntimeException(
-                    "Failed to fetch Yahoo history for " + symbol, e);
+        return executor.execute(
+                buildRequest(symbol, params, crumb),
+                "Failed to fetch Yahoo history for " + symbol,
+                YahooHistoryClient::readChart);
+    }
+
+    /**
+     * Asynchronous variant of {@link #request(String, Map, String)}.
+     *
+     * <p>
+     * Uses {@link java.net.http.HttpClient#sendAsync} and never blocks
+     * the calling thread.
+     *
+     * @param symbol asset ticker symbol (e.g. AAPL, MSFT)
+     * @param params query parameters controlling range, interval and events
+     * @param crumb valid Yahoo crumb
+     * @return future completed with the historical price data
+     */
+    public CompletableFuture<JsonNode> requestAsync(
+            String symbol,
+            Map<String, String> params,
+            String crumb) {
+        return executor.executeAsync(
+                buildRequest(symbol, params, crumb),
+                "Failed to fetch Yahoo history for " + symbol,
+                YahooHistoryClient::readChart);
+    }
+
+    /**
+     * Executes a historical price request and decodes it into a
+     * {@link PriceSeries}.
+     *
+     * <p>
+     * Unless {@code retainRaw} is set, the OHLCV values are decoded
+     * while the body is streamed and no {@link JsonNode} tree is built.
+     *
+     * @param symbol asset ticker symbol (e.g. AAPL, MSFT)
+     * @param params query parameters controlling range, interval and events
+     * @param crumb valid Yahoo crumb
+     * @param retainRaw whether the raw chart payload is also kept
+     * @return decoded price series
+     *
+     * @throws RuntimeException if the request fails or
+     *         the response cannot be parsed
+     */
+    public PriceSeries requestSeries(
+            String symbol,
+            Map<String, String> params,
+            String crumb,
+            boolean retainRaw) {
+        return executor.execute(
+                buildRequest(symbol, params, crumb),
+                "Failed to fetch Yahoo history for " + symbol,
+                seriesReader(retainRaw));
+    }
+
+    /**
+     * Asynchronous variant of {@link #requestSeries(String, Map, String, boolean)}.
+     *
+     * @param symbol asset ticker symbol (e.g. AAPL, MSFT)
+     * @param params query parameters controlling range, interval and events
+     * @param crumb valid Yahoo crumb
+     * @param retainRaw whether the raw chart payload is also kept
+     * @return future completed with the decoded price series
+     */
+    public CompletableFuture<PriceSeries> requestSeriesAsync(
+            String symbol,
+            Map<String, String> params,
+            String crumb,
+            boolean retainRaw) {
+        return executor.executeAsync(
+                buildRequest(symbol, params, crumb),
+                "Failed to fetch Yahoo history for " + symbol,
+                seriesReader(retainRaw));
+    }
+
+    /**
+     * Selects how a chart payload is turned into a {@link PriceSeries}.
+     *
+     * @param retainRaw whether the raw chart payload is also kept
+     * @return streaming decoder, or tree decoder retaining the payload
+     */
+    private static YahooHttpExecutor.BodyReader<PriceSeries> seriesReader(boolean retainRaw) {
+        if (!retainRaw) {
+            return YahooChartReader::read;
         }
+        return parser -> YahooChartReader.decode(parser.readValueAsTree(), parser.getCodec());
+    }
+
+    /**
+     * Reads a chart payload and validates its {@code chart.error} object.
+     *
+     * @param parser parser positioned on the root object
+     * @return chart payload
+     * @throws IOException if the body cannot be read or parsed
+     */
+    private static JsonNode readChart(JsonParser parser) throws IOException {
+        JsonNode root = parser.readValueAsTree();
+
+        YahooResponseValidator.validateError(root.path("chart").path("error"));
+
+        return root;
+    }
+
+    /**
+     * Builds the chart HTTP request.
+     *
+     * @param symbol asset ticker symbol
+     * @param params query parameters controlling range, interval and events
+     * @param crumb valid Yahoo crumb
+     * @return the HTTP request
+     */
+    HttpRequest buildRequest(String symbol, Map<String, String> params, String crumb) {
+
+        // Resolve parameters with default values
+        String range = params.getOrDefault("range", "1mo");
+        String period1 = params.get("period1");
+        String interval = params.getOrDefault("interval", "1d");
+        String events = params.get("events");
+
+        // Build Yahoo Finance chart URL
+        StringBuilder url = new StringBuilder(executor.endpoint())
+                .append("/v8/finance/chart/").append(symbol);
+
+        // Explicit window (epoch seconds) takes precedence over range
+        if (period1 != null) {
+            String period2 = params.getOrDefault(
+                    "period2",
+                    String.valueOf(Instant.now().getEpochSecond()));
+
+            url.append("?period1=").append(period1)
+                    .append("&period2=").append(period2);
+        } else {
+            url.append("?range=").append(range);
+        }
+
+        url.append("&interval=").append(interval)
+                .append("&crumb=").append(crumb);
+
+        // Optional events (dividends, splits)
+        if (events != null) {
+            url.append("&events=").append(events);
+        }
+
+        return HttpRequest.newBuilder()
+                .uri(URI.create(url.toString()))
+                .GET()
+                .header("User-Agent", "Mozilla/5.0")
+                .header("Accept-Encoding", YahooHttpExecutor.ACCEPT_ENCODING)
+                .build();
     }
 }
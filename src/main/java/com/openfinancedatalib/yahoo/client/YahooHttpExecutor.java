@@ -0,0 +1,426 @@
+package com.openfinancedatalib.yahoo.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.openfinancedatalib.yahoo.endpoint.YahooEndpointResolver;
+import com.openfinancedatalib.yahoo.exception.YahooException;
+import com.openfinancedatalib.yahoo.session.YahooSessionManager;
+import com.openfinancedatalib.yahoo.validator.YahooResponseValidator;
+
+/**
+ * Executes Yahoo Finance HTTP requests on behalf of the API clients.
+ *
+ * <p>
+ * This class holds the request execution steps shared by every client:
+ * <ul>
+ *   <li>Send the request using an {@link java.net.http.HttpClient}
+ *       with valid Yahoo cookies</li>
+ *   <li>Decompress the body ({@code gzip} / {@code deflate}) while
+ *       streaming it, counting wire and decoded bytes</li>
+ *   <li>Validate the HTTP status and response body</li>
+ *   <li>Parse the JSON payload</li>
+ *   <li>Report the outcome and latency of each request to the
+ *       {@link YahooEndpointResolver}</li>
+ * </ul>
+ *
+ * <p>
+ * Both a blocking and a non-blocking variant are provided, each in two
+ * flavours: a tree one (the body is parsed into a {@link JsonNode} and
+ * its error objects are validated structurally) and a custom one (the
+ * body is decoded by a {@link BodyReader}, which validates the payload
+ * as it reads it). Both parse directly from the network
+ * {@link InputStream}; the body is never buffered as a {@code String}.
+ *
+ * <p>
+ * They follow the same error contract:
+ * <ul>
+ *   <li>{@link YahooException} subclasses raised by
+ *       {@link YahooResponseValidator} are propagated unchanged</li>
+ *   <li>Any other failure is wrapped in a {@link RuntimeException}
+ *       carrying the client-specific error message</li>
+ * </ul>
+ *
+ * <p>
+ * Building request URLs is the responsibility of each client: they
+ * start from {@link #endpoint()} and should advertise
+ * {@link #ACCEPT_ENCODING}.
+ */
+final class YahooHttpExecutor {
+
+    /**
+     * Value of the {@code Accept-Encoding} header sent by the clients.
+     */
+    static final String ACCEPT_ENCODING = YahooContentDecoder.ACCEPT_ENCODING;
+
+    /**
+     * Reads a response whose body has not been consumed yet.
+     *
+     * @param <T> decoded type
+     */
+    @FunctionalInterface
+    private interface ResponseHandler<T> {
+
+        /**
+         * @param response response with an unread body
+         * @return decoded payload
+         * @throws IOException if the body cannot be read or parsed
+         */
+        T handle(HttpResponse<InputStream> response) throws IOException;
+    }
+
+    /**
+     * Decodes a streamed response body.
+     *
+     * <p>
+     * The parser is positioned on the opening {@code START_OBJECT}
+     * token of the payload and uses the shared
+     * {@link com.fasterxml.jackson.databind.ObjectMapper} as codec.
+     *
+     * @param <T> decoded type
+     */
+    @FunctionalInterface
+    interface BodyReader<T> {
+
+        /**
+         * Reads the payload.
+         *
+         * @param parser parser positioned on the root object
+         * @return decoded payload
+         * @throws IOException if the body cannot be read or parsed
+         */
+        T read(JsonParser parser) throws IOException;
+    }
+
+    /**
+     * Executor running the asynchronous body readers.
+     *
+     * <p>
+     * Reading from the response {@link InputStream} blocks until the
+     * body arrives; virtual threads keep that wait cheap without tying
+     * up the {@link java.net.http.HttpClient} threads.
+     */
+    private static final Executor READER_EXECUTOR =
+            Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Session manager providing an {@link java.net.http.HttpClient}
+     * with valid Yahoo cookies.
+     */
+    private final YahooSessionManager sessionManager;
+
+    /**
+     * Reader of the client's endpoint, shared by every executor using
+     * the same {@link com.openfinancedatalib.yahoo.config.YahooJsonSettings}.
+     */
+    private final ObjectReader treeReader;
+
+    /**
+     * Meter receiving wire and decoded body sizes.
+     */
+    private final YahooTransferMeter meter;
+
+    /**
+     * Chooses the Yahoo host of each request and tracks host health.
+     */
+    private final YahooEndpointResolver endpoints;
+
+    /**
+     * Creates a new {@code YahooHttpExecutor}.
+     *
+     * @param sessionManager session manager responsible for cookies
+     * @param meter meter receiving wire and decoded body sizes
+     * @param endpoints resolver choosing the Yahoo host of each request
+     * @param treeReader tree reader of the client's endpoint
+     */
+    YahooHttpExecutor(
+            YahooSessionManager sessionManager,
+            YahooTransferMeter meter,
+            YahooEndpointResolver endpoints,
+            ObjectReader treeReader) {
+        this.sessionManager = sessionManager;
+        this.meter = meter;
+        this.endpoints = endpoints;
+        this.treeReader = treeReader;
+    }
+
+    /**
+     * Returns the base URL the next request should be sent to.
+     *
+     * @return base URL of a Yahoo host, without a trailing slash
+     */
+    String endpoint() {
+        return endpoints.resolve();
+    }
+
+    /**
+     * Executes the request and blocks until the response is parsed.
+     *
+     * @param request      fully built Yahoo request
+     * @param errorMessage message used when wrapping unexpected failures
+     * @return parsed Yahoo response
+     *
+     * @throws YahooException   if Yahoo returns an error response
+     * @throws RuntimeException if the request fails or the response
+     *                          cannot be parsed
+     */
+    JsonNode execute(HttpRequest request, String errorMessage) {
+        return send(request, errorMessage, this::parse);
+    }
+
+    /**
+     * Executes the request without blocking the calling thread.
+     *
+     * <p>
+     * The session bootstrap (when required) is also performed
+     * asynchronously.
+     *
+     * @param request      fully built Yahoo request
+     * @param errorMessage message used when wrapping unexpected failures
+     * @return future completed with the parsed Yahoo response, or
+     *         completed exceptionally following the same contract as
+     *         {@link #execute(HttpRequest, String)}
+     */
+    CompletableFuture<JsonNode> executeAsync(HttpRequest request, String errorMessage) {
+        return sendAsync(request, errorMessage, this::parse);
+    }
+
+    /**
+     * Executes the request and decodes the body while streaming it.
+     *
+     * <p>
+     * The body is never materialized as a {@code String}: the status is
+     * validated first, then {@code reader} consumes the network stream.
+     *
+     * @param <T>          decoded type
+     * @param request      fully built Yahoo request
+     * @param errorMessage message used when wrapping unexpected failures
+     * @param reader       decodes (and validates) the payload
+     * @return decoded Yahoo response
+     *
+     * @throws YahooException   if Yahoo returns an error response
+     * @throws RuntimeException if the request fails or the response
+     *                          cannot be parsed
+     */
+    <T> T execute(HttpRequest request, String errorMessage, BodyReader<T> reader) {
+        return send(request, errorMessage, response -> read(response, reader));
+    }
+
+    /**
+     * Asynchronous variant of
+     * {@link #execute(HttpRequest, String, BodyReader)}.
+     *
+     * @param <T>          decoded type
+     * @param request      fully built Yahoo request
+     * @param errorMessage message used when wrapping unexpected failures
+     * @param reader       decodes (and validates) the payload
+     * @return future completed with the decoded Yahoo response
+     */
+    <T> CompletableFuture<T> executeAsync(
+            HttpRequest request,
+            String errorMessage,
+            BodyReader<T> reader) {
+        return sendAsync(request, errorMessage, response -> read(response, reader));
+    }
+
+    /**
+     * Sends the request and hands the unread response to {@code handler}.
+     *
+     * @param <T>          decoded type
+     * @param request      fully built Yahoo request
+     * @param errorMessage message used when wrapping unexpected failures
+     * @param handler      validates and decodes the response
+     * @return decoded Yahoo response
+     */
+    private <T> T send(HttpRequest request, String errorMessage, ResponseHandler<T> handler) {
+        String endpoint = endpointOf(request);
+
+        try {
+            long start = System.nanoTime();
+
+            // Execute request using an HttpClient with valid cookies
+            HttpResponse<InputStream> response = sessionManager.getClient()
+                    .send(withTimeout(request), HttpResponse.BodyHandlers.ofInputStream());
+
+            Duration latency = Duration.ofNanos(System.nanoTime() - start);
+
+            T result = handler.handle(response);
+            endpoints.onSuccess(endpoint, latency);
+            return result;
+
+        } catch (YahooException e) {
+            endpoints.onFailure(endpoint, e);
+            throw e;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(errorMessage, e);
+
+        } catch (Exception e) {
+            endpoints.onFailure(endpoint, e);
+            throw new RuntimeException(errorMessage, e);
+        }
+    }
+
+    /**
+     * Asynchronous variant of {@link #send}.
+     *
+     * <p>
+     * The response headers are awaited without blocking; the body is then
+     * read on a virtual thread.
+     *
+     * @param <T>          decoded type
+     * @param request      fully built Yahoo request
+     * @param errorMessage message used when wrapping unexpected failures
+     * @param handler      validates and decodes the response
+     * @return future completed with the decoded Yahoo response
+     */
+    private <T> CompletableFuture<T> sendAsync(
+            HttpRequest request,
+            String errorMessage,
+            ResponseHandler<T> handler) {
+
+        String endpoint = endpointOf(request);
+
+        return sessionManager.getClientAsync()
+                .thenCompose(client -> {
+                    long start = System.nanoTime();
+                    return client.sendAsync(withTimeout(request), HttpResponse.BodyHandlers.ofInputStream())
+                            .thenApply(response -> new Timed(response, System.nanoTime() - start));
+                })
+                .handleAsync((timed, error) -> {
+
+                    if (error != null) {
+                        Throwable cause = YahooFutures.unwrap(error);
+                        endpoints.onFailure(endpoint, cause);
+
+                        // Session bootstrap failures (auth, rate limit, unavailable)
+                        if (cause instanceof YahooException yahooError) {
+                            throw yahooError;
+                        }
+                        throw new RuntimeException(errorMessage, cause);
+                    }
+
+                    try {
+                        T result = handler.handle(timed.response());
+                        endpoints.onSuccess(endpoint, Duration.ofNanos(timed.latencyNanos()));
+                        return result;
+
+                    } catch (YahooException e) {
+                        endpoints.onFailure(endpoint, e);
+                        throw e;
+
+                    } catch (Exception e) {
+                        endpoints.onFailure(endpoint, e);
+                        throw new RuntimeException(errorMessage, e);
+                    }
+                }, READER_EXECUTOR);
+    }
+
+    /**
+     * Response headers received, with the time it took to receive them.
+     *
+     * @param response     response with an unread body
+     * @param latencyNanos time from sending to receiving the headers
+     */
+    private record Timed(HttpResponse<InputStream> response, long latencyNanos) {
+    }
+
+    /**
+     * Returns the base URL (scheme and authority) a request targets.
+     *
+     * @param request request built by a client
+     * @return base URL, as returned by {@link YahooEndpointResolver#resolve()}
+     */
+    private static String endpointOf(HttpRequest request) {
+        URI uri = request.uri();
+        return uri.getScheme() + "://" + uri.getRawAuthority();
+    }
+
+    /**
+     * Applies the configured request timeout, unless the client already
+     * set one.
+     *
+     * @param request request built by a client
+     * @return request with a timeout, when one is configured
+     */
+    private HttpRequest withTimeout(HttpRequest request) {
+        if (request.timeout().isPresent()) {
+            return request;
+        }
+
+        return sessionManager.requestTimeout()
+                .map(timeout -> HttpRequest.newBuilder(request, (name, value) -> true)
+                        .timeout(timeout)
+                        .build())
+                .orElse(request);
+    }
+
+    /**
+     * Validates the status of a streamed response and decodes its body.
+     *
+     * @param response HTTP response with an unread body
+     * @param reader   decodes (and validates) the payload
+     * @return decoded payload
+     * @throws IOException if the body cannot be read or parsed
+     */
+    private <T> T read(HttpResponse<InputStream> response, BodyReader<T> reader)
+            throws IOException {
+
+        // Released even when the status is rejected and the body is unread
+        InputStream body = response.body();
+
+        try {
+
+            // Validate HTTP status before touching the body
+            YahooResponseValidator.validateStatus(
+                    response.statusCode(),
+                    response.headers());
+
+            try (InputStream decoded = YahooContentDecoder.decode(response, meter);
+                 JsonParser parser = treeReader.createParser(decoded)) {
+
+                // Empty / HTML / non-object bodies
+                YahooResponseValidator.validateStart(parser);
+
+                return reader.read(parser);
+            }
+
+        } finally {
+            body.close();
+        }
+    }
+
+    /**
+     * Validates and parses a Yahoo response into a tree.
+     *
+     * <p>
+     * Validation is merged into parsing: the body is parsed straight
+     * from the decoded stream, HTML and empty bodies are detected on the
+     * first token ({@link YahooResponseValidator#validateStart}), and
+     * Yahoo's error objects are checked structurally on the resulting
+     * tree ({@link YahooResponseValidator#validatePayload}). The body is
+     * never copied into a {@code String} nor scanned separately.
+     *
+     * @param response raw HTTP response with an unread body
+     * @return parsed JSON payload
+     * @throws IOException if the body cannot be read or is not valid JSON
+     */
+    private JsonNode parse(HttpResponse<InputStream> response) throws IOException {
+        return read(response, parser -> {
+            JsonNode root = treeReader.readTree(parser);
+            YahooResponseValidator.validatePayload(root);
+            return root;
+        });
+    }
+}
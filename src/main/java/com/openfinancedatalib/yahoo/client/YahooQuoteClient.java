@@ -2,13 +2,15 @@ package com.openfinancedatalib.yahoo.client;
 
 import java.net.URI;
 import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.openfinancedatalib.yahoo.config.YahooJsonSettings;
+import com.openfinancedatalib.yahoo.endpoint.YahooEndpointPool;
+import com.openfinancedatalib.yahoo.endpoint.YahooEndpointResolver;
+import com.openfinancedatalib.yahoo.enums.YahooApiType;
 import com.openfinancedatalib.yahoo.session.YahooSessionManager;
-import com.openfinancedatalib.yahoo.validator.YahooResponseValidator;
 
 /**
  * Client responsible for retrieving real-time and delayed
@@ -49,23 +51,61 @@ import com.openfinancedatalib.yahoo.validator.YahooResponseValidator;
 public class YahooQuoteClient {
 
     /**
-     * Session manager providing an {@link java.net.http.HttpClient}
-     * with valid Yahoo cookies.
+     * Executor responsible for sending, validating and parsing requests.
      */
-    private final YahooSessionManager sessionManager;
+    private final YahooHttpExecutor executor;
 
     /**
-     * Jackson object mapper used to parse JSON responses.
+     * Creates a new {@code YahooQuoteClient} with its own transfer meter.
+     *
+     * @param sessionManager session manager responsible for cookies
      */
-    private final ObjectMapper mapper = new ObjectMapper();
+    public YahooQuoteClient(YahooSessionManager sessionManager) {
+        this(sessionManager, new YahooTransferMeter());
+    }
 
     /**
-     * Creates a new {@code YahooQuoteClient}.
+     * Creates a new {@code YahooQuoteClient} using the default Yahoo hosts.
      *
      * @param sessionManager session manager responsible for cookies
+     * @param meter meter receiving wire and decoded body sizes
+     * @see YahooEndpointPool#defaults()
      */
-    public YahooQuoteClient(YahooSessionManager sessionManager) {
-        this.sessionManager = sessionManager;
+    public YahooQuoteClient(YahooSessionManager sessionManager, YahooTransferMeter meter) {
+        this(sessionManager, meter, YahooEndpointPool.defaults());
+    }
+
+    /**
+     * Creates a new {@code YahooQuoteClient} sending requests to the hosts
+     * chosen by {@code endpoints}.
+     *
+     * @param sessionManager session manager responsible for cookies
+     * @param meter meter receiving wire and decoded body sizes
+     * @param endpoints resolver choosing the Yahoo host of each request
+     */
+    public YahooQuoteClient(
+            YahooSessionManager sessionManager,
+            YahooTransferMeter meter,
+            YahooEndpointResolver endpoints) {
+        this(sessionManager, meter, endpoints, YahooJsonSettings.defaults());
+    }
+
+    /**
+     * Creates a new {@code YahooQuoteClient} parsing responses with the
+     * reader configured by {@code json}.
+     *
+     * @param sessionManager session manager responsible for cookies
+     * @param meter meter receiving wire and decoded body sizes
+     * @param endpoints resolver choosing the Yahoo host of each request
+     * @param json shared Jackson setup
+     */
+    public YahooQuoteClient(
+            YahooSessionManager sessionManager,
+            YahooTransferMeter meter,
+            YahooEndpointResolver endpoints,
+            YahooJsonSettings json) {
+        this.executor = new YahooHttpExecutor(
+                sessionManager, meter, endpoints, json.getReader(YahooApiType.QUOTE));
     }
 
     /**
@@ -73,7 +113,8 @@ public class YahooQuoteClient {
      *
      * <p>
      * This method retrieves the current market quote
-     * for a single asset.
+     * for a single asset, or for several assets when
+     * {@code symbol} is a comma-separated list.
      *
      * <p>
      * The crumb parameter is required by Yahoo Finance
@@ -88,37 +129,53 @@ public class YahooQuoteClient {
      * @throws RuntimeException if the request fails or
      *                          the response cannot be parsed
      */
-    @SuppressWarnings("UseSpecificCatch")
     public JsonNode request(String symbol, Map<String, String> params, String crumb) {
-        try {
-            // Build Yahoo Finance quote URL
-            String url = "https://query1.finance.yahoo.com/v7/finance/quote"
-                    + "?symbols=" + symbol
-                    + "&crumb=" + crumb;
-
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .GET()
-                    .header("User-Agent", "Mozilla/5.0")
-                    .header("Accept", "application/json")
-                    .header("Accept-Encoding", "identity")
-                    .build();
+        return executor.execute(
+                buildRequest(symbol, crumb),
+                "Failed to fetch Yahoo quote for " + symbol);
+    }
 
-            // Execute request using an HttpClient with valid cookies
-            HttpResponse<String> response = sessionManager.getClient()
-                    .send(request, HttpResponse.BodyHandlers.ofString());
+    /**
+     * Asynchronous variant of {@link #request(String, Map, String)}.
+     *
+     * <p>
+     * Uses {@link java.net.http.HttpClient#sendAsync} and never blocks
+     * the calling thread.
+     *
+     * @param symbol asset ticker symbol (e.g. AAPL, MSFT)
+     * @param params optional parameters (currently unused)
+     * @param crumb  valid Yahoo crumb
+     * @return future completed with the quote data
+     */
+    public CompletableFuture<JsonNode> requestAsync(
+            String symbol,
+            Map<String, String> params,
+            String crumb) {
+        return executor.executeAsync(
+                buildRequest(symbol, crumb),
+                "Failed to fetch Yahoo quote for " + symbol);
+    }
 
-            // Validate HTTP status and response body
-            YahooResponseValidator.validate(
-                    response.statusCode(),
-                    response.body());
+    /**
+     * Builds the quote HTTP request.
+     *
+     * @param symbol asset ticker symbol(s)
+     * @param crumb  valid Yahoo crumb
+     * @return the HTTP request
+     */
+    HttpRequest buildRequest(String symbol, String crumb) {
 
-            // Parse and return JSON response
-            return mapper.readTree(response.body());
+        // Build Yahoo Finance quote URL
+        String url = executor.endpoint() + "/v7/finance/quote"
+                + "?symbols=" + symbol
+                + "&crumb=" + crumb;
 
-        } catch (Exception e) {
-            throw new RuntimeException(
-                    "Failed to fetch Yahoo quote for " + symbol, e);
-        }
+        return HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .GET()
+                .header("User-Agent", "Mozilla/5.0")
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", YahooHttpExecutor.ACCEPT_ENCODING)
+                .build();
     }
 }
@@ -2,16 +2,17 @@ package com.openfinancedatalib.yahoo.client;
 
 import java.net.URI;
 import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.openfinancedatalib.yahoo.session.YahooCrumbProvider;
-import com.openfinancedatalib.yahoo.session.YahooCrumbStore;
+import com.openfinancedatalib.summary.QuoteSummary;
+import com.openfinancedatalib.yahoo.config.YahooJsonSettings;
+import com.openfinancedatalib.yahoo.endpoint.YahooEndpointPool;
+import com.openfinancedatalib.yahoo.endpoint.YahooEndpointResolver;
+import com.openfinancedatalib.yahoo.enums.YahooApiType;
 import com.openfinancedatalib.yahoo.session.YahooSessionManager;
-import com.openfinancedatalib.yahoo.validator.YahooResponseValidator;
 
 /**
  * Client responsible for calling the Yahoo Finance {@code quoteSummary} endpoint.
@@ -52,10 +53,9 @@ import com.openfinancedatalib.yahoo.validator.YahooResponseValidator;
 public class YahooQuoteSummaryClient {
 
         /**
-         * Base URL for the Yahoo Finance quoteSummary endpoint.
+         * Path of the Yahoo Finance quoteSummary endpoint.
          */
-        private static final String BASE_URL =
-                        "https://query1.finance.yahoo.com/v10/finance/quoteSummary/";
+        private static final String PATH = "/v10/finance/quoteSummary/";
 
         /**
          * Default modules returned when no explicit modules are provided.
@@ -70,23 +70,61 @@ public class YahooQuoteSummaryClient {
                         "financialData");
 
         /**
-         * Session manager providing an {@link java.net.http.HttpClient}
-         * with valid Yahoo cookies.
+         * Executor responsible for sending, validating and parsing requests.
          */
-        private final YahooSessionManager sessionManager;
+        private final YahooHttpExecutor executor;
 
         /**
-         * Jackson object mapper used to parse JSON responses.
+         * Creates a new {@code YahooQuoteSummaryClient} with its own transfer meter.
+         *
+         * @param sessionManager session manager responsible for cookies
          */
-        private final ObjectMapper mapper = new ObjectMapper();
+        public YahooQuoteSummaryClient(YahooSessionManager sessionManager) {
+                this(sessionManager, new YahooTransferMeter());
+        }
 
         /**
-         * Creates a new {@code YahooQuoteSummaryClient}.
+         * Creates a new {@code YahooQuoteSummaryClient} using the default Yahoo hosts.
          *
          * @param sessionManager session manager responsible for cookies
+         * @param meter meter receiving wire and decoded body sizes
+         * @see YahooEndpointPool#defaults()
          */
-        public YahooQuoteSummaryClient(YahooSessionManager sessionManager) {
-                this.sessionManager = sessionManager;
+        public YahooQuoteSummaryClient(YahooSessionManager sessionManager, YahooTransferMeter meter) {
+                this(sessionManager, meter, YahooEndpointPool.defaults());
+        }
+
+        /**
+         * Creates a new {@code YahooQuoteSummaryClient} sending requests to the hosts
+         * chosen by {@code endpoints}.
+         *
+         * @param sessionManager session manager responsible for cookies
+         * @param meter meter receiving wire and decoded body sizes
+         * @param endpoints resolver choosing the Yahoo host of each request
+         */
+        public YahooQuoteSummaryClient(
+                        YahooSessionManager sessionManager,
+                        YahooTransferMeter meter,
+                        YahooEndpointResolver endpoints) {
+                this(sessionManager, meter, endpoints, YahooJsonSettings.defaults());
+        }
+
+        /**
+         * Creates a new {@code YahooQuoteSummaryClient} parsing responses with the
+         * reader configured by {@code json}.
+         *
+         * @param sessionManager session manager responsible for cookies
+         * @param meter meter receiving wire and decoded body sizes
+         * @param endpoints resolver choosing the Yahoo host of each request
+         * @param json shared Jackson setup
+         */
+        public YahooQuoteSummaryClient(
+                        YahooSessionManager sessionManager,
+                        YahooTransferMeter meter,
+                        YahooEndpointResolver endpoints,
+                        YahooJsonSettings json) {
+                this.executor = new YahooHttpExecutor(
+                                sessionManager, meter, endpoints, json.getReader(YahooApiType.QUOTE_SUMMARY));
         }
 
         /**
@@ -95,7 +133,6 @@ public class YahooQuoteSummaryClient {
          * <p>
          * Flow:
          * <ol>
-         *   <li>Ensure a valid crumb is available</li>
          *   <li>Resolve requested modules</li>
          *   <li>Build the quoteSummary request URL</li>
          *   <li>Execute the HTTP request</li>
@@ -103,8 +140,9 @@ public class YahooQuoteSummaryClient {
          * </ol>
          *
          * <p>
-         * The crumb parameter is provided by the caller, but this method
-         * defensively reuses a cached crumb if one is still valid.
+         * The crumb parameter is required by Yahoo Finance
+         * for request authorization and must be provided
+         * by the caller.
          *
          * @param symbol asset ticker symbol (e.g. AAPL, MSFT)
          * @param params query parameters, including optional {@code modules}
@@ -118,52 +156,111 @@ public class YahooQuoteSummaryClient {
                         String symbol,
                         Map<String, String> params,
                         String crumb) {
-                try {
-
-                        // Defensive crumb handling:
-                        // reuse cached crumb if still valid, otherwise fetch a new one
-                        if (YahooCrumbStore.isValid()) {
-                                crumb = YahooCrumbStore.get();
-                        } else {
-                                YahooCrumbProvider provider =
-                                                new YahooCrumbProvider(sessionManager);
-                                crumb = provider.getCrumb();
-                        }
-
-                        // Resolve which quoteSummary modules should be requested
-                        String modules = resolveModules(params);
-
-                        // Build quoteSummary request URL
-                        String url = BASE_URL
-                                        + symbol
-                                        + "?modules=" + modules
-                                        + "&crumb=" + crumb
-                                        + "&corsDomain=finance.yahoo.com";
-
-                        HttpRequest.Builder builder = HttpRequest.newBuilder()
-                                        .uri(URI.create(url))
-                                        .GET()
-                                        .header("User-Agent", "Mozilla/5.0")
-                                        .header("Accept", "application/json")
-                                        .header("Referer", "https://finance.yahoo.com/")
-                                        .header("Origin", "https://finance.yahoo.com");
-
-                        // Execute request using an HttpClient with valid cookies
-                        HttpResponse<String> response = sessionManager.getClient()
-                                        .send(builder.build(), HttpResponse.BodyHandlers.ofString());
-
-                        // Validate HTTP status and response body
-                        YahooResponseValidator.validate(
-                                        response.statusCode(),
-                                        response.body());
-
-                        // Parse and return JSON response
-                        return mapper.readTree(response.body());
-
-                } catch (Exception e) {
-                        throw new RuntimeException(
-                                        "Failed to fetch Yahoo quoteSummary for " + symbol, e);
-                }
+                return executor.execute(
+                                buildRequest(symbol, params, crumb),
+                                "Failed to fetch Yahoo quoteSummary for " + symbol);
+        }
+
+        /**
+         * Asynchronous variant of {@link #request(String, Map, String)}.
+         *
+         * <p>
+         * Uses {@link java.net.http.HttpClient#sendAsync} and never blocks
+         * the calling thread.
+         *
+         * @param symbol asset ticker symbol (e.g. AAPL, MSFT)
+         * @param params query parameters, including optional {@code modules}
+         * @param crumb Yahoo crumb provided by the coordinator
+         * @return future completed with the quoteSummary response
+         */
+        public CompletableFuture<JsonNode> requestAsync(
+                        String symbol,
+                        Map<String, String> params,
+                        String crumb) {
+
+                return executor.executeAsync(
+                                buildRequest(symbol, params, crumb),
+                                "Failed to fetch Yahoo quoteSummary for " + symbol);
+        }
+
+        /**
+         * Executes a quoteSummary request and buffers each returned module
+         * for lazy decoding.
+         *
+         * <p>
+         * The body is streamed and split per module; no {@link JsonNode}
+         * tree is built.
+         *
+         * @param symbol asset ticker symbol (e.g. AAPL, MSFT)
+         * @param params query parameters, including optional {@code modules}
+         * @param crumb Yahoo crumb provided by the coordinator
+         * @return buffered modules
+         *
+         * @throws RuntimeException if the request fails or the response
+         *         cannot be parsed
+         */
+        public QuoteSummary requestSummary(
+                        String symbol,
+                        Map<String, String> params,
+                        String crumb) {
+                return executor.execute(
+                                buildRequest(symbol, params, crumb),
+                                "Failed to fetch Yahoo quoteSummary for " + symbol,
+                                parser -> QuoteSummary.read(symbol, parser));
+        }
+
+        /**
+         * Asynchronous variant of {@link #requestSummary(String, Map, String)}.
+         *
+         * @param symbol asset ticker symbol (e.g. AAPL, MSFT)
+         * @param params query parameters, including optional {@code modules}
+         * @param crumb Yahoo crumb provided by the coordinator
+         * @return future completed with the buffered modules
+         */
+        public CompletableFuture<QuoteSummary> requestSummaryAsync(
+                        String symbol,
+                        Map<String, String> params,
+                        String crumb) {
+
+                return executor.executeAsync(
+                                buildRequest(symbol, params, crumb),
+                                "Failed to fetch Yahoo quoteSummary for " + symbol,
+                                parser -> QuoteSummary.read(symbol, parser));
+        }
+
+        /**
+         * Builds the quoteSummary HTTP request.
+         *
+         * @param symbol asset ticker symbol
+         * @param params query parameters, including optional {@code modules}
+         * @param crumb valid Yahoo crumb
+         * @return the HTTP request
+         */
+        HttpRequest buildRequest(
+                        String symbol,
+                        Map<String, String> params,
+                        String crumb) {
+
+                // Resolve which quoteSummary modules should be requested
+                String modules = resolveModules(params);
+
+                // Build quoteSummary request URL
+                String url = executor.endpoint()
+                                + PATH
+                                + symbol
+                                + "?modules=" + modules
+                                + "&crumb=" + crumb
+                                + "&corsDomain=finance.yahoo.com";
+
+                return HttpRequest.newBuilder()
+                                .uri(URI.create(url))
+                                .GET()
+                                .header("User-Agent", "Mozilla/5.0")
+                                .header("Accept-Encoding", YahooHttpExecutor.ACCEPT_ENCODING)
+                                .header("Accept", "application/json")
+                                .header("Referer", "https://finance.yahoo.com/")
+                                .header("Origin", "https://finance.yahoo.com")
+                                .build();
         }
 
         /**
@@ -2,13 +2,15 @@ package com.openfinancedatalib.yahoo.client;
 
 import java.net.URI;
 import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.openfinancedatalib.yahoo.config.YahooJsonSettings;
+import com.openfinancedatalib.yahoo.endpoint.YahooEndpointPool;
+import com.openfinancedatalib.yahoo.endpoint.YahooEndpointResolver;
+import com.openfinancedatalib.yahoo.enums.YahooApiType;
 import com.openfinancedatalib.yahoo.session.YahooSessionManager;
-import com.openfinancedatalib.yahoo.validator.YahooResponseValidator;
 
 /**
  * Client responsible for executing Yahoo Finance search requests.
@@ -42,23 +44,61 @@ import com.openfinancedatalib.yahoo.validator.YahooResponseValidator;
 public class YahooSearchClient {
 
     /**
-     * Session manager providing an {@link java.net.http.HttpClient}
-     * with valid Yahoo cookies.
+     * Executor responsible for sending, validating and parsing requests.
      */
-    private final YahooSessionManager sessionManager;
+    private final YahooHttpExecutor executor;
 
     /**
-     * Jackson object mapper used to parse JSON responses.
+     * Creates a new {@code YahooSearchClient} with its own transfer meter.
+     *
+     * @param sessionManager session manager responsible for cookies
      */
-    private final ObjectMapper mapper = new ObjectMapper();
+    public YahooSearchClient(YahooSessionManager sessionManager) {
+        this(sessionManager, new YahooTransferMeter());
+    }
 
     /**
-     * Creates a new {@code YahooSearchClient}.
+     * Creates a new {@code YahooSearchClient} using the default Yahoo hosts.
      *
      * @param sessionManager session manager responsible for cookies
+     * @param meter meter receiving wire and decoded body sizes
+     * @see YahooEndpointPool#defaults()
      */
-    public YahooSearchClient(YahooSessionManager sessionManager) {
-        this.sessionManager = sessionManager;
+    public YahooSearchClient(YahooSessionManager sessionManager, YahooTransferMeter meter) {
+        this(sessionManager, meter, YahooEndpointPool.defaults());
+    }
+
+    /**
+     * Creates a new {@code YahooSearchClient} sending requests to the hosts
+     * chosen by {@code endpoints}.
+     *
+     * @param sessionManager session manager responsible for cookies
+     * @param meter meter receiving wire and decoded body sizes
+     * @param endpoints resolver choosing the Yahoo host of each request
+     */
+    public YahooSearchClient(
+            YahooSessionManager sessionManager,
+            YahooTransferMeter meter,
+            YahooEndpointResolver endpoints) {
+        this(sessionManager, meter, endpoints, YahooJsonSettings.defaults());
+    }
+
+    /**
+     * Creates a new {@code YahooSearchClient} parsing responses with the
+     * reader configured by {@code json}.
+     *
+     * @param sessionManager session manager responsible for cookies
+     * @param meter meter receiving wire and decoded body sizes
+     * @param endpoints resolver choosing the Yahoo host of each request
+     * @param json shared Jackson setup
+     */
+    public YahooSearchClient(
+            YahooSessionManager sessionManager,
+            YahooTransferMeter meter,
+            YahooEndpointResolver endpoints,
+            YahooJsonSettings json) {
+        this.executor = new YahooHttpExecutor(
+                sessionManager, meter, endpoints, json.getReader(YahooApiType.SEARCH));
     }
 
     /**
@@ -90,48 +130,65 @@ public class YahooSearchClient {
      *         cannot be parsed
      */
     public JsonNode request(Map<String, String> params, String crumb) {
-        try {
-            // Required parameter: search query
-            String query = params.get("query");
-
-            if (query == null || query.isBlank()) {
-                throw new IllegalArgumentException("Search query is required");
-            }
-
-            // Optional parameters with default values
-            String quotesCount = params.getOrDefault("quotesCount", "10");
-            String newsCount = params.getOrDefault("newsCount", "0");
-
-            // Build Yahoo Finance search URL
-            String url =
-                    "https://query1.finance.yahoo.com/v1/finance/search"
-                            + "?q=" + query
-                            + "&quotesCount=" + quotesCount
-                            + "&newsCount=" + newsCount
-                            + "&crumb=" + crumb;
-
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .GET()
-                    .header("User-Agent", "Mozilla/5.0")
-                    .build();
-
-            // Execute request using an HttpClient with valid cookies
-            HttpResponse<String> response =
-                    sessionManager.getClient()
-                            .send(request, HttpResponse.BodyHandlers.ofString());
-
-            // Validate HTTP status and response body
-            YahooResponseValidator.validate(
-                    response.statusCode(),
-                    response.body()
-            );
-
-            // Parse and return JSON response
-            return mapper.readTree(response.body());
-
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to search Yahoo", e);
+        return executor.execute(
+                buildRequest(params, crumb),
+                "Failed to search Yahoo");
+    }
+
+    /**
+     * Asynchronous variant of {@link #request(Map, String)}.
+     *
+     * <p>
+     * Uses {@link java.net.http.HttpClient#sendAsync} and never blocks
+     * the calling thread.
+     *
+     * @param params map containing search parameters
+     * @param crumb valid Yahoo crumb
+     * @return future completed with the search results
+     *
+     * @throws IllegalArgumentException if the search query is missing
+     */
+    public CompletableFuture<JsonNode> requestAsync(Map<String, String> params, String crumb) {
+        return executor.executeAsync(
+                buildRequest(params, crumb),
+                "Failed to search Yahoo");
+    }
+
+    /**
+     * Builds the search HTTP request.
+     *
+     * @param params map containing search parameters
+     * @param crumb valid Yahoo crumb
+     * @return the HTTP request
+     *
+     * @throws IllegalArgumentException if the search query is missing
+     */
+    HttpRequest buildRequest(Map<String, String> params, String crumb) {
+
+        // Required parameter: search query
+        String query = params.get("query");
+
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required");
         }
+
+        // Optional parameters with default values
+        String quotesCount = params.getOrDefault("quotesCount", "10");
+        String newsCount = params.getOrDefault("newsCount", "0");
+
+        // Build Yahoo Finance search URL
+        String url = executor.endpoint()
+                        + "/v1/finance/search"
+                        + "?q=" + query
+                        + "&quotesCount=" + quotesCount
+                        + "&newsCount=" + newsCount
+                        + "&crumb=" + crumb;
+
+        return HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .GET()
+                .header("User-Agent", "Mozilla/5.0")
+                .header("Accept-Encoding", YahooHttpExecutor.ACCEPT_ENCODING)
+                .build();
     }
 }
@@ -0,0 +1,46 @@
+package com.openfinancedatalib.yahoo.client;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts response body bytes received from Yahoo, before and after
+ * decompression.
+ *
+ * <p>
+ * A single meter is usually shared by all clients of a
+ * {@code YahooRequestCoordinator}. This class is thread-safe.
+ */
+public final class YahooTransferMeter {
+
+    private final LongAdder responses = new LongAdder();
+    private final LongAdder compressedResponses = new LongAdder();
+    private final LongAdder wireBytes = new LongAdder();
+    private final LongAdder bodyBytes = new LongAdder();
+
+    /**
+     * Records one response body.
+     *
+     * @param compressed whether the body was sent compressed
+     * @param wire bytes received over the wire
+     * @param body bytes after decompression
+     */
+    void record(boolean compressed, long wire, long body) {
+        responses.increment();
+        if (compressed) {
+            compressedResponses.increment();
+        }
+        wireBytes.add(wire);
+        bodyBytes.add(body);
+    }
+
+    /**
+     * @return current statistics
+     */
+    public YahooTransferStats stats() {
+        return new YahooTransferStats(
+                responses.sum(),
+                compressedResponses.sum(),
+                wireBytes.sum(),
+                bodyBytes.sum());
+    }
+}
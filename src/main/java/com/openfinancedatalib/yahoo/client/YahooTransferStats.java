@@ -0,0 +1,59 @@
+package com.openfinancedatalib.yahoo.client;
+
+/**
+ * Snapshot of {@link YahooTransferMeter} statistics.
+ *
+ * <p>
+ * Values are cumulative since the meter was created.
+ */
+public final class YahooTransferStats {
+
+    private final long responses;
+    private final long compressedResponses;
+    private final long wireBytes;
+    private final long bodyBytes;
+
+    YahooTransferStats(long responses, long compressedResponses, long wireBytes, long bodyBytes) {
+        this.responses = responses;
+        this.compressedResponses = compressedResponses;
+        this.wireBytes = wireBytes;
+        this.bodyBytes = bodyBytes;
+    }
+
+    /** @return number of response bodies read */
+    public long getResponses() {
+        return responses;
+    }
+
+    /** @return number of response bodies received compressed */
+    public long getCompressedResponses() {
+        return compressedResponses;
+    }
+
+    /** @return body bytes received over the wire (compressed size) */
+    public long getWireBytes() {
+        return wireBytes;
+    }
+
+    /** @return body bytes after decompression */
+    public long getBodyBytes() {
+        return bodyBytes;
+    }
+
+    /**
+     * @return decompressed size divided by wire size
+     *         ({@code 1} when nothing was received)
+     */
+    public double getCompressionRatio() {
+        return wireBytes == 0 ? 1 : (double) bodyBytes / wireBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "YahooTransferStats[responses=" + responses
+                + ", compressed=" + compressedResponses
+                + ", wireBytes=" + wireBytes
+                + ", bodyBytes=" + bodyBytes
+                + ", ratio=" + String.format("%.2f", getCompressionRatio()) + "]";
+    }
+}
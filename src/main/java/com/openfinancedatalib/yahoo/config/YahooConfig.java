@@ -0,0 +1,376 @@
+package com.openfinancedatalib.yahoo.config;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.openfinancedatalib.yahoo.cache.YahooCacheSettings;
+import com.openfinancedatalib.yahoo.endpoint.YahooEndpointPool;
+import com.openfinancedatalib.yahoo.endpoint.YahooEndpointResolver;
+import com.openfinancedatalib.yahoo.enums.YahooApiType;
+import com.openfinancedatalib.yahoo.ratelimit.YahooRateLimit;
+import com.openfinancedatalib.yahoo.session.YahooSessionManager;
+
+/**
+ * Configuration of the Yahoo Finance integration.
+ *
+ * <p>
+ * Instances are immutable and created through {@link #builder()}.
+ * {@link #defaults()} returns the configuration used by the
+ * no-argument constructors of the library.
+ *
+ * <p>
+ * Example:
+ * <pre>
+ * YahooConfig config = YahooConfig.builder()
+ *         .rateLimit(YahooApiType.QUOTE, YahooRateLimit.of(20, 40))
+ *         .build();
+ *
+ * OpenFinanceData api = new OpenFinanceData(config);
+ * </pre>
+ */
+public final class YahooConfig {
+
+    /**
+     * Default sustained rate per endpoint, in requests per second.
+     */
+    private static final double DEFAULT_PERMITS_PER_SECOND = 10;
+
+    /**
+     * Default number of requests per endpoint that may be sent back-to-back.
+     */
+    private static final int DEFAULT_BURST = 20;
+
+    /** Client-side rate limits per endpoint (empty when disabled) */
+    private final Map<YahooApiType, YahooRateLimit> rateLimits;
+
+    /** Response cache settings ({@code null} when caching is disabled) */
+    private final YahooCacheSettings cacheSettings;
+
+    /** Settings of the shared HttpClient */
+    private final YahooHttpSettings httpSettings;
+
+    /** Jackson setup parsing every response */
+    private final YahooJsonSettings jsonSettings;
+
+    /** Chooses the Yahoo host of each request */
+    private final YahooEndpointResolver endpointResolver;
+
+    /** Number of independent Yahoo sessions */
+    private final int sessionPoolSize;
+
+    /** URL requested to initialize each session */
+    private final String sessionUrl;
+
+    /** Directory of the local bar store ({@code null} when disabled) */
+    private final Path barStoreDirectory;
+
+    private YahooConfig(Builder builder) {
+        Map<YahooApiType, YahooRateLimit> rateLimits = new EnumMap<>(builder.rateLimits);
+        if (builder.rateLimitingEnabled) {
+            for (YahooApiType type : YahooApiType.values()) {
+                rateLimits.putIfAbsent(type, YahooRateLimit.of(DEFAULT_PERMITS_PER_SECOND, DEFAULT_BURST));
+            }
+        }
+        this.rateLimits = Collections.unmodifiableMap(rateLimits);
+        this.cacheSettings = builder.cacheSettings;
+        this.barStoreDirectory = builder.barStoreDirectory;
+        this.httpSettings = builder.httpSettings;
+        this.jsonSettings = builder.jsonSettings;
+        this.endpointResolver = builder.endpointResolver != null
+                ? builder.endpointResolver
+                : YahooEndpointPool.defaults();
+        this.sessionPoolSize = builder.sessionPoolSize;
+        this.sessionUrl = builder.sessionUrl;
+    }
+
+    /**
+     * @return the default configuration
+     */
+    public static YahooConfig defaults() {
+        return builder().build();
+    }
+
+    /**
+     * @return a new builder pre-populated with default values
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the client-side rate limits.
+     *
+     * <p>
+     * Endpoints absent from the map are not throttled.
+     *
+     * @return rate limit settings per endpoint
+     */
+    public Map<YahooApiType, YahooRateLimit> getRateLimits() {
+        return rateLimits;
+    }
+
+    /**
+     * Returns the response cache settings.
+     *
+     * @return cache settings, or empty if caching is disabled
+     */
+    public Optional<YahooCacheSettings> getCacheSettings() {
+        return Optional.ofNullable(cacheSettings);
+    }
+
+    /**
+     * Returns the settings of the HttpClient shared by all requests.
+     *
+     * @return HTTP client settings
+     */
+    public YahooHttpSettings getHttpSettings() {
+        return httpSettings;
+    }
+
+    /**
+     * Returns the Jackson setup shared by every session and client.
+     *
+     * @return JSON settings
+     */
+    public YahooJsonSettings getJsonSettings() {
+        return jsonSettings;
+    }
+
+    /**
+     * Returns the resolver choosing the Yahoo host of each request.
+     *
+     * <p>
+     * The resolver keeps per-host health state, which is shared by
+     * every library instance created from this configuration.
+     *
+     * @return endpoint resolver
+     */
+    public YahooEndpointResolver getEndpointResolver() {
+        return endpointResolver;
+    }
+
+    /**
+     * Returns the number of independent Yahoo sessions requests are
+     * spread over.
+     *
+     * @return session pool size
+     */
+    public int getSessionPoolSize() {
+        return sessionPoolSize;
+    }
+
+    /**
+     * Returns the URL requested to initialize each session (capture the
+     * Yahoo cookies).
+     *
+     * @return session URL
+     */
+    public String getSessionUrl() {
+        return sessionUrl;
+    }
+
+    /**
+     * Returns the directory of the local historical bar store.
+     *
+     * @return store directory, or empty if the store is disabled
+     */
+    public Optional<Path> getBarStoreDirectory() {
+        return Optional.ofNullable(barStoreDirectory);
+    }
+
+    /**
+     * Builder for {@link YahooConfig}.
+     */
+    public static final class Builder {
+
+        private final Map<YahooApiType, YahooRateLimit> rateLimits =
+                new EnumMap<>(YahooApiType.class);
+
+        private boolean rateLimitingEnabled;
+
+        private YahooCacheSettings cacheSettings;
+
+        private Path barStoreDirectory;
+
+        private YahooHttpSettings httpSettings = YahooHttpSettings.defaults();
+
+        private YahooJsonSettings jsonSettings = YahooJsonSettings.defaults();
+
+        private YahooEndpointResolver endpointResolver;
+
+        private int sessionPoolSize = 1;
+
+        private String sessionUrl = YahooSessionManager.SESSION_INIT_URL;
+
+        private Builder() {
+        }
+
+        /**
+         * Throttles a single endpoint.
+         *
+         * <p>
+         * Applies whether or not {@linkplain #rateLimiting rate limiting}
+         * of every endpoint is enabled.
+         *
+         * @param apiType Yahoo endpoint
+         * @param limit rate limit settings
+         * @return this builder
+         */
+        public Builder rateLimit(YahooApiType apiType, YahooRateLimit limit) {
+            rateLimits.put(apiType, limit);
+            return this;
+        }
+
+        /**
+         * Enables or disables client-side rate limiting of every endpoint.
+         *
+         * <p>
+         * Disabled by default: requests are sent as soon as they are made,
+         * except to the endpoints configured through {@link #rateLimit}.
+         * When enabled, the other endpoints are throttled at 10 requests
+         * per second, with bursts of up to 20 requests.
+         *
+         * @param enabled {@code true} to throttle every endpoint
+         * @return this builder
+         */
+        public Builder rateLimiting(boolean enabled) {
+            this.rateLimitingEnabled = enabled;
+            return this;
+        }
+
+        /**
+         * Enables the in-memory response cache.
+         *
+         * <p>
+         * Disabled by default. Cached responses are shared between
+         * callers and must be treated as read-only.
+         *
+         * @param settings TTLs and size bound, or {@code null} to disable caching
+         * @return this builder
+         */
+        public Builder cache(YahooCacheSettings settings) {
+            this.cacheSettings = settings;
+            return this;
+        }
+
+        /**
+         * Sets the HttpClient settings (HTTP version, executor,
+         * connect and request timeouts).
+         *
+         * @param settings HTTP client settings
+         * @return this builder
+         * @see YahooHttpSettings#defaults()
+         */
+        public Builder http(YahooHttpSettings settings) {
+            this.httpSettings = settings;
+            return this;
+        }
+
+        /**
+         * Sets the Jackson setup (field name handling, {@code BigDecimal}
+         * per endpoint, additional modules).
+         *
+         * <p>
+         * The settings' mapper and readers are shared by every session
+         * and client; reuse the same settings instance across
+         * configurations to share them between library instances.
+         *
+         * @param settings JSON settings
+         * @return this builder
+         * @see YahooJsonSettings#defaults()
+         */
+        public Builder json(YahooJsonSettings settings) {
+            this.jsonSettings = settings;
+            return this;
+        }
+
+        /**
+         * Sets how requests are spread over the Yahoo API hosts.
+         *
+         * <p>
+         * By default requests alternate between
+         * {@code query1.finance.yahoo.com} and
+         * {@code query2.finance.yahoo.com}, and a host is left out for
+         * 30 seconds after a {@code 429}, {@code 5xx} or connection
+         * failure.
+         *
+         * @param resolver endpoint resolver, or {@code null} for the default
+         * @return this builder
+         * @see YahooEndpointPool
+         */
+        public Builder endpoints(YahooEndpointResolver resolver) {
+            this.endpointResolver = resolver;
+            return this;
+        }
+
+        /**
+         * Sets the number of independent Yahoo sessions.
+         *
+         * <p>
+         * Each session has its own cookies, crumb and rate limiter
+         * (the {@linkplain #rateLimit rate limits} apply per session),
+         * and requests are assigned to sessions in turn. A session
+         * rejected by Yahoo three times in a row is replaced by a
+         * fresh one; a throttled session is kept, slowed down by its
+         * rate limiter when rate limiting is configured.
+         *
+         * <p>
+         * Defaults to {@code 1}.
+         *
+         * @param size number of sessions
+         * @return this builder
+         * @throws IllegalArgumentException if {@code size} is less than 1
+         */
+        public Builder sessions(int size) {
+            if (size < 1) {
+                throw new IllegalArgumentException("Session pool size must be at least 1");
+            }
+            this.sessionPoolSize = size;
+            return this;
+        }
+
+        /**
+         * Sets the URL requested to initialize each session.
+         *
+         * <p>
+         * Defaults to {@code https://fc.yahoo.com}. Together with
+         * {@link #endpoints(YahooEndpointResolver)}, this points the
+         * library at a Yahoo stand-in (e.g. a local mock server).
+         *
+         * @param url session initialization URL
+         * @return this builder
+         */
+        public Builder sessionUrl(String url) {
+            this.sessionUrl = url;
+            return this;
+        }
+
+        /**
+         * Enables the persistent local store of historical bars.
+         *
+         * <p>
+         * Disabled by default. Each symbol/interval pair is kept in a
+         * memory-mapped file inside {@code directory}; only one library
+         * instance should use a given directory at a time.
+         *
+         * @param directory store directory (created if missing), or
+         *                  {@code null} to disable the store
+         * @return this builder
+         * @see com.openfinancedatalib.history.store.BarStore
+         */
+        public Builder barStore(Path directory) {
+            this.barStoreDirectory = directory;
+            return this;
+        }
+
+        /**
+         * @return an immutable configuration
+         */
+        public YahooConfig build() {
+            return new YahooConfig(this);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.openfinancedatalib.yahoo.config;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+/**
+ * Settings of the {@link HttpClient} shared by all Yahoo requests.
+ *
+ * <p>
+ * Defaults:
+ * <ul>
+ *   <li>HTTP version: {@link HttpClient.Version#HTTP_2} – concurrent
+ *       requests to the same Yahoo host are multiplexed over a single
+ *       connection (falls back to HTTP/1.1 if the server refuses)</li>
+ *   <li>Executor: the {@link HttpClient} default</li>
+ *   <li>Connect timeout: 10 seconds</li>
+ *   <li>Request timeout: 30 seconds (time to receive the response
+ *       headers)</li>
+ * </ul>
+ *
+ * <p>
+ * Example:
+ * <pre>
+ * YahooHttpSettings http = YahooHttpSettings.builder()
+ *         .version(HttpClient.Version.HTTP_1_1)
+ *         .requestTimeout(Duration.ofSeconds(5))
+ *         .build();
+ * </pre>
+ */
+public final class YahooHttpSettings {
+
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient.Version version;
+
+    /** Custom executor, or {@code null} for the HttpClient default */
+    private final Executor executor;
+
+    private final Duration connectTimeout;
+
+    /** Per-request timeout, or {@code null} to wait indefinitely */
+    private final Duration requestTimeout;
+
+    private YahooHttpSettings(Builder builder) {
+        this.version = builder.version;
+        this.executor = builder.executor;
+        this.connectTimeout = builder.connectTimeout;
+        this.requestTimeout = builder.requestTimeout;
+    }
+
+    /**
+     * @return the default settings
+     */
+    public static YahooHttpSettings defaults() {
+        return builder().build();
+    }
+
+    /**
+     * @return a new builder pre-populated with default values
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return preferred HTTP version
+     */
+    public HttpClient.Version getVersion() {
+        return version;
+    }
+
+    /**
+     * @return executor used by the HttpClient, or empty for its default
+     */
+    public Optional<Executor> getExecutor() {
+        return Optional.ofNullable(executor);
+    }
+
+    /**
+     * @return connection establishment timeout
+     */
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * @return per-request timeout, or empty if requests never time out
+     */
+    public Optional<Duration> getRequestTimeout() {
+        return Optional.ofNullable(requestTimeout);
+    }
+
+    /**
+     * Applies the version, executor and connect timeout to an
+     * {@link HttpClient.Builder}.
+     *
+     * @param builder builder to configure
+     * @return the same builder
+     */
+    public HttpClient.Builder configure(HttpClient.Builder builder) {
+        builder.version(version).connectTimeout(connectTimeout);
+        if (executor != null) {
+            builder.executor(executor);
+        }
+        return builder;
+    }
+
+    /**
+     * Builder for {@link YahooHttpSettings}.
+     */
+    public static final class Builder {
+
+        private HttpClient.Version version = HttpClient.Version.HTTP_2;
+
+        private Executor executor;
+
+        private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+
+        private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+
+        private Builder() {
+        }
+
+        /**
+         * @param version preferred HTTP version
+         * @return this builder
+         */
+        public Builder version(HttpClient.Version version) {
+            this.version = version;
+            return this;
+        }
+
+        /**
+         * Sets the executor used by the HttpClient for asynchronous
+         * tasks and dependent stages.
+         *
+         * @param executor executor, or {@code null} for the HttpClient default
+         * @return this builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * @param timeout connection establishment timeout
+         * @return this builder
+         */
+        public Builder connectTimeout(Duration timeout) {
+            this.connectTimeout = timeout;
+            return this;
+        }
+
+        /**
+         * Sets the time allowed between sending a request and receiving
+         * its response headers.
+         *
+         * <p>
+         * A timed out request fails with
+         * {@link java.net.http.HttpTimeoutException}.
+         *
+         * @param timeout request timeout, or {@code null} to wait indefinitely
+         * @return this builder
+         */
+        public Builder requestTimeout(Duration timeout) {
+            this.requestTimeout = timeout;
+            return this;
+        }
+
+        /**
+         * @return immutable settings
+         */
+        public YahooHttpSettings build() {
+            return new YahooHttpSettings(this);
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package com.openfinancedatalib.yahoo.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.openfinancedatalib.yahoo.enums.YahooApiType;
+
+/**
+ * Jackson setup used to parse every Yahoo response.
+ *
+ * <p>
+ * A settings instance builds a single {@link ObjectMapper} and one
+ * immutable {@link ObjectReader} per endpoint. Every session and client
+ * of an {@code OpenFinanceData} instance shares them, and
+ * {@link #defaults()} is shared by every instance in the JVM, so
+ * Jackson's symbol tables and caches are warmed once.
+ *
+ * <p>
+ * Defaults:
+ * <ul>
+ *   <li>Field names interned and canonicalized (Jackson defaults): the
+ *       few hundred distinct Yahoo field names are decoded once and then
+ *       reused</li>
+ *   <li>Floating-point numbers read as {@code double} on every
+ *       endpoint</li>
+ *   <li>Parser buffers taken from a bounded pool shared by all threads
+ *       (see {@link Builder#bufferPool(RecyclerPool)})</li>
+ *   <li>No additional module</li>
+ * </ul>
+ *
+ * <p>
+ * Example:
+ * <pre>
+ * YahooJsonSettings json = YahooJsonSettings.builder()
+ *         .bigDecimals(YahooApiType.QUOTE_SUMMARY, true)
+ *         .build();
+ * </pre>
+ *
+ * <p>
+ * Bytecode accelerators such as Afterburner or Blackbird can be
+ * registered with {@link Builder#module(Module)}. They speed up POJO
+ * data binding only; the library itself parses into {@link JsonNode}
+ * trees and streams, which they do not affect.
+ */
+public final class YahooJsonSettings {
+
+    /**
+     * Number of buffer sets kept by the default pool.
+     * <p>
+     * Bounds the retained memory to a few megabytes even after bursts of
+     * large responses; beyond it, buffers are allocated and dropped.
+     */
+    private static final int DEFAULT_BUFFER_POOL_SIZE = 64;
+
+    private static final YahooJsonSettings DEFAULTS = builder().build();
+
+    private final boolean internFieldNames;
+
+    private final boolean canonicalizeFieldNames;
+
+    /** Endpoints reading floating-point numbers as {@code BigDecimal} */
+    private final Set<YahooApiType> bigDecimals;
+
+    private final List<Module> modules;
+
+    /** Pool of the parsers' byte and char buffers */
+    private final RecyclerPool<BufferRecycler> bufferPool;
+
+    /** Tree reader of each endpoint */
+    private final Map<YahooApiType, ObjectReader> readers = new EnumMap<>(YahooApiType.class);
+
+    private YahooJsonSettings(Builder builder) {
+        this.internFieldNames = builder.internFieldNames;
+        this.canonicalizeFieldNames = builder.canonicalizeFieldNames;
+        this.bigDecimals = Collections.unmodifiableSet(EnumSet.copyOf(builder.bigDecimals));
+        this.modules = List.copyOf(builder.modules);
+        this.bufferPool = builder.bufferPool != null
+                ? builder.bufferPool
+                : JsonRecyclerPools.newBoundedPool(DEFAULT_BUFFER_POOL_SIZE);
+
+        JsonFactory factory = JsonFactory.builder()
+                .configure(JsonFactory.Feature.CANONICALIZE_FIELD_NAMES, canonicalizeFieldNames)
+                .configure(JsonFactory.Feature.INTERN_FIELD_NAMES, internFieldNames)
+                .recyclerPool(bufferPool)
+                .build();
+
+        ObjectMapper mapper = JsonMapper.builder(factory)
+                .addModules(modules)
+                .build();
+
+        for (YahooApiType apiType : YahooApiType.values()) {
+            ObjectReader reader = mapper.readerFor(JsonNode.class);
+            if (bigDecimals.contains(apiType)) {
+                reader = reader.with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+            }
+            readers.put(apiType, reader);
+        }
+    }
+
+    /**
+     * Returns the default settings.
+     *
+     * <p>
+     * Always the same instance, so its mapper is shared JVM-wide.
+     *
+     * @return the default settings
+     */
+    public static YahooJsonSettings defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * @return a new builder pre-populated with default values
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the reader parsing the responses of an endpoint.
+     *
+     * <p>
+     * Readers are immutable and thread-safe. Parsers created from them
+     * use the shared {@link ObjectMapper} as codec.
+     *
+     * @param apiType Yahoo endpoint
+     * @return tree reader of the endpoint
+     */
+    public ObjectReader getReader(YahooApiType apiType) {
+        return readers.get(apiType);
+    }
+
+    /**
+     * @return whether field names are interned
+     */
+    public boolean isInternFieldNames() {
+        return internFieldNames;
+    }
+
+    /**
+     * @return whether field names are canonicalized (reused through
+     *         Jackson's symbol table)
+     */
+    public boolean isCanonicalizeFieldNames() {
+        return canonicalizeFieldNames;
+    }
+
+    /**
+     * @return endpoints reading floating-point numbers as {@code BigDecimal}
+     */
+    public Set<YahooApiType> getBigDecimals() {
+        return bigDecimals;
+    }
+
+    /**
+     * @return additional Jackson modules
+     */
+    public List<Module> getModules() {
+        return modules;
+    }
+
+    /**
+     * @return pool of the parsers' byte and char buffers
+     */
+    public RecyclerPool<BufferRecycler> getBufferPool() {
+        return bufferPool;
+    }
+
+    /**
+     * Builder for {@link YahooJsonSettings}.
+     */
+    public static final class Builder {
+
+        private boolean internFieldNames = true;
+
+        private boolean canonicalizeFieldNames = true;
+
+        private final Set<YahooApiType> bigDecimals = EnumSet.noneOf(YahooApiType.class);
+
+        private final List<Module> modules = new ArrayList<>();
+
+        private RecyclerPool<BufferRecycler> bufferPool;
+
+        private Builder() {
+        }
+
+        /**
+         * Enables or disables the interning of field names.
+         *
+         * <p>
+         * Only effective while field names are canonicalized.
+         *
+         * @param enabled {@code true} to intern field names
+         * @return this builder
+         */
+        public Builder internFieldNames(boolean enabled) {
+            this.internFieldNames = enabled;
+            return this;
+        }
+
+        /**
+         * Enables or disables the canonicalization of field names.
+         *
+         * <p>
+         * When disabled, every field name is decoded into a new
+         * {@code String}, which allocates more but avoids symbol table
+         * growth when field names are unbounded.
+         *
+         * @param enabled {@code true} to canonicalize field names
+         * @return this builder
+         */
+        public Builder canonicalizeFieldNames(boolean enabled) {
+            this.canonicalizeFieldNames = enabled;
+            return this;
+        }
+
+        /**
+         * Reads the floating-point numbers of an endpoint as
+         * {@code BigDecimal} (exact decimal values) instead of
+         * {@code double} (faster, fewer allocations).
+         *
+         * <p>
+         * Applies to the JSON trees returned by the endpoint. Price
+         * series decoded from chart responses always use {@code double}
+         * columns.
+         *
+         * @param apiType Yahoo endpoint
+         * @param enabled {@code true} for {@code BigDecimal}
+         * @return this builder
+         */
+        public Builder bigDecimals(YahooApiType apiType, boolean enabled) {
+            if (enabled) {
+                bigDecimals.add(apiType);
+            } else {
+                bigDecimals.remove(apiType);
+            }
+            return this;
+        }
+
+        /**
+         * Registers an additional Jackson module (e.g. Afterburner or
+         * Blackbird).
+         *
+         * @param module Jackson module
+         * @return this builder
+         */
+        public Builder module(Module module) {
+            this.modules.add(module);
+            return this;
+        }
+
+        /**
+         * Sets the pool of the buffers each parser needs: the input
+         * buffer fed from the response stream and the text buffers
+         * holding field names and values (which grow with large bodies).
+         *
+         * <p>
+         * Jackson's default pool is thread-local, which never reuses
+         * anything on virtual threads: every response body read on one
+         * would allocate a fresh set of buffers. The default here is a
+         * bounded pool shared by all threads.
+         *
+         * @param pool buffer pool, or {@code null} for the default
+         * @return this builder
+         * @see JsonRecyclerPools
+         */
+        public Builder bufferPool(RecyclerPool<BufferRecycler> pool) {
+            this.bufferPool = pool;
+            return this;
+        }
+
+        /**
+         * Builds the settings and their shared mapper.
+         *
+         * @return immutable settings
+         */
+        public YahooJsonSettings build() {
+            return new YahooJsonSettings(this);
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package com.openfinancedatalib.yahoo.endpoint;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.openfinancedatalib.yahoo.exception.YahooRateLimitException;
+import com.openfinancedatalib.yahoo.exception.YahooUnavailableException;
+
+/**
+ * Default {@link YahooEndpointResolver}: a fixed set of hosts with
+ * per-host health tracking.
+ *
+ * <p>
+ * A host is taken out of rotation for a cooldown period after:
+ * <ul>
+ *   <li>a {@code 5xx} response ({@link YahooUnavailableException} with a
+ *       {@linkplain YahooUnavailableException#getStatusCode() status})</li>
+ *   <li>a {@link YahooRateLimitException} ({@code 429}); the cooldown is
+ *       extended to Yahoo's {@code Retry-After} when longer</li>
+ *   <li>an {@link IOException} (connection failure or timeout)</li>
+ * </ul>
+ * Other failures (authentication, unknown symbol, empty or error
+ * payloads, which the other host would answer the same way) do not
+ * affect the host. When every host is cooling down, the one that recovers first is
+ * used.
+ *
+ * <p>
+ * Defaults:
+ * <ul>
+ *   <li>Hosts: {@code https://query1.finance.yahoo.com} and
+ *       {@code https://query2.finance.yahoo.com}</li>
+ *   <li>Strategy: {@link YahooEndpointStrategy#ROUND_ROBIN}</li>
+ *   <li>Cooldown: 30 seconds</li>
+ * </ul>
+ *
+ * <p>
+ * Example:
+ * <pre>
+ * YahooEndpointPool endpoints = YahooEndpointPool.builder()
+ *         .strategy(YahooEndpointStrategy.LEAST_LATENCY)
+ *         .cooldown(Duration.ofMinutes(1))
+ *         .build();
+ * </pre>
+ *
+ * <p>
+ * This class is thread-safe.
+ */
+public final class YahooEndpointPool implements YahooEndpointResolver {
+
+    /** Yahoo Finance API hosts serving the same endpoints */
+    private static final List<String> DEFAULT_ENDPOINTS = List.of(
+            "https://query1.finance.yahoo.com",
+            "https://query2.finance.yahoo.com");
+
+    private static final Duration DEFAULT_COOLDOWN = Duration.ofSeconds(30);
+
+    /**
+     * Weight of a new sample in the latency moving average.
+     */
+    private static final double LATENCY_WEIGHT = 0.2;
+
+    /** Hosts keyed by base URL, in configuration order */
+    private final Map<String, Host> hosts = new LinkedHashMap<>();
+
+    /** Same hosts, for index-based selection */
+    private final Host[] rotation;
+
+    private final YahooEndpointStrategy strategy;
+
+    private final long cooldownNanos;
+
+    /** Round-robin position */
+    private final AtomicInteger next = new AtomicInteger();
+
+    private YahooEndpointPool(Builder builder) {
+        for (String endpoint : builder.endpoints) {
+            String normalized = normalize(endpoint);
+            hosts.putIfAbsent(normalized, new Host(normalized));
+        }
+        this.rotation = hosts.values().toArray(Host[]::new);
+        this.strategy = builder.strategy;
+        this.cooldownNanos = builder.cooldown.toNanos();
+    }
+
+    /**
+     * @return a pool with the default hosts and settings
+     */
+    public static YahooEndpointPool defaults() {
+        return builder().build();
+    }
+
+    /**
+     * @return a new builder pre-populated with default values
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the next healthy endpoint according to the strategy.
+     *
+     * @return base URL of a Yahoo host
+     */
+    @Override
+    public String resolve() {
+        long now = System.nanoTime();
+
+        List<Host> healthy = new ArrayList<>(rotation.length);
+        for (Host host : rotation) {
+            if (host.isAvailable(now)) {
+                healthy.add(host);
+            }
+        }
+
+        if (healthy.isEmpty()) {
+            return firstToRecover().endpoint;
+        }
+
+        return switch (strategy) {
+            case ROUND_ROBIN ->
+                healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size())).endpoint;
+            case LEAST_LATENCY ->
+                fastest(healthy).endpoint;
+        };
+    }
+
+    /**
+     * Folds the latency into the host's moving average.
+     *
+     * @param endpoint base URL the request was sent to
+     * @param latency time until the response headers were received
+     */
+    @Override
+    public void onSuccess(String endpoint, Duration latency) {
+        Host host = hosts.get(normalize(endpoint));
+        if (host != null) {
+            host.recordLatency(Math.max(1, latency.toNanos()));
+        }
+    }
+
+    /**
+     * Takes the host out of rotation if {@code error} reflects on it.
+     *
+     * @param endpoint base URL the request was sent to
+     * @param error failure raised by the request
+     */
+    @Override
+    public void onFailure(String endpoint, Throwable error) {
+        Host host = hosts.get(normalize(endpoint));
+        if (host == null) {
+            return;
+        }
+
+        // Walk the cause chain: transport failures are usually wrapped
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+
+            if (cause instanceof YahooRateLimitException rateLimited) {
+                long retryAfter = rateLimited.getRetryAfter()
+                        .map(Duration::toNanos)
+                        .orElse(0L);
+                host.suspend(Math.max(cooldownNanos, retryAfter));
+                return;
+            }
+
+            if (cause instanceof YahooUnavailableException unavailable) {
+                if (unavailable.getStatusCode().isPresent()) {
+                    host.suspend(cooldownNanos);
+                }
+                return;
+            }
+
+            if (cause instanceof IOException) {
+                host.suspend(cooldownNanos);
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return configured endpoints, in configuration order
+     */
+    public List<String> getEndpoints() {
+        return List.copyOf(hosts.keySet());
+    }
+
+    /**
+     * Returns whether an endpoint is currently in rotation.
+     *
+     * @param endpoint base URL of a configured host
+     * @return {@code false} if the host is cooling down or unknown
+     */
+    public boolean isAvailable(String endpoint) {
+        Host host = hosts.get(normalize(endpoint));
+        return host != null && host.isAvailable(System.nanoTime());
+    }
+
+    /**
+     * @return host whose cooldown ends first
+     */
+    private Host firstToRecover() {
+        Host first = rotation[0];
+        for (Host host : rotation) {
+            if (host.unavailableUntil - first.unavailableUntil < 0) {
+                first = host;
+            }
+        }
+        return first;
+    }
+
+    /**
+     * @return host with the lowest average latency (unmeasured hosts first)
+     */
+    private static Host fastest(List<Host> candidates) {
+        Host fastest = candidates.get(0);
+        for (Host host : candidates) {
+            if (host.latency.get() < fastest.latency.get()) {
+                fastest = host;
+            }
+        }
+        return fastest;
+    }
+
+    private static String normalize(String endpoint) {
+        return endpoint.endsWith("/")
+                ? endpoint.substring(0, endpoint.length() - 1)
+                : endpoint;
+    }
+
+    /**
+     * Health and latency of a single host.
+     */
+    private static final class Host {
+
+        private final String endpoint;
+
+        /** Moving average latency in nanoseconds ({@code 0} = no sample yet) */
+        private final AtomicLong latency = new AtomicLong();
+
+        /** {@link System#nanoTime()} at which the cooldown ends */
+        private volatile long unavailableUntil;
+
+        /** Whether a cooldown has ever been started */
+        private volatile boolean suspended;
+
+        private Host(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        private boolean isAvailable(long now) {
+            return !suspended || now - unavailableUntil >= 0;
+        }
+
+        private void suspend(long nanos) {
+            long until = System.nanoTime() + nanos;
+
+            // Never shorten a longer cooldown (e.g. a Retry-After)
+            if (!suspended || until - unavailableUntil > 0) {
+                unavailableUntil = until;
+                suspended = true;
+            }
+        }
+
+        private void recordLatency(long sample) {
+            latency.updateAndGet(average -> average == 0
+                    ? sample
+                    : Math.round(average + LATENCY_WEIGHT * (sample - average)));
+        }
+    }
+
+    /**
+     * Builder for {@link YahooEndpointPool}.
+     */
+    public static final class Builder {
+
+        private List<String> endpoints = DEFAULT_ENDPOINTS;
+
+        private YahooEndpointStrategy strategy = YahooEndpointStrategy.ROUND_ROBIN;
+
+        private Duration cooldown = DEFAULT_COOLDOWN;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the hosts requests are spread over.
+         *
+         * @param endpoints base URLs (e.g. {@code https://query2.finance.yahoo.com})
+         * @return this builder
+         * @throws IllegalArgumentException if no endpoint is given
+         */
+        public Builder endpoints(String... endpoints) {
+            if (endpoints.length == 0) {
+                throw new IllegalArgumentException("At least one endpoint is required");
+            }
+            this.endpoints = List.of(endpoints);
+            return this;
+        }
+
+        /**
+         * @param strategy how healthy hosts are picked
+         * @return this builder
+         */
+        public Builder strategy(YahooEndpointStrategy strategy) {
+            this.strategy = strategy;
+            return this;
+        }
+
+        /**
+         * @param cooldown how long a failing host is left out of rotation
+         * @return this builder
+         */
+        public Builder cooldown(Duration cooldown) {
+            this.cooldown = cooldown;
+            return this;
+        }
+
+        /**
+         * @return a new pool
+         */
+        public YahooEndpointPool build() {
+            return new YahooEndpointPool(this);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.openfinancedatalib.yahoo.endpoint;
+
+import java.time.Duration;
+
+/**
+ * Chooses the Yahoo Finance host each request is sent to.
+ *
+ * <p>
+ * Yahoo serves the same APIs from several hosts
+ * ({@code query1.finance.yahoo.com}, {@code query2.finance.yahoo.com}),
+ * and rate limits are applied per host. A resolver spreads requests over
+ * them and is told the outcome of every request, so it can route around
+ * slow or failing hosts.
+ *
+ * <p>
+ * Endpoints are base URLs without a trailing slash
+ * (e.g. {@code https://query1.finance.yahoo.com}); the API path is
+ * appended by the clients.
+ *
+ * <p>
+ * Implementations must be thread-safe.
+ *
+ * @see YahooEndpointPool
+ */
+public interface YahooEndpointResolver {
+
+    /**
+     * Returns the endpoint the next request should be sent to.
+     *
+     * @return base URL of a Yahoo host
+     */
+    String resolve();
+
+    /**
+     * Records a successful request.
+     *
+     * @param endpoint base URL the request was sent to
+     * @param latency time until the response headers were received
+     */
+    void onSuccess(String endpoint, Duration latency);
+
+    /**
+     * Records a failed request.
+     *
+     * <p>
+     * Called for every failure; implementations decide which ones
+     * reflect on the host (e.g. {@code 5xx}, {@code 429}, connection
+     * errors) and which ones do not (e.g. an unknown symbol).
+     *
+     * @param endpoint base URL the request was sent to
+     * @param error failure raised by the request
+     */
+    void onFailure(String endpoint, Throwable error);
+}
@@ -0,0 +1,19 @@
+package com.openfinancedatalib.yahoo.endpoint;
+
+/**
+ * How {@link YahooEndpointPool} picks among the healthy hosts.
+ */
+public enum YahooEndpointStrategy {
+
+    /**
+     * Hosts are used in turn, spreading requests (and rate limits)
+     * evenly.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * The host with the lowest recent latency is used; hosts that have
+     * not answered yet are tried first.
+     */
+    LEAST_LATENCY
+}
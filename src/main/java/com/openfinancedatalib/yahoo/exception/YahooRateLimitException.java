@@ -1,5 +1,8 @@
 package com.openfinancedatalib.yahoo.exception;
 
+import java.time.Duration;
+import java.util.Optional;
+
 /**
  * Exception thrown when Yahoo Finance rate limits a request.
  *
@@ -24,9 +27,18 @@ package com.openfinancedatalib.yahoo.exception;
  * <p>
  * This exception is commonly thrown by response validators
  * when Yahoo enforces rate limiting.
+ *
+ * <p>
+ * When Yahoo sends a {@code Retry-After} header, its value is
+ * available through {@link #getRetryAfter()}.
  */
 public class YahooRateLimitException extends YahooException {
 
+    /**
+     * Wait requested by Yahoo before the next request, if any.
+     */
+    private final Duration retryAfter;
+
     /**
      * Creates a new {@code YahooRateLimitException}
      * with the specified error message.
@@ -34,6 +46,29 @@ public class YahooRateLimitException extends YahooException {
      * @param message a human-readable description of the rate limit error
      */
     public YahooRateLimitException(String message) {
+        this(message, null);
+    }
+
+    /**
+     * Creates a new {@code YahooRateLimitException}
+     * with the specified error message and the wait
+     * requested by Yahoo.
+     *
+     * @param message a human-readable description of the rate limit error
+     * @param retryAfter value of the {@code Retry-After} header,
+     *                   or {@code null} if absent
+     */
+    public YahooRateLimitException(String message, Duration retryAfter) {
         super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Returns how long Yahoo asked the client to wait.
+     *
+     * @return the {@code Retry-After} duration, if Yahoo sent one
+     */
+    public Optional<Duration> getRetryAfter() {
+        return Optional.ofNullable(retryAfter);
     }
 }
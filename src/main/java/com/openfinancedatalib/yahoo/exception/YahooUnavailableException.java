@@ -1,5 +1,7 @@
 package com.openfinancedatalib.yahoo.exception;
 
+import java.util.OptionalInt;
+
 /**
  * Exception thrown when Yahoo Finance is unavailable or returns
  * an invalid response.
@@ -27,9 +29,19 @@ package com.openfinancedatalib.yahoo.exception;
  * <p>
  * Higher layers may choose to log or propagate this
  * exception directly to the caller.
+ *
+ * <p>
+ * When Yahoo answered with a {@code 5xx} status, the status is available
+ * through {@link #getStatusCode()}; it is absent for invalid or error
+ * payloads.
  */
 public class YahooUnavailableException extends YahooException {
 
+    /**
+     * HTTP status of the failed response, or {@code 0} if not a status error.
+     */
+    private final int statusCode;
+
     /**
      * Creates a new {@code YahooUnavailableException}
      * with the specified error message.
@@ -37,6 +49,28 @@ public class YahooUnavailableException extends YahooException {
      * @param message a human-readable description of the error
      */
     public YahooUnavailableException(String message) {
+        this(message, 0);
+    }
+
+    /**
+     * Creates a new {@code YahooUnavailableException}
+     * with the specified error message and the HTTP
+     * status returned by Yahoo.
+     *
+     * @param message a human-readable description of the error
+     * @param statusCode {@code 5xx} status returned by Yahoo
+     */
+    public YahooUnavailableException(String message, int statusCode) {
         super(message);
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * Returns the HTTP status of the failed response.
+     *
+     * @return the {@code 5xx} status, if Yahoo answered with one
+     */
+    public OptionalInt getStatusCode() {
+        return statusCode == 0 ? OptionalInt.empty() : OptionalInt.of(statusCode);
     }
 }
@@ -0,0 +1,189 @@
+package com.openfinancedatalib.yahoo.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket with an adaptive (AIMD) refill rate.
+ *
+ * <p>
+ * Permits are <b>reserved</b>: a caller always takes a token, even when
+ * the bucket is empty, and is told how long to wait before using it.
+ * This queues concurrent callers fairly without any lock and without
+ * waking them all at once when tokens become available.
+ *
+ * <p>
+ * All state is held in atomics and updated with compare-and-set loops.
+ */
+final class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    /**
+     * Immutable snapshot of the bucket content.
+     */
+    private static final class State {
+
+        /** Available tokens (negative when permits are reserved ahead) */
+        final double tokens;
+
+        /** Instant (nanoTime) of the last refill */
+        final long refilledAt;
+
+        State(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+    }
+
+    private final YahooRateLimit limit;
+
+    private final AtomicReference<State> state;
+
+    /** Current refill rate, stored as {@link Double#doubleToLongBits} */
+    private final AtomicLong rateBits;
+
+    /** Instant (nanoTime) until which every request is suspended */
+    private final AtomicLong pausedUntil;
+
+    TokenBucket(YahooRateLimit limit) {
+        long now = System.nanoTime();
+
+        this.limit = limit;
+        this.state = new AtomicReference<>(new State(limit.getBurst(), now));
+        this.rateBits = new AtomicLong(Double.doubleToLongBits(limit.getPermitsPerSecond()));
+        this.pausedUntil = new AtomicLong(now);
+    }
+
+    /**
+     * Reserves one permit.
+     *
+     * <p>
+     * During a suspension, tokens are counted from the end of the pause:
+     * callers queued behind a {@code 429} are spaced at the decreased rate
+     * once it ends, instead of all being released at the same instant.
+     *
+     * @return nanoseconds the caller must wait before sending the request
+     *         ({@code 0} when it may proceed immediately)
+     */
+    long reserve() {
+        for (;;) {
+            long now = System.nanoTime();
+            State current = state.get();
+            double rate = rate();
+
+            long paused = pausedUntil.get();
+            long start = paused - now > 0 ? paused : now;
+
+            double tokens = refill(current, start, rate) - 1;
+            long refilledAt = current.refilledAt - start > 0 ? current.refilledAt : start;
+
+            if (state.compareAndSet(current, new State(tokens, refilledAt))) {
+                long wait = tokens >= 0
+                        ? 0
+                        : (long) Math.ceil(-tokens * NANOS_PER_SECOND / rate);
+
+                return (start - now) + wait;
+            }
+        }
+    }
+
+    /**
+     * Re-checks a reservation whose wait is over.
+     *
+     * <p>
+     * A caller that reserved before a {@code 429} wakes up during the
+     * suspension; it then takes a fresh reservation, which queues it
+     * behind the pause at the decreased rate instead of releasing every
+     * such caller at the end of the pause.
+     *
+     * @return nanoseconds the caller must wait again before sending the
+     *         request ({@code 0} when it may proceed)
+     */
+    long recheck() {
+        return pauseRemaining() > 0 ? reserve() : 0;
+    }
+
+    /**
+     * @return nanoseconds remaining in the current suspension, or {@code 0}
+     */
+    long pauseRemaining() {
+        return pauseRemaining(System.nanoTime());
+    }
+
+    /**
+     * Additive increase after a successful request.
+     */
+    void onSuccess() {
+        for (;;) {
+            long bits = rateBits.get();
+            double rate = Double.longBitsToDouble(bits);
+            double increased = Math.min(limit.getPermitsPerSecond(), rate + limit.getIncreaseStep());
+
+            if (increased == rate
+                    || rateBits.compareAndSet(bits, Double.doubleToLongBits(increased))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Multiplicative decrease and suspension after a {@code 429}.
+     *
+     * @param retryAfter suspension requested by Yahoo, or {@code null}
+     */
+    void onRateLimited(Duration retryAfter) {
+
+        double previousRate;
+        for (;;) {
+            long bits = rateBits.get();
+            previousRate = Double.longBitsToDouble(bits);
+            double decreased = Math.max(limit.getMinPermitsPerSecond(), previousRate * limit.getDecreaseFactor());
+
+            if (decreased == previousRate
+                    || rateBits.compareAndSet(bits, Double.doubleToLongBits(decreased))) {
+                break;
+            }
+        }
+
+        Duration backoff = retryAfter != null ? retryAfter : limit.getDefaultBackoff();
+        long until = System.nanoTime() + backoff.toNanos();
+
+        // Never shorten a suspension already in place
+        pausedUntil.accumulateAndGet(until, (current, proposed) ->
+                proposed - current > 0 ? proposed : current);
+
+        // Drop any accumulated burst and refill only from the end of the
+        // pause: resume slowly after it. Reservations due before the end
+        // of the pause are cancelled, as their callers reserve again
+        // (see recheck()); only those due after it remain queued.
+        long resumeAt = pausedUntil.get();
+        for (;;) {
+            State current = state.get();
+            long refilledAt = current.refilledAt - resumeAt > 0 ? current.refilledAt : resumeAt;
+            State paused = new State(Math.min(0, refill(current, resumeAt, previousRate)), refilledAt);
+
+            if (state.compareAndSet(current, paused)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return current refill rate in permits per second
+     */
+    double rate() {
+        return Double.longBitsToDouble(rateBits.get());
+    }
+
+    private double refill(State current, long now, double rate) {
+        // Zero while refilledAt is still ahead (end of a pause)
+        long elapsed = Math.max(0, now - current.refilledAt);
+        return Math.min(limit.getBurst(), current.tokens + elapsed * rate / NANOS_PER_SECOND);
+    }
+
+    private long pauseRemaining(long now) {
+        return Math.max(0, pausedUntil.get() - now);
+    }
+}
@@ -0,0 +1,136 @@
+package com.openfinancedatalib.yahoo.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Rate limit settings for a single Yahoo Finance endpoint.
+ *
+ * <p>
+ * The limit is enforced by a token bucket whose refill rate
+ * adapts to Yahoo's feedback (AIMD):
+ * <ul>
+ *   <li><b>Additive increase</b> – every successful request raises the
+ *       rate by {@code increaseStep}, up to {@code permitsPerSecond}</li>
+ *   <li><b>Multiplicative decrease</b> – every {@code 429} response
+ *       multiplies the rate by {@code decreaseFactor}, down to
+ *       {@code minPermitsPerSecond}</li>
+ * </ul>
+ *
+ * <p>
+ * After a {@code 429}, requests are suspended for the duration given by
+ * Yahoo's {@code Retry-After} header, or {@code defaultBackoff} when the
+ * header is absent.
+ */
+public final class YahooRateLimit {
+
+    /** Default additive increase, in permits per second, per success */
+    private static final double DEFAULT_INCREASE_STEP = 0.1;
+
+    /** Default multiplicative decrease applied on each 429 */
+    private static final double DEFAULT_DECREASE_FACTOR = 0.5;
+
+    /** Default suspension when Yahoo does not send Retry-After */
+    private static final Duration DEFAULT_BACKOFF = Duration.ofSeconds(5);
+
+    private final double permitsPerSecond;
+    private final int burst;
+    private final double minPermitsPerSecond;
+    private final double increaseStep;
+    private final double decreaseFactor;
+    private final Duration defaultBackoff;
+
+    /**
+     * Creates fully customized rate limit settings.
+     *
+     * @param permitsPerSecond    maximum (and initial) sustained rate
+     * @param burst               maximum number of requests sent back-to-back
+     * @param minPermitsPerSecond lowest rate reachable after repeated 429s
+     * @param increaseStep        rate increase, in permits per second, per success
+     * @param decreaseFactor      rate multiplier applied on each 429 (0 &lt; f &lt; 1)
+     * @param defaultBackoff      suspension used when Retry-After is absent
+     *
+     * @throws IllegalArgumentException if any value is out of range
+     */
+    public YahooRateLimit(
+            double permitsPerSecond,
+            int burst,
+            double minPermitsPerSecond,
+            double increaseStep,
+            double decreaseFactor,
+            Duration defaultBackoff) {
+
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond and burst must be positive");
+        }
+        if (minPermitsPerSecond <= 0 || minPermitsPerSecond > permitsPerSecond) {
+            throw new IllegalArgumentException(
+                    "minPermitsPerSecond must be positive and not exceed permitsPerSecond");
+        }
+        if (increaseStep < 0) {
+            throw new IllegalArgumentException("increaseStep must not be negative");
+        }
+        if (decreaseFactor <= 0 || decreaseFactor >= 1) {
+            throw new IllegalArgumentException("decreaseFactor must be between 0 and 1");
+        }
+        if (defaultBackoff == null || defaultBackoff.isNegative()) {
+            throw new IllegalArgumentException("defaultBackoff must not be negative");
+        }
+
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.minPermitsPerSecond = minPermitsPerSecond;
+        this.increaseStep = increaseStep;
+        this.decreaseFactor = decreaseFactor;
+        this.defaultBackoff = defaultBackoff;
+    }
+
+    /**
+     * Creates rate limit settings with default AIMD parameters.
+     *
+     * <p>
+     * The minimum rate is 5% of {@code permitsPerSecond}.
+     *
+     * @param permitsPerSecond maximum (and initial) sustained rate
+     * @param burst            maximum number of requests sent back-to-back
+     * @return rate limit settings
+     */
+    public static YahooRateLimit of(double permitsPerSecond, int burst) {
+        return new YahooRateLimit(
+                permitsPerSecond,
+                burst,
+                permitsPerSecond * 0.05,
+                DEFAULT_INCREASE_STEP,
+                DEFAULT_DECREASE_FACTOR,
+                DEFAULT_BACKOFF);
+    }
+
+    /** @return maximum (and initial) sustained rate */
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    /** @return maximum number of requests sent back-to-back */
+    public int getBurst() {
+        return burst;
+    }
+
+    /** @return lowest rate reachable after repeated 429s */
+    public double getMinPermitsPerSecond() {
+        return minPermitsPerSecond;
+    }
+
+    /** @return rate increase, in permits per second, per success */
+    public double getIncreaseStep() {
+        return increaseStep;
+    }
+
+    /** @return rate multiplier applied on each 429 */
+    public double getDecreaseFactor() {
+        return decreaseFactor;
+    }
+
+    /** @return suspension used when Retry-After is absent */
+    public Duration getDefaultBackoff() {
+        return defaultBackoff;
+    }
+}
@@ -0,0 +1,146 @@
+package com.openfinancedatalib.yahoo.ratelimit;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import com.openfinancedatalib.yahoo.enums.YahooApiType;
+
+/**
+ * Client-side rate limiter for Yahoo Finance requests.
+ *
+ * <p>
+ * Keeps one adaptive token bucket per {@link YahooApiType}, so each
+ * endpoint is throttled independently.
+ *
+ * <p>
+ * Responsibilities:
+ * <ul>
+ *   <li>Delay requests so the configured rate is never exceeded</li>
+ *   <li>Shrink the rate when Yahoo answers {@code 429} and suspend
+ *       requests for the {@code Retry-After} period</li>
+ *   <li>Slowly restore the rate while requests succeed</li>
+ * </ul>
+ *
+ * <p>
+ * Sustaining a rate just below Yahoo's ban threshold yields far more
+ * throughput than bursting and being blocked for minutes.
+ *
+ * <p>
+ * This class does NOT retry requests. The decision of what to do after a
+ * {@code 429} remains with the caller.
+ *
+ * <p>
+ * Endpoints without configured settings are not throttled.
+ */
+public class YahooRateLimiter {
+
+    /** Token bucket of each throttled endpoint */
+    private final Map<YahooApiType, TokenBucket> buckets = new EnumMap<>(YahooApiType.class);
+
+    /**
+     * Creates a new {@code YahooRateLimiter}.
+     *
+     * @param limits rate limit settings per endpoint
+     */
+    public YahooRateLimiter(Map<YahooApiType, YahooRateLimit> limits) {
+        limits.forEach((type, limit) -> buckets.put(type, new TokenBucket(limit)));
+    }
+
+    /**
+     * Blocks until a request to the given endpoint may be sent.
+     *
+     * <p>
+     * Waiting uses {@link LockSupport#parkNanos}, which does not pin
+     * virtual threads.
+     *
+     * @param apiType Yahoo endpoint about to be called
+     * @throws RuntimeException if the thread is interrupted while waiting
+     */
+    public void acquire(YahooApiType apiType) {
+        TokenBucket bucket = buckets.get(apiType);
+        if (bucket == null) {
+            return;
+        }
+
+        long wait = bucket.reserve();
+
+        // Re-check after waking up: a 429 may have suspended requests
+        // meanwhile, in which case the caller is queued again
+        while (wait > 0) {
+            LockSupport.parkNanos(this, wait);
+
+            if (Thread.currentThread().isInterrupted()) {
+                throw new RuntimeException("Interrupted while waiting for Yahoo rate limit");
+            }
+
+            wait = bucket.recheck();
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #acquire(YahooApiType)}.
+     *
+     * @param apiType Yahoo endpoint about to be called
+     * @return future completed when the request may be sent
+     */
+    public CompletableFuture<Void> acquireAsync(YahooApiType apiType) {
+        TokenBucket bucket = buckets.get(apiType);
+        if (bucket == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return delay(bucket, bucket.reserve());
+    }
+
+    /**
+     * Records a successful request (additive increase).
+     *
+     * @param apiType Yahoo endpoint that succeeded
+     */
+    public void onSuccess(YahooApiType apiType) {
+        TokenBucket bucket = buckets.get(apiType);
+        if (bucket != null) {
+            bucket.onSuccess();
+        }
+    }
+
+    /**
+     * Records a {@code 429} response (multiplicative decrease and suspension).
+     *
+     * @param apiType    Yahoo endpoint that was rate limited
+     * @param retryAfter suspension requested by Yahoo, or {@code null}
+     *                   to use the configured default backoff
+     */
+    public void onRateLimited(YahooApiType apiType, Duration retryAfter) {
+        TokenBucket bucket = buckets.get(apiType);
+        if (bucket != null) {
+            bucket.onRateLimited(retryAfter);
+        }
+    }
+
+    /**
+     * Returns the current adaptive rate of an endpoint.
+     *
+     * @param apiType Yahoo endpoint
+     * @return permits per second, or {@link Double#POSITIVE_INFINITY}
+     *         if the endpoint is not throttled
+     */
+    public double currentRate(YahooApiType apiType) {
+        TokenBucket bucket = buckets.get(apiType);
+        return bucket == null ? Double.POSITIVE_INFINITY : bucket.rate();
+    }
+
+    private CompletableFuture<Void> delay(TokenBucket bucket, long wait) {
+        if (wait <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return CompletableFuture
+                .runAsync(() -> { }, CompletableFuture.delayedExecutor(wait, TimeUnit.NANOSECONDS))
+                .thenCompose(ignored -> delay(bucket, bucket.recheck()));
+    }
+}
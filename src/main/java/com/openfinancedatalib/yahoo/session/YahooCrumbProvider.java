@@ -4,6 +4,14 @@ import java.net.URI;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.openfinancedatalib.yahoo.endpoint.YahooEndpointPool;
+import com.openfinancedatalib.yahoo.endpoint.YahooEndpointResolver;
+import com.openfinancedatalib.yahoo.exception.YahooException;
+import com.openfinancedatalib.yahoo.validator.YahooResponseValidator;
 
 /**
  * Responsible for fetching the Yahoo Finance crumb.
@@ -16,10 +24,24 @@ import java.time.Duration;
  * This class has a very narrow responsibility:
  * <ul>
  *   <li>Request a crumb from Yahoo Finance</li>
- *   <li>Store it in {@link YahooCrumbStore} with a TTL</li>
+ *   <li>Store it in its own {@link YahooCrumbStore} with a TTL</li>
  * </ul>
  *
  * <p>
+ * The crumb is bound to the session cookies, not to a host: it is
+ * requested from the host chosen by the {@link YahooEndpointResolver}
+ * and is valid on every Yahoo API host. Rate limited ({@code 429}) and
+ * server error ({@code 5xx}) answers are reported to the resolver and
+ * are never stored as a crumb.
+ *
+ * <p>
+ * Crumb requests are <b>single-flight</b>: when the cached crumb is
+ * missing or expired, only one {@code /v1/test/getcrumb} request is sent
+ * and every concurrent caller awaits the same future. Shortly before
+ * expiry, the crumb is refreshed in the background so the request
+ * hot path never waits for crumb acquisition.
+ *
+ * <p>
  * IMPORTANT DESIGN NOTES:
  * <ul>
  *   <li>This class assumes that cookies are already valid</li>
@@ -35,10 +57,9 @@ import java.time.Duration;
 public class YahooCrumbProvider {
 
     /**
-     * Yahoo Finance endpoint used to retrieve a crumb.
+     * Path of the Yahoo Finance endpoint used to retrieve a crumb.
      */
-    private static final String CRUMB_URL =
-            "https://query1.finance.yahoo.com/v1/test/getcrumb";
+    private static final String CRUMB_PATH = "/v1/test/getcrumb";
 
     /**
      * Time-to-live for the cached crumb.
@@ -48,6 +69,11 @@ public class YahooCrumbProvider {
      */
     private static final Duration CRUMB_TTL = Duration.ofMinutes(10);
 
+    /**
+     * How long before expiry a background refresh is triggered.
+     */
+    private static final Duration REFRESH_AHEAD = Duration.ofMinutes(2);
+
     /**
      * Session manager responsible for providing an {@link java.net.http.HttpClient}
      * with valid Yahoo cookies.
@@ -55,12 +81,41 @@ public class YahooCrumbProvider {
     private final YahooSessionManager sessionManager;
 
     /**
-     * Creates a new {@code YahooCrumbProvider}.
+     * Chooses the Yahoo host of each crumb request.
+     */
+    private final YahooEndpointResolver endpoints;
+
+    /**
+     * Crumb of this provider's session.
+     */
+    private final YahooCrumbStore store = new YahooCrumbStore();
+
+    /**
+     * Crumb request currently in flight, shared by all concurrent callers.
+     * <p>
+     * {@code null} when no request is in progress.
+     */
+    private final AtomicReference<CompletableFuture<String>> inFlight = new AtomicReference<>();
+
+    /**
+     * Creates a new {@code YahooCrumbProvider} using the default Yahoo hosts.
      *
      * @param sessionManager the session manager responsible for cookies
+     * @see YahooEndpointPool#defaults()
      */
     public YahooCrumbProvider(YahooSessionManager sessionManager) {
+        this(sessionManager, YahooEndpointPool.defaults());
+    }
+
+    /**
+     * Creates a new {@code YahooCrumbProvider}.
+     *
+     * @param sessionManager the session manager responsible for cookies
+     * @param endpoints resolver choosing the Yahoo host of each request
+     */
+    public YahooCrumbProvider(YahooSessionManager sessionManager, YahooEndpointResolver endpoints) {
         this.sessionManager = sessionManager;
+        this.endpoints = endpoints;
     }
 
     /**
@@ -70,7 +125,9 @@ public class YahooCrumbProvider {
      * Flow:
      * <ol>
      *   <li>Check if a valid crumb exists in {@link YahooCrumbStore}</li>
-     *   <li>If not, request a new crumb from Yahoo Finance</li>
+     *   <li>If it is about to expire, refresh it in the background</li>
+     *   <li>If not valid, join the single in-flight crumb request
+     *       (starting it if needed)</li>
      *   <li>Store the crumb in memory with a TTL</li>
      * </ol>
      *
@@ -84,37 +141,171 @@ public class YahooCrumbProvider {
      */
     public String getCrumb() {
 
-        // Global in-memory cache (JVM-wide)
-        String cached = YahooCrumbStore.get();
+        // Fast path: cached crumb, no waiting
+        String cached = cachedCrumb();
         if (cached != null) {
             return cached;
         }
 
         try {
-            // Request crumb using an HttpClient with valid cookies
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(CRUMB_URL))
-                    .GET()
-                    .header("User-Agent", "Mozilla/5.0")
-                    .build();
+            return refresh().join();
+
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException("Failed to fetch Yahoo crumb", e.getCause());
+        }
+    }
+
+    /**
+     * Asynchronous variant of {@link #getCrumb()}.
+     *
+     * <p>
+     * Both the session bootstrap and the crumb request are executed
+     * with {@link java.net.http.HttpClient#sendAsync}.
+     *
+     * @return future completed with a valid Yahoo crumb
+     */
+    public CompletableFuture<String> getCrumbAsync() {
+
+        // Fast path: cached crumb, no waiting
+        String cached = cachedCrumb();
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        return refresh();
+    }
 
-            HttpResponse<String> response =
-                    sessionManager.getClient()
-                            .send(request, HttpResponse.BodyHandlers.ofString());
+    /**
+     * Discards a crumb rejected by Yahoo.
+     *
+     * <p>
+     * The store is cleared only if it still holds the rejected crumb,
+     * so concurrent callers failing with the same stale crumb do not
+     * discard a fresh crumb fetched in the meantime.
+     *
+     * @param rejectedCrumb crumb that caused an authentication failure
+     */
+    public void invalidate(String rejectedCrumb) {
+        store.clearIfMatches(rejectedCrumb);
+    }
+
+    /**
+     * Returns the cached crumb, scheduling a background refresh
+     * when it is close to expiry.
+     *
+     * @return the cached crumb, or {@code null} if missing or expired
+     */
+    private String cachedCrumb() {
+
+        // In-memory cache of this session's crumb
+        String cached = store.get();
+
+        if (cached != null && store.expiresWithin(REFRESH_AHEAD)) {
+            // Proactive refresh; the current crumb is still valid meanwhile
+            refresh();
+        }
+
+        return cached;
+    }
+
+    /**
+     * Starts a crumb request, or joins the one already in flight.
+     *
+     * @return future completed with the new crumb
+     */
+    private CompletableFuture<String> refresh() {
+
+        for (;;) {
+            CompletableFuture<String> current = inFlight.get();
+            if (current != null) {
+                return current;
+            }
 
-            String crumb = response.body();
+            CompletableFuture<String> created = new CompletableFuture<>();
+            if (!inFlight.compareAndSet(null, created)) {
+                continue;
+            }
 
-            // Note:
-            // Response validation is handled at a higher level.
-            // This class only retrieves and stores the crumb.
+            fetch().whenComplete((crumb, error) -> {
 
-            // Store crumb in process-wide cache with TTL
-            YahooCrumbStore.put(crumb, CRUMB_TTL);
+                // Crumb is already stored: later callers take the fast path
+                inFlight.compareAndSet(created, null);
 
-            return crumb;
+                if (error != null) {
+                    created.completeExceptionally(error);
+                } else {
+                    created.complete(crumb);
+                }
+            });
 
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to fetch Yahoo crumb", e);
+            return created;
         }
     }
+
+    /**
+     * Requests a crumb from Yahoo Finance and stores it.
+     *
+     * @return future completed with the new crumb
+     */
+    private CompletableFuture<String> fetch() {
+
+        String endpoint = endpoints.resolve();
+        long start = System.nanoTime();
+
+        // Request crumb using an HttpClient with valid cookies
+        return sessionManager.getClientAsync()
+                .thenCompose(client ->
+                        client.sendAsync(buildCrumbRequest(endpoint), HttpResponse.BodyHandlers.ofString()))
+                .handle((response, error) -> {
+                    if (error != null) {
+                        endpoints.onFailure(endpoint,
+                                error instanceof CompletionException ? error.getCause() : error);
+                        throw new RuntimeException("Failed to fetch Yahoo crumb", error);
+                    }
+
+                    // Host-level failures: the body is an error page, not a crumb
+                    int status = response.statusCode();
+                    if (status == 429 || status >= 500) {
+                        try {
+                            YahooResponseValidator.validateStatus(status, response.headers());
+                        } catch (YahooException e) {
+                            endpoints.onFailure(endpoint, e);
+                            throw e;
+                        }
+                    }
+
+                    endpoints.onSuccess(endpoint, Duration.ofNanos(System.nanoTime() - start));
+
+                    String crumb = response.body();
+
+                    // Note:
+                    // Response validation is handled at a higher level.
+                    // This class only retrieves and stores the crumb.
+
+                    // Store crumb in this session's cache with TTL
+                    store.put(crumb, CRUMB_TTL);
+
+                    return crumb;
+                });
+    }
+
+    /**
+     * Builds the crumb request.
+     *
+     * @param endpoint base URL of the Yahoo host
+     * @return the crumb HTTP request
+     */
+    private HttpRequest buildCrumbRequest(String endpoint) {
+        HttpRequest.Builder request = HttpRequest.newBuilder()
+                .uri(URI.create(endpoint + CRUMB_PATH))
+                .GET()
+                .header("User-Agent", "Mozilla/5.0");
+
+        sessionManager.requestTimeout().ifPresent(request::timeout);
+
+        return request.build();
+    }
 }
@@ -15,9 +15,16 @@ import java.time.Instant;
  * by Yahoo Finance to authorize API requests.
  *
  * <p>
+ * The crumb and its expiration are published together as a single
+ * immutable entry through a {@code volatile} field, so reads are
+ * lock-free and never observe a crumb paired with another crumb's
+ * expiration. Writes are synchronized with each other.
+ *
+ * <p>
  * IMPORTANT:
  * <ul>
- *   <li>This store is JVM-wide (static)</li>
+ *   <li>Each store belongs to a single Yahoo session: a crumb is only
+ *       valid together with the cookies it was issued for</li>
  *   <li>It does NOT persist data</li>
  *   <li>It does NOT refresh crumbs</li>
  *   <li>It does NOT manage cookies</li>
@@ -30,19 +37,30 @@ import java.time.Instant;
  */
 public final class YahooCrumbStore {
 
-    /** Cached Yahoo crumb value */
-    private static String crumb;
+    /**
+     * Immutable pair of crumb and expiration instant.
+     */
+    private static final class Entry {
+
+        /** Cached Yahoo crumb value */
+        final String crumb;
+
+        /** Instant when the crumb expires */
+        final Instant expiresAt;
+
+        Entry(String crumb, Instant expiresAt) {
+            this.crumb = crumb;
+            this.expiresAt = expiresAt;
+        }
+    }
 
-    /** Instant when the crumb expires */
-    private static Instant expiresAt;
+    /** Current crumb entry, or {@code null} if none is stored */
+    private volatile Entry entry;
 
     /**
-     * Private constructor to prevent instantiation.
-     * <p>
-     * This class is intended to be used only via static methods.
+     * Creates an empty store.
      */
-    private YahooCrumbStore() {
-        // prevents instantiation
+    public YahooCrumbStore() {
     }
 
     /**
@@ -53,11 +71,9 @@ public final class YahooCrumbStore {
      *
      * @return the cached crumb, or {@code null} if invalid or expired
      */
-    public static synchronized String get() {
-        if (crumb == null || !isValid()) {
-            return null;
-        }
-        return crumb;
+    public String get() {
+        Entry current = entry;
+        return isValid(current) ? current.crumb : null;
     }
 
     /**
@@ -73,9 +89,8 @@ public final class YahooCrumbStore {
      * @param value the crumb value to store
      * @param ttl how long the crumb should remain valid
      */
-    public static synchronized void put(String value, Duration ttl) {
-        crumb = value;
-        expiresAt = Instant.now().plus(ttl);
+    public synchronized void put(String value, Duration ttl) {
+        entry = new Entry(value, Instant.now().plus(ttl));
     }
 
     /**
@@ -89,9 +104,24 @@ public final class YahooCrumbStore {
      * This is typically called when Yahoo invalidates authentication
      * or when a request fails with an authorization error.
      */
-    public static synchronized void clear() {
-        crumb = null;
-        expiresAt = null;
+    public synchronized void clear() {
+        entry = null;
+    }
+
+    /**
+     * Clears the stored crumb only if it equals the given value.
+     *
+     * <p>
+     * Used when a specific crumb is rejected by Yahoo: a newer crumb
+     * stored concurrently is preserved.
+     *
+     * @param value the crumb to discard
+     */
+    public synchronized void clearIfMatches(String value) {
+        Entry current = entry;
+        if (current != null && current.crumb != null && current.crumb.equals(value)) {
+            entry = null;
+        }
     }
 
     /**
@@ -107,9 +137,30 @@ public final class YahooCrumbStore {
      *
      * @return {@code true} if the crumb is valid; {@code false} otherwise
      */
-    public static boolean isValid() {
-        return expiresAt != null
-                && Instant.now().isBefore(expiresAt)
-                && crumb != null;
+    public boolean isValid() {
+        return isValid(entry);
+    }
+
+    /**
+     * Checks whether the stored crumb expires within the given duration.
+     *
+     * <p>
+     * Returns {@code false} when no crumb is stored.
+     *
+     * @param margin time window before expiration
+     * @return {@code true} if a crumb is stored and expires within {@code margin}
+     */
+    public boolean expiresWithin(Duration margin) {
+        Entry current = entry;
+        return current != null
+                && current.expiresAt != null
+                && !Instant.now().plus(margin).isBefore(current.expiresAt);
+    }
+
+    private boolean isValid(Entry current) {
+        return current != null
+                && current.expiresAt != null
+                && Instant.now().isBefore(current.expiresAt)
+                && current.crumb != null;
     }
 }
@@ -5,7 +5,14 @@ import java.net.CookiePolicy;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.openfinancedatalib.yahoo.config.YahooHttpSettings;
 
 /**
  * Manages the Yahoo Finance HTTP session and cookies.
@@ -27,19 +34,35 @@ import java.time.Duration;
  *
  * <p>
  * The session is initialized by performing a simple GET request
- * to {@code https://fc.yahoo.com}. This step is required by Yahoo
- * before a valid crumb can be obtained.
+ * to {@code https://fc.yahoo.com} (or the configured session URL).
+ * This step is required by Yahoo before a valid crumb can be obtained.
  *
  * <p>
  * The response body is ignored; only the cookies returned in
  * the HTTP headers are relevant.
+ *
+ * <p>
+ * THREAD SAFETY:
+ * <ul>
+ *   <li>Once the session is initialized, {@link #getClient()} costs a
+ *       single volatile read</li>
+ *   <li>Initialization is single-flight: concurrent callers share one
+ *       request to {@code fc.yahoo.com}</li>
+ *   <li>{@link #invalidate(long)} discards a rejected session; the next
+ *       caller re-bootstraps it, again single-flight</li>
+ * </ul>
  */
-public class YahooSessionManager {
+public class YahooSessionManager implements AutoCloseable {
 
     /**
-     * URL used only to initialize the Yahoo session and capture cookies.
+     * Default URL used only to initialize the Yahoo session and capture cookies.
      */
-    private static final String SESSION_INIT_URL = "https://fc.yahoo.com";
+    public static final String SESSION_INIT_URL = "https://fc.yahoo.com";
+
+    /**
+     * URL requested to initialize the session.
+     */
+    private final URI sessionUrl;
 
     /**
      * Cookie manager that stores all cookies returned by Yahoo.
@@ -57,12 +80,46 @@ public class YahooSessionManager {
      */
     private final HttpClient client;
 
+    /**
+     * Timeout applied to every Yahoo request, or {@code null} for none.
+     */
+    private final Duration requestTimeout;
+
+    /**
+     * Completed future returned by {@link #getClientAsync()} on the fast path.
+     */
+    private final CompletableFuture<HttpClient> ready;
+
     /**
      * Indicates whether the Yahoo session has already been initialized.
      * <p>
      * When {@code true}, cookies are assumed to be present and valid.
      */
-    private boolean initialized = false;
+    private volatile boolean initialized = false;
+
+    /**
+     * Number of successful session initializations.
+     * <p>
+     * Identifies the current session so that stale invalidations
+     * (from requests sent with older cookies) are ignored.
+     */
+    private volatile long generation = 0;
+
+    /**
+     * Session initialization currently in flight, shared by all
+     * concurrent callers. {@code null} when none is in progress.
+     */
+    private final AtomicReference<CompletableFuture<HttpClient>> bootstrap = new AtomicReference<>();
+
+    /**
+     * Creates a new {@code YahooSessionManager} using the default
+     * HTTP settings.
+     *
+     * @see YahooHttpSettings#defaults()
+     */
+    public YahooSessionManager() {
+        this(YahooHttpSettings.defaults());
+    }
 
     /**
      * Creates a new {@code YahooSessionManager}.
@@ -72,17 +129,36 @@ public class YahooSessionManager {
      * <ul>
      *   <li>Automatic cookie handling</li>
      *   <li>Redirect following enabled</li>
-     *   <li>A reasonable connection timeout</li>
+     *   <li>The HTTP version, executor and connection timeout
+     *       of {@code settings}</li>
      * </ul>
+     *
+     * @param settings HTTP client settings
      */
-    public YahooSessionManager() {
+    public YahooSessionManager(YahooHttpSettings settings) {
+        this(settings, SESSION_INIT_URL);
+    }
+
+    /**
+     * Creates a new {@code YahooSessionManager} initializing its session
+     * against {@code sessionUrl} instead of {@link #SESSION_INIT_URL}
+     * (e.g. a local stand-in server).
+     *
+     * @param settings HTTP client settings
+     * @param sessionUrl URL requested to capture the session cookies
+     */
+    public YahooSessionManager(YahooHttpSettings settings, String sessionUrl) {
+        this.sessionUrl = URI.create(sessionUrl);
         this.cookieManager = new CookieManager(null, CookiePolicy.ACCEPT_ALL);
 
-        this.client = HttpClient.newBuilder()
+        this.client = settings.configure(HttpClient.newBuilder())
                 .cookieHandler(cookieManager)
-                .connectTimeout(Duration.ofSeconds(10))
                 .followRedirects(HttpClient.Redirect.NORMAL)
                 .build();
+
+        this.requestTimeout = settings.getRequestTimeout().orElse(null);
+
+        this.ready = CompletableFuture.completedFuture(client);
     }
 
     /**
@@ -90,54 +166,194 @@ public class YahooSessionManager {
      *
      * <p>
      * If the session has not been initialized yet, this method
-     * triggers a request to {@link #SESSION_INIT_URL} in order
-     * to capture the required cookies.
+     * triggers a request to the session URL in order
+     * to capture the required cookies, or waits for the one
+     * already in flight.
      *
      * <p>
-     * This method is safe to call multiple times.
+     * This method is safe to call multiple times and from
+     * multiple threads.
      *
      * @return an {@link HttpClient} with Yahoo cookies attached
      */
     public HttpClient getClient() {
-        ensureSession();
-        return client;
+        if (initialized) {
+            return client;
+        }
+
+        try {
+            return bootstrap().join();
+
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException("Failed to initialize Yahoo session", e.getCause());
+        }
     }
 
     /**
-     * Ensures that the Yahoo session has been initialized.
+     * Asynchronous variant of {@link #getClient()}.
      *
      * <p>
-     * This method performs a single HTTP request to
-     * {@link #SESSION_INIT_URL} to capture cookies.
+     * If the session has not been initialized yet, the request to
+     * the session URL is sent with
+     * {@link HttpClient#sendAsync}, so the calling thread is never blocked.
+     *
+     * @return future completed with an {@link HttpClient} with Yahoo
+     *         cookies attached
+     */
+    public CompletableFuture<HttpClient> getClientAsync() {
+        if (initialized) {
+            return ready;
+        }
+
+        return bootstrap();
+    }
+
+    /**
+     * Returns the timeout to apply to every Yahoo request.
+     *
+     * @return request timeout, or empty if requests never time out
+     */
+    public Optional<Duration> requestTimeout() {
+        return Optional.ofNullable(requestTimeout);
+    }
+
+    /**
+     * Returns the identifier of the current session.
      *
      * <p>
-     * The request body is discarded because only the
-     * response headers (cookies) are relevant.
+     * Callers capture it before sending a request and pass it to
+     * {@link #invalidate(long)} if Yahoo rejects the session.
+     *
+     * @return the current session generation
+     */
+    public long generation() {
+        return generation;
+    }
+
+    /**
+     * Discards the session identified by {@code rejectedGeneration}.
+     *
+     * <p>
+     * The next call to {@link #getClient()} or {@link #getClientAsync()}
+     * clears the cookies and re-initializes the session.
      *
      * <p>
-     * This method is idempotent: once the session is initialized,
-     * subsequent calls will have no effect.
+     * If the session has already been re-initialized since
+     * {@code rejectedGeneration} was captured, this call has no effect,
+     * so many concurrent failures trigger a single re-bootstrap.
+     *
+     * @param rejectedGeneration generation captured before the failed request
      */
-    @SuppressWarnings("UseSpecificCatch")
-    private void ensureSession() {
-        if (initialized) {
-            return;
+    public void invalidate(long rejectedGeneration) {
+        if (generation == rejectedGeneration) {
+            initialized = false;
         }
+    }
 
-        try {
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(SESSION_INIT_URL))
-                    .GET()
-                    .header("User-Agent", "Mozilla/5.0")
-                    .build();
+    /**
+     * Unconditionally discards the current session.
+     *
+     * <p>
+     * The next call to {@link #getClient()} or {@link #getClientAsync()}
+     * clears the cookies and re-initializes the session.
+     */
+    public void invalidate() {
+        initialized = false;
+    }
 
-            // The response body is irrelevant; cookies are captured via headers
-            client.send(request, java.net.http.HttpResponse.BodyHandlers.discarding());
+    /**
+     * Starts the session initialization, or joins the one in flight.
+     *
+     * <p>
+     * A single request to the session URL is performed to
+     * capture cookies. The response body is discarded because only the
+     * response headers (cookies) are relevant.
+     *
+     * @return future completed once cookies are captured
+     */
+    private CompletableFuture<HttpClient> bootstrap() {
+
+        for (;;) {
+            CompletableFuture<HttpClient> current = bootstrap.get();
+            if (current != null) {
+                return current;
+            }
+
+            if (initialized) {
+                return ready;
+            }
+
+            CompletableFuture<HttpClient> created = new CompletableFuture<>();
+            if (!bootstrap.compareAndSet(null, created)) {
+                continue;
+            }
 
-            initialized = true;
+            try {
+                // Re-initialization: start from an empty cookie jar
+                if (generation > 0) {
+                    cookieManager.getCookieStore().removeAll();
+                }
 
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to initialize Yahoo session", e);
+                // The response body is irrelevant; cookies are captured via headers
+                client.sendAsync(buildSessionRequest(), HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, error) -> {
+
+                            if (error == null) {
+                                // Single writer: only the bootstrap leader gets here
+                                generation++;
+                                initialized = true;
+                            }
+
+                            bootstrap.compareAndSet(created, null);
+
+                            if (error != null) {
+                                created.completeExceptionally(
+                                        new RuntimeException("Failed to initialize Yahoo session", error));
+                            } else {
+                                created.complete(client);
+                            }
+                        });
+
+            } catch (Throwable t) {
+                // Rejected before being sent (e.g. invalid URL or timeout):
+                // fail the waiting callers and let the next call retry
+                bootstrap.compareAndSet(created, null);
+                created.completeExceptionally(new RuntimeException("Failed to initialize Yahoo session", t));
+            }
+
+            return created;
         }
     }
+
+    /**
+     * Closes the {@link HttpClient}, releasing its connections and
+     * selector thread.
+     *
+     * <p>
+     * Requests still in flight are aborted; no request can be sent
+     * afterwards.
+     */
+    @Override
+    public void close() {
+        client.shutdownNow();
+    }
+
+    /**
+     * Builds the request used to capture Yahoo cookies.
+     *
+     * @return the session initialization request
+     */
+    private HttpRequest buildSessionRequest() {
+        HttpRequest.Builder request = HttpRequest.newBuilder()
+                .uri(sessionUrl)
+                .GET()
+                .header("User-Agent", "Mozilla/5.0");
+
+        requestTimeout().ifPresent(request::timeout);
+
+        return request.build();
+    }
 }
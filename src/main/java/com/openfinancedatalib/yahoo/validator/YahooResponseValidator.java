@@ -1,5 +1,16 @@
 package com.openfinancedatalib.yahoo.validator;
 
+import java.io.IOException;
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.openfinancedatalib.yahoo.exception.YahooAuthException;
 import com.openfinancedatalib.yahoo.exception.YahooInvalidSymbolException;
 import com.openfinancedatalib.yahoo.exception.YahooRateLimitException;
@@ -41,6 +52,12 @@ public class YahooResponseValidator {
      * If any validation rule fails, a runtime exception specific to the
      * error scenario is thrown.
      *
+     * <p>
+     * The body checks scan the whole {@code String}. The library's own
+     * clients validate while parsing instead
+     * ({@link #validateStart(JsonParser)} and
+     * {@link #validatePayload(JsonNode)}).
+     *
      * @param statusCode HTTP status code returned by Yahoo
      * @param body       response body returned by Yahoo
      *
@@ -51,6 +68,81 @@ public class YahooResponseValidator {
      *                                   an invalid/empty payload
      */
     public static void validate(int statusCode, String body) {
+        validate(statusCode, body, null);
+    }
+
+    /**
+     * Validates a Yahoo Finance HTTP response, using its headers to
+     * enrich the thrown exception.
+     *
+     * <p>
+     * Behaves like {@link #validate(int, String)}; in addition, the
+     * {@code Retry-After} header of a {@code 429} response is exposed
+     * through {@link YahooRateLimitException#getRetryAfter()}.
+     *
+     * @param statusCode HTTP status code returned by Yahoo
+     * @param body       response body returned by Yahoo
+     * @param headers    response headers, or {@code null} if unavailable
+     *
+     * @throws YahooAuthException        if the request is unauthorized or returns
+     *                                   HTML
+     * @throws YahooRateLimitException   if Yahoo rate limits the request
+     * @throws YahooUnavailableException if Yahoo is unavailable or returns
+     *                                   an invalid/empty payload
+     */
+    public static void validate(int statusCode, String body, HttpHeaders headers) {
+
+        validateStatus(statusCode, headers);
+
+        // ----------------------------------
+        // RESPONSE BODY VALIDATION
+        // ----------------------------------
+
+        // Empty or missing response body
+        // Indicates an invalid or incomplete response
+        if (body == null || body.isBlank()) {
+            throw new YahooUnavailableException("Empty response from Yahoo");
+        }
+
+        // HTML response instead of JSON
+        // Yahoo sometimes returns HTML when authentication fails
+        if (body.startsWith("<!DOCTYPE html") || body.startsWith("<html")) {
+            throw new YahooAuthException("HTML response received from Yahoo");
+        }
+
+        // SEMANTIC ERRORS (INPUT / SYMBOL)
+        if (body.contains("\"code\":\"Not Found\"")
+                && body.contains("No data found")) {
+
+            throw new YahooInvalidSymbolException(
+                    "Invalid or unsupported symbol. Yahoo Finance expects a valid ticker " +
+                            "(e.g. AAPL, MSFT, PETR4.SA).");
+        }
+
+        // Explicit error payload returned by Yahoo
+        // This usually indicates a service-side issue
+        if (body.contains("\"error\"") && body.contains("\"code\"")) {
+            throw new YahooUnavailableException("Yahoo returned error payload");
+        }
+    }
+
+    /**
+     * Validates only the HTTP status code of a Yahoo Finance response.
+     *
+     * <p>
+     * Used by streaming parsers, which validate the body while reading
+     * it (see {@link #validateStart(JsonParser)} and
+     * {@link #validateError(JsonNode)}) instead of scanning a buffered
+     * {@code String}.
+     *
+     * @param statusCode HTTP status code returned by Yahoo
+     * @param headers    response headers, or {@code null} if unavailable
+     *
+     * @throws YahooAuthException        if the request is unauthorized
+     * @throws YahooRateLimitException   if Yahoo rate limits the request
+     * @throws YahooUnavailableException if Yahoo is unavailable
+     */
+    public static void validateStatus(int statusCode, HttpHeaders headers) {
 
         // ----------------------------------
         // HTTP STATUS VALIDATION
@@ -65,45 +157,150 @@ public class YahooResponseValidator {
         // Rate limit exceeded
         // Indicates that requests should not be retried immediately
         if (statusCode == 429) {
-            throw new YahooRateLimitException("Yahoo rate limit exceeded");
+            throw new YahooRateLimitException(
+                    "Yahoo rate limit exceeded",
+                    retryAfter(headers));
         }
 
         // Server-side error
         // Yahoo is unavailable or experiencing internal issues
         if (statusCode >= 500) {
             throw new YahooUnavailableException(
-                    "Yahoo service unavailable (status " + statusCode + ")");
+                    "Yahoo service unavailable (status " + statusCode + ")",
+                    statusCode);
         }
+    }
 
-        // ----------------------------------
-        // RESPONSE BODY VALIDATION
-        // ----------------------------------
+    /**
+     * Reads the first token of a streamed response body and checks that
+     * it opens a JSON object.
+     *
+     * <p>
+     * This is the streaming counterpart of the empty-body and HTML checks
+     * performed by {@link #validate(int, String)}. On return, the parser
+     * is positioned on the opening {@code START_OBJECT} token.
+     *
+     * @param parser parser over the response body, not yet advanced
+     * @throws IOException if the body cannot be read
+     *
+     * @throws YahooAuthException        if the body is not JSON (Yahoo
+     *                                   returns HTML when authentication fails)
+     * @throws YahooUnavailableException if the body is empty or not a
+     *                                   JSON object
+     */
+    public static void validateStart(JsonParser parser) throws IOException {
+        JsonToken token;
+
+        try {
+            token = parser.nextToken();
+        } catch (JsonParseException e) {
+            // HTML response instead of JSON
+            throw new YahooAuthException("HTML response received from Yahoo");
+        }
 
         // Empty or missing response body
-        // Indicates an invalid or incomplete response
-        if (body == null || body.isBlank()) {
+        if (token == null) {
             throw new YahooUnavailableException("Empty response from Yahoo");
         }
 
-        // HTML response instead of JSON
-        // Yahoo sometimes returns HTML when authentication fails
-        if (body.startsWith("<!DOCTYPE html") || body.startsWith("<html")) {
-            throw new YahooAuthException("HTML response received from Yahoo");
+        if (token != JsonToken.START_OBJECT) {
+            throw new YahooUnavailableException("Unexpected response from Yahoo");
         }
+    }
 
-        // SEMANTIC ERRORS (INPUT / SYMBOL)
-        if (body.contains("\"code\":\"Not Found\"")
-                && body.contains("No data found")) {
+    /**
+     * Validates the {@code error} object embedded by Yahoo in its
+     * JSON payloads (for example {@code chart.error}).
+     *
+     * @param error the {@code error} node; {@code null}, missing and
+     *              JSON {@code null} nodes are accepted as "no error"
+     *
+     * @throws YahooInvalidSymbolException if Yahoo reports the symbol
+     *                                     as not found
+     * @throws YahooUnavailableException   for any other error payload
+     */
+    public static void validateError(JsonNode error) {
+        if (error == null || error.isNull() || error.isMissingNode()) {
+            return;
+        }
 
+        // SEMANTIC ERRORS (INPUT / SYMBOL)
+        if ("Not Found".equals(error.path("code").asText())) {
             throw new YahooInvalidSymbolException(
                     "Invalid or unsupported symbol. Yahoo Finance expects a valid ticker " +
                             "(e.g. AAPL, MSFT, PETR4.SA).");
         }
 
         // Explicit error payload returned by Yahoo
-        // This usually indicates a service-side issue
-        if (body.contains("\"error\"") && body.contains("\"code\"")) {
-            throw new YahooUnavailableException("Yahoo returned error payload");
+        throw new YahooUnavailableException("Yahoo returned error payload");
+    }
+
+    /**
+     * Validates the {@code error} objects of a parsed Yahoo payload.
+     *
+     * <p>
+     * Yahoo wraps each response in a single root member holding
+     * {@code result} and {@code error} ({@code quoteResponse},
+     * {@code chart}, {@code quoteSummary}, or {@code finance} for
+     * generic failures). Only the {@code error} member of each root
+     * object is inspected with {@link #validateError(JsonNode)}: the
+     * check costs a few lookups, whatever the payload size, and never
+     * mistakes data that happens to contain {@code "error"} or
+     * {@code "code"} for a failure.
+     *
+     * <p>
+     * This is the structural counterpart of the body scans performed by
+     * {@link #validate(int, String)}; payloads without a wrapper (e.g.
+     * search) pass unchanged.
+     *
+     * @param root parsed payload
+     *
+     * @throws YahooInvalidSymbolException if Yahoo reports the symbol
+     *                                     as not found
+     * @throws YahooUnavailableException   for any other error payload
+     */
+    public static void validatePayload(JsonNode root) {
+        for (JsonNode member : root) {
+            if (member.isObject()) {
+                validateError(member.get("error"));
+            }
+        }
+    }
+
+    /**
+     * Parses the {@code Retry-After} header.
+     *
+     * <p>
+     * Both formats defined by RFC 9110 are supported:
+     * delay in seconds and HTTP-date.
+     *
+     * @param headers response headers, or {@code null}
+     * @return requested wait, or {@code null} if absent or unparseable
+     */
+    private static Duration retryAfter(HttpHeaders headers) {
+        if (headers == null) {
+            return null;
+        }
+
+        String value = headers.firstValue("Retry-After").orElse(null);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        value = value.trim();
+
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException e) {
+            // Not a delay in seconds; try HTTP-date
+        }
+
+        try {
+            ZonedDateTime date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration wait = Duration.between(ZonedDateTime.now(date.getZone()), date);
+            return wait.isNegative() ? Duration.ZERO : wait;
+        } catch (DateTimeParseException e) {
+            return null;
         }
     }
 
@@ -0,0 +1,22 @@
+package com.openfinancedatalib.bulk;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of {@link BulkExecutor}.
+ */
+class BulkExecutorTest {
+
+    @Test
+    void shouldRemoveBlankAndDuplicatedSymbols() {
+        List<String> symbols = new ArrayList<>(List.of(" MSFT", "AAPL", "", "MSFT ", "  ", "PETR4.SA"));
+        symbols.add(null);
+
+        assertEquals(List.of("MSFT", "AAPL", "PETR4.SA"),
+                List.copyOf(BulkExecutor.uniqueSymbols(symbols)));
+    }
+}
@@ -0,0 +1,105 @@
+package com.openfinancedatalib.history;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of {@link HistorySyncResult#merge}.
+ */
+class HistorySyncResultTest {
+
+    private static final long DAY = 86_400;
+
+    /** 2024-01-02 14:30 UTC (session open) */
+    private static final long OPEN = 1_704_205_800L;
+
+    @Test
+    void shouldReplaceInProgressDailyBarWithCompletedOne() {
+        // Held while in progress: stamped with the last trade time
+        long lastTrade = OPEN + DAY + 5 * 3_600;
+        PriceSeries current = series("1d", new long[] { OPEN, lastTrade }, 10, 11);
+
+        // Completed bar: stamped with the session open
+        PriceSeries fetched = series("1d", new long[] { OPEN, OPEN + DAY, OPEN + 2 * DAY }, 10, 12, 13);
+
+        HistorySyncResult result = HistorySyncResult.merge(current, fetched);
+
+        assertArrayEquals(new long[] { OPEN, OPEN + DAY, OPEN + 2 * DAY }, result.getSeries().getTimestamps());
+        assertArrayEquals(new double[] { 10, 12, 13 }, result.getSeries().getClose());
+        assertEquals(1, result.getAddedBars());
+        assertTrue(result.isLastBarUpdated());
+        assertEquals(2, result.getDelta().size());
+    }
+
+    @Test
+    void shouldReplaceLastBarWithSameTimestamp() {
+        PriceSeries current = series("1d", new long[] { OPEN, OPEN + DAY }, 10, 11);
+        PriceSeries fetched = series("1d", new long[] { OPEN + DAY, OPEN + 2 * DAY }, 12, 13);
+
+        HistorySyncResult result = HistorySyncResult.merge(current, fetched);
+
+        assertArrayEquals(new double[] { 10, 12, 13 }, result.getSeries().getClose());
+        assertEquals(1, result.getAddedBars());
+        assertTrue(result.isLastBarUpdated());
+    }
+
+    @Test
+    void shouldKeepHeldSeriesWhenNothingChanged() {
+        PriceSeries current = series("1d", new long[] { OPEN, OPEN + DAY }, 10, 11);
+        PriceSeries fetched = series("1d", new long[] { OPEN, OPEN + DAY }, 10, 11);
+
+        HistorySyncResult result = HistorySyncResult.merge(current, fetched);
+
+        assertSame(current, result.getSeries());
+        assertFalse(result.hasChanges());
+    }
+
+    @Test
+    void shouldNotReplaceLastBarWithPreviousInterval() {
+        // Only the previous day was returned before the new bars
+        long lastTrade = OPEN + DAY + 5 * 3_600;
+        PriceSeries current = series("1d", new long[] { OPEN, lastTrade }, 10, 11);
+        PriceSeries fetched = series("1d", new long[] { OPEN, OPEN + 2 * DAY }, 10, 13);
+
+        HistorySyncResult result = HistorySyncResult.merge(current, fetched);
+
+        assertArrayEquals(new long[] { OPEN, lastTrade, OPEN + 2 * DAY }, result.getSeries().getTimestamps());
+        assertEquals(1, result.getAddedBars());
+        assertFalse(result.isLastBarUpdated());
+    }
+
+    @Test
+    void shouldMatchIntradayBuckets() {
+        // 5m bar in progress at 14:32, completed bar stamped 14:30
+        PriceSeries current = series("5m", new long[] { OPEN - 300, OPEN + 120 }, 10, 11);
+        PriceSeries fetched = series("5m", new long[] { OPEN - 300, OPEN, OPEN + 300 }, 10, 12, 13);
+
+        HistorySyncResult result = HistorySyncResult.merge(current, fetched);
+
+        assertArrayEquals(new long[] { OPEN - 300, OPEN, OPEN + 300 }, result.getSeries().getTimestamps());
+        assertTrue(result.isLastBarUpdated());
+    }
+
+    @Test
+    void shouldParseIntervalLengths() {
+        assertEquals(300, PriceSeries.intervalSeconds("5m"));
+        assertEquals(3_600, PriceSeries.intervalSeconds("1h"));
+        assertEquals(DAY, PriceSeries.intervalSeconds("1d"));
+        assertEquals(7 * DAY, PriceSeries.intervalSeconds("1wk"));
+        assertEquals(93 * DAY, PriceSeries.intervalSeconds("3mo"));
+        assertEquals(1, PriceSeries.intervalSeconds(null));
+        assertEquals(1, PriceSeries.intervalSeconds("max"));
+    }
+
+    private static PriceSeries series(String interval, long[] timestamps, double... close) {
+        int size = timestamps.length;
+        long[] volume = new long[size];
+
+        return new PriceSeries("MSFT", "USD", null, interval, timestamps,
+                close.clone(), close.clone(), close.clone(), close, close.clone(), volume, null);
+    }
+}
@@ -0,0 +1,164 @@
+package com.openfinancedatalib.history.store;
+
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.openfinancedatalib.history.PriceSeries;
+
+/**
+ * Unit tests of {@link BarFile} and {@link BarStore}.
+ */
+class BarFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldRoundTripBars() throws IOException {
+        try (BarFile file = new BarFile(directory.resolve("MSFT_1d.bars"))) {
+            assertEquals(BarFile.NO_BARS, file.lastTimestamp());
+            assertEquals(3, file.append(series(100, 200, 300), "1d"));
+
+            StoredBars bars = file.read("MSFT", "1d");
+            assertEquals(3, bars.size());
+            assertEquals(200, bars.getTimestamp(1));
+            assertEquals(201.5, bars.getClose(1));
+            assertEquals(2000, bars.getVolume(1));
+            assertEquals(300, file.lastTimestamp());
+        }
+    }
+
+    @Test
+    void shouldReopenStoredBars() throws IOException {
+        Path path = directory.resolve("MSFT_1d.bars");
+
+        try (BarFile file = new BarFile(path)) {
+            file.append(series(100, 200), "1d");
+        }
+
+        try (BarFile file = new BarFile(path)) {
+            assertEquals(200, file.lastTimestamp());
+            assertEquals(2, file.read("MSFT", "1d").size());
+        }
+    }
+
+    @Test
+    void shouldReplaceLastBarAndSkipOlderOnes() throws IOException {
+        Path path = directory.resolve("MSFT_1d.bars");
+
+        try (BarFile file = new BarFile(path)) {
+            file.append(series(100, 200), "1d");
+
+            // 100 is already stored, 200 replaces the in-progress bar
+            PriceSeries update = series(100, 200, 300);
+            update.getClose()[1] = 999;
+            assertEquals(2, file.append(update, "1d"));
+        }
+
+        try (BarFile file = new BarFile(path)) {
+            StoredBars bars = file.read("MSFT", "1d");
+            assertEquals(3, bars.size());
+            assertEquals(999, bars.getClose(1));
+            assertEquals(300, bars.getTimestamp(2));
+        }
+    }
+
+    @Test
+    void shouldReplaceInProgressBarWithCompletedOne() throws IOException {
+        Path path = directory.resolve("MSFT_1d.bars");
+        long day = 86_400;
+
+        try (BarFile file = new BarFile(path)) {
+            // Synced during trading: the bar is stamped with the last trade time
+            file.append(series(day, 2 * day + 3_600), "1d");
+
+            // Next morning: the completed bar is stamped with the start of the day
+            PriceSeries update = series(day, 2 * day, 3 * day);
+            update.getClose()[1] = 999;
+            assertEquals(2, file.append(update, "1d"));
+        }
+
+        try (BarFile file = new BarFile(path)) {
+            StoredBars bars = file.read("MSFT", "1d");
+            assertEquals(3, bars.size());
+            assertEquals(2 * day, bars.getTimestamp(1));
+            assertEquals(999, bars.getClose(1));
+            assertEquals(3 * day, bars.getTimestamp(2));
+        }
+    }
+
+    @Test
+    void shouldGrowBeyondInitialMapping() throws IOException {
+        long[] timestamps = new long[5_000];
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamps[i] = 60L * (i + 1);
+        }
+
+        try (BarFile file = new BarFile(directory.resolve("MSFT_1m.bars"))) {
+            file.append(series(timestamps), "1m");
+
+            StoredBars bars = file.read("MSFT", "1m");
+            assertEquals(timestamps.length, bars.size());
+            assertEquals(timestamps[timestamps.length - 1], bars.getTimestamp(bars.size() - 1));
+        }
+    }
+
+    @Test
+    void shouldRejectForeignFile() throws IOException {
+        Path path = Files.write(directory.resolve("foreign.bars"), new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+
+        assertThrows(IOException.class, () -> new BarFile(path));
+    }
+
+    @Test
+    void shouldRejectOperationsOnceClosed() throws IOException {
+        BarFile file = new BarFile(directory.resolve("MSFT_1d.bars"));
+        file.close();
+
+        assertThrows(ClosedChannelException.class, file::lastTimestamp);
+        assertThrows(ClosedChannelException.class, () -> file.append(series(100), "1d"));
+    }
+
+    @Test
+    void shouldReopenFilesEvictedFromStore() throws IOException {
+        try (BarStore store = new BarStore(directory, 1)) {
+            store.append("MSFT", "1d", series(100));
+            store.append("AAPL", "1d", series(100, 200));
+
+            // MSFT was closed to open AAPL
+            assertEquals(100, store.lastTimestamp("MSFT", "1d"));
+            assertEquals(1, store.append("MSFT", "1d", series(300)));
+            assertEquals(2, store.read("MSFT", "1d").size());
+            assertEquals(2, store.read("AAPL", "1d").size());
+        }
+    }
+
+    private static PriceSeries series(long... timestamps) {
+        int size = timestamps.length;
+        double[] open = new double[size];
+        double[] high = new double[size];
+        double[] low = new double[size];
+        double[] close = new double[size];
+        double[] adjClose = new double[size];
+        long[] volume = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            open[i] = timestamps[i] + 0.5;
+            high[i] = timestamps[i] + 2;
+            low[i] = timestamps[i] - 1;
+            close[i] = timestamps[i] + 1.5;
+            adjClose[i] = timestamps[i] + 1.5;
+            volume[i] = timestamps[i] * 10;
+        }
+
+        return new PriceSeries("MSFT", "USD", null, "1d",
+                timestamps, open, high, low, close, adjClose, volume, null);
+    }
+}
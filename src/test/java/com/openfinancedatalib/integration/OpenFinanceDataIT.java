@@ -1,6 +1,10 @@
 package com.openfinancedatalib.integration;
 
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeAll;
@@ -8,6 +12,10 @@ import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.openfinancedatalib.OpenFinanceData;
+import com.openfinancedatalib.bulk.BulkExecutor;
+import com.openfinancedatalib.bulk.BulkResult;
+import com.openfinancedatalib.bulk.QuoteSummaryAggregator;
+import com.openfinancedatalib.history.PriceSeries;
 
 class OpenFinanceDataIT {
 
@@ -69,6 +77,20 @@ class OpenFinanceDataIT {
         assertNotNull(result);
     }
 
+    @Test
+    void shouldFetchQuotes() {
+        Map<String, JsonNode> result = api.getQuotes(List.of("AAPL", "MSFT", "GOOGL"));
+        assertNotNull(result);
+        assertTrue(result.containsKey("MSFT"));
+    }
+
+    @Test
+    void shouldFetchQuoteAsync() {
+        JsonNode result = api.async().getQuote("AAPL").join();
+        assertNotNull(result);
+        assertTrue(result.has("quoteResponse"));
+    }
+
     @Test
     void shouldFetchHistory() {
         JsonNode result = api.getHistory("AAPL", "1mo", "1d");
@@ -82,6 +104,27 @@ class OpenFinanceDataIT {
         assertNotNull(result);
     }
 
+    @Test
+    void shouldFetchPriceSeries() {
+        PriceSeries series = api.getPriceSeries("AAPL", "1mo", "1d");
+        assertNotNull(series);
+        assertTrue(series.size() > 0);
+        assertEquals(series.size(), series.getClose().length);
+    }
+
+    @Test
+    void shouldAggregateQuoteSummaryModules() {
+        QuoteSummaryAggregator aggregator = new QuoteSummaryAggregator(api, new BulkExecutor(2));
+        List<BulkResult<JsonNode>> results = aggregator.aggregate(
+                List.of("AAPL", "MSFT"),
+                List.of("summaryDetail", "financialData"));
+        assertEquals(2, results.size());
+        for (BulkResult<JsonNode> result : results) {
+            assertTrue(result.isSuccess());
+            assertTrue(result.getValue().has("financialData"));
+        }
+    }
+
     @Test
     void shouldSearchAssets() {
         JsonNode result = api.search("Apple");
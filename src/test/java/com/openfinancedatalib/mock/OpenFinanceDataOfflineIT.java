@@ -0,0 +1,173 @@
+package com.openfinancedatalib.mock;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.openfinancedatalib.OpenFinanceData;
+import com.openfinancedatalib.history.PriceSeries;
+import com.openfinancedatalib.summary.EarningsTrend;
+import com.openfinancedatalib.summary.FinancialData;
+import com.openfinancedatalib.summary.QuoteSummary;
+import com.openfinancedatalib.summary.SummaryDetail;
+import com.openfinancedatalib.yahoo.exception.YahooInvalidSymbolException;
+import com.openfinancedatalib.yahoo.exception.YahooRateLimitException;
+import com.openfinancedatalib.yahoo.exception.YahooUnavailableException;
+
+/**
+ * Runs the library against {@link YahooMockServer}: no network access
+ * to Yahoo is required.
+ */
+class OpenFinanceDataOfflineIT {
+
+    private YahooMockServer yahoo;
+
+    private OpenFinanceData api;
+
+    @BeforeEach
+    void setup() {
+        yahoo = YahooMockServer.start();
+        api = new OpenFinanceData(yahoo.configBuilder().build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        api.close();
+        yahoo.close();
+    }
+
+    @Test
+    void shouldFetchQuote() {
+        JsonNode result = api.getQuote("MSFT");
+
+        assertEquals("MSFT", result.path("quoteResponse").path("result").path(0).path("symbol").asText());
+        assertEquals(1, yahoo.getSessionRequests());
+        assertEquals(1, yahoo.getCrumbRequests());
+    }
+
+    @Test
+    void shouldFetchQuotesAndSkipUnknownSymbols() {
+        Map<String, JsonNode> quotes = api.getQuotes(List.of("AAPL", "MSFT", "INVALID1"));
+
+        assertEquals(2, quotes.size());
+        assertTrue(quotes.containsKey("AAPL"));
+        assertTrue(quotes.containsKey("MSFT"));
+    }
+
+    @Test
+    void shouldFetchPriceSeries() {
+        PriceSeries series = api.getPriceSeries("PETR4.SA", "5d", "1d");
+
+        assertEquals(5, series.size());
+        assertEquals("PETR4.SA", series.getSymbol());
+    }
+
+    @Test
+    void shouldRejectUnknownChartSymbol() {
+        assertThrows(YahooInvalidSymbolException.class,
+                () -> api.getPriceSeries("INVALID1", "5d", "1d"));
+    }
+
+    @Test
+    void shouldFetchRequestedQuoteSummaryModules() {
+        JsonNode result = api.getQuoteSummary("AAPL", Map.of("modules", "financialData,calendarEvents"))
+                .path("quoteSummary").path("result").path(0);
+
+        assertTrue(result.has("financialData"));
+        assertTrue(result.has("calendarEvents"));
+        assertFalse(result.has("summaryDetail"));
+    }
+
+    @Test
+    void shouldRejectUnknownQuoteSummarySymbol() {
+        assertThrows(YahooInvalidSymbolException.class,
+                () -> api.getQuoteSummary("INVALID1", Map.of("modules", "financialData")));
+    }
+
+    @Test
+    void shouldDecodeTypedQuoteSummaryModules() {
+        QuoteSummary summary = api.getSummary(
+                "AAPL", "financialData", "summaryDetail", "earningsTrend", "calendarEvents");
+
+        FinancialData financialData = summary.getFinancialData().orElseThrow();
+        assertEquals(228.87, financialData.getCurrentPrice());
+        assertEquals("buy", financialData.getRecommendationKey());
+        assertEquals(39, financialData.getNumberOfAnalystOpinions());
+        assertTrue(Double.isNaN(financialData.getEbitda()));
+
+        SummaryDetail summaryDetail = summary.getSummaryDetail().orElseThrow();
+        assertEquals(3479821402112.0, summaryDetail.getMarketCap());
+        assertEquals(41276148, summaryDetail.getVolume());
+        assertEquals("USD", summaryDetail.getCurrency());
+
+        EarningsTrend.Period nextYear = summary.getEarningsTrend().orElseThrow()
+                .getPeriod("+1y").orElseThrow();
+        assertEquals(7.48, nextYear.getEarningsAvg());
+        assertEquals(LocalDate.of(2025, 9, 30), nextYear.getEndDate());
+        assertEquals(3, nextYear.getUpLast30Days());
+
+        assertTrue(summary.getDefaultKeyStatistics().isEmpty());
+        assertEquals(1723420800, summary.getModule("calendarEvents").orElseThrow()
+                .path("exDividendDate").path("raw").asLong());
+    }
+
+    @Test
+    void shouldRejectUnknownSummarySymbol() {
+        assertThrows(YahooInvalidSymbolException.class,
+                () -> api.getSummary("INVALID1", "financialData"));
+    }
+
+    @Test
+    void shouldSearch() {
+        JsonNode result = api.search("apple");
+
+        assertEquals("AAPL", result.path("quotes").path(0).path("symbol").asText());
+    }
+
+    @Test
+    void shouldRenewExpiredCrumb() {
+        api.getQuote("AAPL");
+        yahoo.expireCrumbs();
+        api.getQuote("MSFT");
+
+        assertEquals(2, yahoo.getCrumbRequests());
+        assertEquals(1, yahoo.getRejectedRequests());
+    }
+
+    @Test
+    void shouldRetryOnceAfterUnauthorized() {
+        yahoo.failNext(401, 1);
+
+        JsonNode result = api.getQuote("AAPL");
+
+        assertEquals("AAPL", result.path("quoteResponse").path("result").path(0).path("symbol").asText());
+        assertEquals(2, yahoo.getApiRequests());
+    }
+
+    @Test
+    void shouldSurfaceRateLimit() {
+        yahoo.failNext(429, 1);
+
+        YahooRateLimitException error = assertThrows(YahooRateLimitException.class,
+                () -> api.getQuote("AAPL"));
+
+        assertEquals(Duration.ofSeconds(1), error.getRetryAfter().orElseThrow());
+    }
+
+    @Test
+    void shouldSurfaceServerError() {
+        yahoo.failNext(503, 1);
+
+        assertThrows(YahooUnavailableException.class, () -> api.getQuote("AAPL"));
+    }
+}
@@ -0,0 +1,567 @@
+package com.openfinancedatalib.mock;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.openfinancedatalib.yahoo.config.YahooConfig;
+import com.openfinancedatalib.yahoo.endpoint.YahooEndpointPool;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * In-process stand-in for the Yahoo Finance endpoints used by the library.
+ *
+ * <p>
+ * Emulates the whole session flow:
+ * <ul>
+ *   <li>{@code /} – session initialization, sets the {@code A3} cookie
+ *       (answers {@code 404} like {@code fc.yahoo.com})</li>
+ *   <li>{@code /v1/test/getcrumb} – issues a crumb bound to the cookie</li>
+ *   <li>{@code /v7/finance/quote}, {@code /v8/finance/chart/{symbol}},
+ *       {@code /v10/finance/quoteSummary/{symbol}} and
+ *       {@code /v1/finance/search} – answer with the recorded payloads
+ *       of {@code src/test/resources/yahoo}, adapted to the requested
+ *       symbol and modules</li>
+ * </ul>
+ * API requests without a known cookie or with an unknown or expired
+ * crumb are rejected with {@code 401}. Symbols starting with
+ * {@value #UNKNOWN_SYMBOL_PREFIX} are unknown: they are omitted from quote
+ * responses and answered with Yahoo's {@code Not Found} error payload by
+ * the other endpoints.
+ *
+ * <p>
+ * Faults are configurable at any time, also while requests are running:
+ * <ul>
+ *   <li>{@link #latency(Duration)} – delay added to every response</li>
+ *   <li>{@link #failNext(int, int)} – answer the next API requests with
+ *       a given status ({@code 401}, {@code 429}, {@code 5xx})</li>
+ *   <li>{@link #failRandomly(int, double)} – answer a fraction of the API
+ *       requests with a given status</li>
+ *   <li>{@link #crumbTtl(Duration)} and {@link #expireCrumbs()} – crumb
+ *       expiry</li>
+ * </ul>
+ * Responses are gzip-compressed when the client accepts it.
+ *
+ * <p>
+ * Example:
+ * <pre>
+ * try (YahooMockServer yahoo = YahooMockServer.start()) {
+ *     OpenFinanceData api = new OpenFinanceData(yahoo.configBuilder().build());
+ *     yahoo.failNext(429, 1);
+ *     ...
+ * }
+ * </pre>
+ *
+ * <p>
+ * Requests are handled on virtual threads, so injected latency does not
+ * limit the server's concurrency.
+ */
+public final class YahooMockServer implements AutoCloseable {
+
+    /** Symbols starting with this prefix are unknown to the server */
+    public static final String UNKNOWN_SYMBOL_PREFIX = "INVALID";
+
+    /** Name of the session cookie */
+    private static final String COOKIE_NAME = "A3";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpServer server;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /** Recorded {@code quoteResponse.result[0]} */
+    private final JsonNode quoteTemplate;
+
+    /** Recorded chart response */
+    private final JsonNode chartTemplate;
+
+    /** Recorded {@code quoteSummary.result[0]} */
+    private final JsonNode quoteSummaryTemplate;
+
+    /** Recorded search response */
+    private final byte[] searchPayload;
+
+    /** Cookies issued by the session route */
+    private final Set<String> cookies = ConcurrentHashMap.newKeySet();
+
+    /** Issued crumbs */
+    private final Map<String, Grant> crumbs = new ConcurrentHashMap<>();
+
+    /** Statuses returned by the next API requests */
+    private final Queue<Integer> injectedFailures = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong sessionRequests = new AtomicLong();
+    private final AtomicLong crumbRequests = new AtomicLong();
+    private final AtomicLong apiRequests = new AtomicLong();
+    private final AtomicLong rejectedRequests = new AtomicLong();
+
+    private volatile Duration latency = Duration.ZERO;
+    private volatile Duration crumbTtl = Duration.ofHours(1);
+    private volatile int randomFailureStatus;
+    private volatile double randomFailureRate;
+
+    /**
+     * Crumb issued for a cookie.
+     */
+    private record Grant(String cookie, long expiresAtNanos) {
+
+        boolean isValid(String requestCookie) {
+            return cookie.equals(requestCookie) && System.nanoTime() - expiresAtNanos < 0;
+        }
+    }
+
+    private YahooMockServer(HttpServer server) {
+        this.server = server;
+        this.quoteTemplate = load("quote.json").path("quoteResponse").path("result").path(0);
+        this.chartTemplate = load("chart.json");
+        this.quoteSummaryTemplate = load("quoteSummary.json").path("quoteSummary").path("result").path(0);
+        this.searchPayload = resource("search.json");
+
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+    }
+
+    /**
+     * Starts a server on an ephemeral loopback port.
+     *
+     * @return the running server
+     * @throws UncheckedIOException if the server cannot be bound
+     */
+    public static YahooMockServer start() {
+        try {
+            HttpServer server = HttpServer.create(
+                    new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            YahooMockServer mock = new YahooMockServer(server);
+            server.start();
+            return mock;
+
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start the Yahoo mock server", e);
+        }
+    }
+
+    /**
+     * @return base URL of the server, e.g. {@code http://127.0.0.1:49152}
+     */
+    public String getBaseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getAddress().getHostAddress() + ":" + address.getPort();
+    }
+
+    /**
+     * Returns a configuration builder pointing every session and API
+     * request at this server.
+     *
+     * <p>
+     * Client-side rate limiting is disabled, so throughput is only
+     * bounded by the server's latency.
+     *
+     * @return a builder that can be further customized
+     */
+    public YahooConfig.Builder configBuilder() {
+        return YahooConfig.builder()
+                .sessionUrl(getBaseUrl() + "/")
+                .endpoints(YahooEndpointPool.builder().endpoints(getBaseUrl()).build())
+                .rateLimiting(false);
+    }
+
+    /**
+     * Sets the delay added to every response.
+     *
+     * @param latency response delay
+     * @return this server
+     */
+    public YahooMockServer latency(Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * Sets the lifetime of the crumbs issued from now on.
+     *
+     * @param ttl crumb lifetime
+     * @return this server
+     */
+    public YahooMockServer crumbTtl(Duration ttl) {
+        this.crumbTtl = ttl;
+        return this;
+    }
+
+    /**
+     * Answers the next {@code count} API requests with {@code status}.
+     *
+     * <p>
+     * A {@code 429} carries {@code Retry-After: 1}.
+     *
+     * @param status HTTP status to return
+     * @param count number of requests to fail
+     * @return this server
+     */
+    public YahooMockServer failNext(int status, int count) {
+        for (int i = 0; i < count; i++) {
+            injectedFailures.add(status);
+        }
+        return this;
+    }
+
+    /**
+     * Answers a fraction of the API requests with {@code status}.
+     *
+     * @param status HTTP status to return
+     * @param rate fraction of failed requests, {@code 0} to disable
+     * @return this server
+     */
+    public YahooMockServer failRandomly(int status, double rate) {
+        this.randomFailureStatus = status;
+        this.randomFailureRate = rate;
+        return this;
+    }
+
+    /**
+     * Invalidates every crumb issued so far, as if they had all expired.
+     * Cookies stay valid.
+     */
+    public void expireCrumbs() {
+        crumbs.clear();
+    }
+
+    /**
+     * @return number of session initialization requests
+     */
+    public long getSessionRequests() {
+        return sessionRequests.get();
+    }
+
+    /**
+     * @return number of crumb requests
+     */
+    public long getCrumbRequests() {
+        return crumbRequests.get();
+    }
+
+    /**
+     * @return number of API requests (quote, chart, quoteSummary, search)
+     */
+    public long getApiRequests() {
+        return apiRequests.get();
+    }
+
+    /**
+     * @return number of API requests rejected with an error status,
+     *         injected or caused by an invalid crumb
+     */
+    public long getRejectedRequests() {
+        return rejectedRequests.get();
+    }
+
+    /**
+     * Stops the server immediately.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    // ------------------------------------------------------------------
+    // ROUTING
+    // ------------------------------------------------------------------
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            sleep(latency);
+
+            String path = exchange.getRequestURI().getPath();
+
+            if (path.equals("/")) {
+                initSession(exchange);
+            } else if (path.equals("/v1/test/getcrumb")) {
+                issueCrumb(exchange);
+            } else if (path.startsWith("/v7/finance/quote")
+                    || path.startsWith("/v8/finance/chart/")
+                    || path.startsWith("/v10/finance/quoteSummary/")
+                    || path.equals("/v1/finance/search")) {
+                api(exchange, path);
+            } else {
+                send(exchange, 404, "text/plain", bytes("Not Found"));
+            }
+        }
+    }
+
+    private void initSession(HttpExchange exchange) throws IOException {
+        sessionRequests.incrementAndGet();
+
+        String cookie = UUID.randomUUID().toString();
+        cookies.add(cookie);
+
+        exchange.getResponseHeaders().add("Set-Cookie", COOKIE_NAME + "=" + cookie + "; Path=/; HttpOnly");
+        send(exchange, 404, "text/html", bytes("<html><body>Not Found</body></html>"));
+    }
+
+    private void issueCrumb(HttpExchange exchange) throws IOException {
+        crumbRequests.incrementAndGet();
+
+        String cookie = cookie(exchange);
+        if (cookie == null || !cookies.contains(cookie)) {
+            send(exchange, 401, "text/plain", bytes("Unauthorized"));
+            return;
+        }
+
+        String crumb = UUID.randomUUID().toString().substring(0, 11);
+        crumbs.put(crumb, new Grant(cookie, System.nanoTime() + crumbTtl.toNanos()));
+
+        send(exchange, 200, "text/plain", bytes(crumb));
+    }
+
+    private void api(HttpExchange exchange, String path) throws IOException {
+        apiRequests.incrementAndGet();
+
+        Integer failure = injectedFailures.poll();
+        if (failure == null && randomFailureRate > 0
+                && ThreadLocalRandom.current().nextDouble() < randomFailureRate) {
+            failure = randomFailureStatus;
+        }
+        if (failure != null) {
+            fail(exchange, failure);
+            return;
+        }
+
+        Map<String, String> query = query(exchange);
+
+        Grant grant = crumbs.get(query.getOrDefault("crumb", ""));
+        if (grant == null || !grant.isValid(cookie(exchange))) {
+            fail(exchange, 401);
+            return;
+        }
+
+        if (path.startsWith("/v7/finance/quote")) {
+            quote(exchange, query);
+        } else if (path.startsWith("/v8/finance/chart/")) {
+            chart(exchange, symbol(path));
+        } else if (path.startsWith("/v10/finance/quoteSummary/")) {
+            quoteSummary(exchange, symbol(path), query);
+        } else {
+            sendJson(exchange, 200, searchPayload);
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // API ROUTES
+    // ------------------------------------------------------------------
+
+    private void quote(HttpExchange exchange, Map<String, String> query) throws IOException {
+        ObjectNode body = MAPPER.createObjectNode();
+        ObjectNode response = body.putObject("quoteResponse");
+        ArrayNode result = response.putArray("result");
+        response.putNull("error");
+
+        for (String symbol : query.getOrDefault("symbols", "").split(",")) {
+            if (!symbol.isBlank() && !isUnknown(symbol)) {
+                result.add(((ObjectNode) quoteTemplate.deepCopy()).put("symbol", symbol));
+            }
+        }
+
+        sendJson(exchange, 200, MAPPER.writeValueAsBytes(body));
+    }
+
+    private void chart(HttpExchange exchange, String symbol) throws IOException {
+        if (isUnknown(symbol)) {
+            sendJson(exchange, 404, notFound("chart", "No data found, symbol may be delisted"));
+            return;
+        }
+
+        JsonNode body = chartTemplate.deepCopy();
+        ((ObjectNode) body.path("chart").path("result").path(0).path("meta")).put("symbol", symbol);
+
+        sendJson(exchange, 200, MAPPER.writeValueAsBytes(body));
+    }
+
+    private void quoteSummary(HttpExchange exchange, String symbol, Map<String, String> query)
+            throws IOException {
+
+        if (isUnknown(symbol)) {
+            sendJson(exchange, 404, notFound("quoteSummary", "Quote not found for symbol: " + symbol));
+            return;
+        }
+
+        ObjectNode modules = MAPPER.createObjectNode();
+        for (String module : query.getOrDefault("modules", "").split(",")) {
+            JsonNode recorded = quoteSummaryTemplate.get(module.trim());
+            if (recorded != null) {
+                modules.set(module.trim(), recorded);
+            }
+        }
+
+        ObjectNode body = MAPPER.createObjectNode();
+        ObjectNode quoteSummary = body.putObject("quoteSummary");
+        quoteSummary.putArray("result").add(modules);
+        quoteSummary.putNull("error");
+
+        sendJson(exchange, 200, MAPPER.writeValueAsBytes(body));
+    }
+
+    /**
+     * Answers with a failure status and Yahoo's matching body.
+     */
+    private void fail(HttpExchange exchange, int status) throws IOException {
+        rejectedRequests.incrementAndGet();
+
+        if (status == 429) {
+            exchange.getResponseHeaders().add("Retry-After", "1");
+            send(exchange, status, "text/plain", bytes("Too Many Requests"));
+            return;
+        }
+
+        String code = status == 401 ? "Unauthorized" : "Internal Server Error";
+        ObjectNode body = MAPPER.createObjectNode();
+        ObjectNode finance = body.putObject("finance");
+        finance.putNull("result");
+        finance.putObject("error").put("code", code).put("description", code);
+
+        sendJson(exchange, status, MAPPER.writeValueAsBytes(body));
+    }
+
+    private static byte[] notFound(String root, String description) throws IOException {
+        ObjectNode body = MAPPER.createObjectNode();
+        ObjectNode payload = body.putObject(root);
+        payload.putNull("result");
+        payload.putObject("error").put("code", "Not Found").put("description", description);
+        return MAPPER.writeValueAsBytes(body);
+    }
+
+    // ------------------------------------------------------------------
+    // HELPERS
+    // ------------------------------------------------------------------
+
+    private static void sendJson(HttpExchange exchange, int status, byte[] body) throws IOException {
+        send(exchange, status, "application/json;charset=utf-8", body);
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body)
+            throws IOException {
+
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(body);
+            }
+            body = compressed.toByteArray();
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static String cookie(HttpExchange exchange) {
+        List<String> headers = exchange.getRequestHeaders().get("Cookie");
+        if (headers == null) {
+            return null;
+        }
+
+        for (String header : headers) {
+            for (String pair : header.split(";")) {
+                String[] parts = pair.trim().split("=", 2);
+                if (parts.length == 2 && parts[0].equals(COOKIE_NAME)) {
+                    return parts[1];
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> query = new HashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+
+        if (raw != null) {
+            Arrays.stream(raw.split("&"))
+                    .map(pair -> pair.split("=", 2))
+                    .forEach(parts -> query.put(
+                            decode(parts[0]),
+                            parts.length == 2 ? decode(parts[1]) : ""));
+        }
+
+        return query;
+    }
+
+    private static String symbol(String path) {
+        return decode(path.substring(path.lastIndexOf('/') + 1));
+    }
+
+    private static boolean isUnknown(String symbol) {
+        return symbol.startsWith(UNKNOWN_SYMBOL_PREFIX);
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static JsonNode load(String name) {
+        try {
+            return MAPPER.readTree(resource(name));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] resource(String name) {
+        try (InputStream in = YahooMockServer.class.getResourceAsStream("/yahoo/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing recorded payload: /yahoo/" + name);
+            }
+            return in.readAllBytes();
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
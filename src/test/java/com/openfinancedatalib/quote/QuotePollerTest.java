@@ -0,0 +1,69 @@
+package com.openfinancedatalib.quote;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests of the change detection of {@link QuotePoller}.
+ */
+class QuotePollerTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    void shouldReportEveryFieldOfFirstQuote() throws JsonProcessingException {
+        JsonNode current = MAPPER.readTree("{\"symbol\":\"MSFT\",\"regularMarketPrice\":410.5}");
+
+        Map<String, JsonNode> changes = QuotePoller.diff(null, current);
+
+        assertEquals(List.of("symbol", "regularMarketPrice"), List.copyOf(changes.keySet()));
+        assertEquals(410.5, changes.get("regularMarketPrice").asDouble());
+    }
+
+    @Test
+    void shouldReportNothingForUnchangedQuote() throws JsonProcessingException {
+        JsonNode previous = MAPPER.readTree("{\"symbol\":\"MSFT\",\"regularMarketPrice\":410.5}");
+        JsonNode current = MAPPER.readTree("{\"symbol\":\"MSFT\",\"regularMarketPrice\":410.5}");
+
+        assertTrue(QuotePoller.diff(previous, current).isEmpty());
+    }
+
+    @Test
+    void shouldReportChangedAndAddedFields() throws JsonProcessingException {
+        JsonNode previous = MAPPER.readTree("{\"symbol\":\"MSFT\",\"regularMarketPrice\":410.5,\"bid\":410.4}");
+        JsonNode current = MAPPER.readTree(
+                "{\"symbol\":\"MSFT\",\"regularMarketPrice\":411.0,\"bid\":410.4,\"ask\":411.1}");
+
+        Map<String, JsonNode> changes = QuotePoller.diff(previous, current);
+
+        assertEquals(List.of("regularMarketPrice", "ask"), List.copyOf(changes.keySet()));
+        assertEquals(411.0, changes.get("regularMarketPrice").asDouble());
+    }
+
+    @Test
+    void shouldReportRemovedFieldsLastAsNull() throws JsonProcessingException {
+        JsonNode previous = MAPPER.readTree("{\"symbol\":\"MSFT\",\"bid\":410.4,\"regularMarketPrice\":410.5}");
+        JsonNode current = MAPPER.readTree("{\"symbol\":\"MSFT\",\"regularMarketPrice\":411.0}");
+
+        Map<String, JsonNode> changes = QuotePoller.diff(previous, current);
+
+        assertEquals(List.of("regularMarketPrice", "bid"), List.copyOf(changes.keySet()));
+        assertTrue(changes.get("bid").isNull());
+    }
+
+    @Test
+    void shouldReportNestedValueChanges() throws JsonProcessingException {
+        JsonNode previous = MAPPER.readTree("{\"symbol\":\"MSFT\",\"range\":{\"low\":1,\"high\":2}}");
+        JsonNode current = MAPPER.readTree("{\"symbol\":\"MSFT\",\"range\":{\"low\":1,\"high\":3}}");
+
+        assertEquals(List.of("range"), List.copyOf(QuotePoller.diff(previous, current).keySet()));
+    }
+}
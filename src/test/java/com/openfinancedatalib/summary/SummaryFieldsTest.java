@@ -0,0 +1,94 @@
+package com.openfinancedatalib.summary;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests of {@link SummaryFields}.
+ */
+class SummaryFieldsTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    void shouldFlattenFormattedValues() throws IOException {
+        SummaryFields fields = new SummaryFields();
+        int price = fields.number("currentPrice");
+        int margin = fields.number("profitMargins");
+        int marginText = fields.text("profitMargins");
+
+        SummaryFields.Values values = read(fields,
+                "{\"currentPrice\":{\"raw\":410.5,\"fmt\":\"410.50\"},"
+                        + "\"profitMargins\":{\"fmt\":\"26%\",\"raw\":0.26,\"longFmt\":\"26.00%\"}}");
+
+        assertEquals(410.5, values.number(price));
+        assertEquals(0.26, values.number(margin));
+        assertEquals("26%", values.text(marginText));
+    }
+
+    @Test
+    void shouldReadNestedDottedPaths() throws IOException {
+        SummaryFields fields = new SummaryFields();
+        int avg = fields.number("earningsEstimate.avg");
+        int analysts = fields.number("earningsEstimate.numberOfAnalysts");
+        int period = fields.text("period");
+
+        SummaryFields.Values values = read(fields,
+                "{\"period\":\"0q\",\"growth\":{\"raw\":0.1},"
+                        + "\"earningsEstimate\":{\"avg\":{\"raw\":2.5},\"low\":{\"raw\":2.1},"
+                        + "\"numberOfAnalysts\":{\"raw\":31,\"fmt\":\"31\"}}}");
+
+        assertEquals(2.5, values.number(avg));
+        assertEquals(31, values.count(analysts));
+        assertEquals("0q", values.text(period));
+    }
+
+    @Test
+    void shouldLeaveMissingNullAndEmptyValuesUnset() throws IOException {
+        SummaryFields fields = new SummaryFields();
+        int missing = fields.number("totalCash");
+        int nullValue = fields.number("ebitda");
+        int empty = fields.number("targetMeanPrice");
+        int nullRaw = fields.number("quickRatio");
+        int text = fields.text("recommendationKey");
+
+        SummaryFields.Values values = read(fields,
+                "{\"ebitda\":null,\"targetMeanPrice\":{},\"quickRatio\":{\"raw\":null},\"recommendationKey\":null}");
+
+        assertTrue(Double.isNaN(values.number(missing)));
+        assertTrue(Double.isNaN(values.number(nullValue)));
+        assertTrue(Double.isNaN(values.number(empty)));
+        assertTrue(Double.isNaN(values.number(nullRaw)));
+        assertEquals(0, values.count(missing));
+        assertNull(values.text(text));
+    }
+
+    @Test
+    void shouldReadPlainScalars() throws IOException {
+        SummaryFields fields = new SummaryFields();
+        int currency = fields.text("financialCurrency");
+        int maxAge = fields.number("maxAge");
+        int maxAgeText = fields.text("maxAge");
+
+        SummaryFields.Values values = read(fields,
+                "{\"maxAge\":86400,\"financialCurrency\":\"USD\",\"other\":[1,{\"maxAge\":1}]}");
+
+        assertEquals("USD", values.text(currency));
+        assertEquals(86_400, values.count(maxAge));
+        assertEquals("86400", values.text(maxAgeText));
+    }
+
+    private static SummaryFields.Values read(SummaryFields fields, String json) throws IOException {
+        try (JsonParser parser = MAPPER.createParser(json)) {
+            parser.nextToken();
+            return fields.read(parser);
+        }
+    }
+}
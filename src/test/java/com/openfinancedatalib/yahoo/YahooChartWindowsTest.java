@@ -0,0 +1,118 @@
+package com.openfinancedatalib.yahoo;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.openfinancedatalib.yahoo.YahooChartWindows.Window;
+
+/**
+ * Unit tests of {@link YahooChartWindows}.
+ */
+class YahooChartWindowsTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    void shouldSplitIntradaySpanIntoLimitedWindows() {
+        List<Window> windows = YahooChartWindows.split(START, START.plus(Duration.ofDays(20)), "1m");
+
+        assertEquals(3, windows.size());
+        assertEquals(START.getEpochSecond(), windows.get(0).period1());
+        assertEquals(windows.get(0).period2(), windows.get(1).period1());
+        assertEquals(windows.get(1).period2(), windows.get(2).period1());
+        assertEquals(START.plus(Duration.ofDays(20)).getEpochSecond(), windows.get(2).period2());
+        assertEquals(Duration.ofDays(7).getSeconds(), windows.get(0).period2() - windows.get(0).period1());
+    }
+
+    @Test
+    void shouldUseSingleWindowForDailyInterval() {
+        Instant end = START.plus(Duration.ofDays(3_650));
+
+        List<Window> windows = YahooChartWindows.split(START, end, "1d");
+
+        assertEquals(List.of(new Window(START.getEpochSecond(), end.getEpochSecond())), windows);
+    }
+
+    @Test
+    void shouldRejectEmptySpan() {
+        assertThrows(IllegalArgumentException.class, () -> YahooChartWindows.split(START, START, "1m"));
+    }
+
+    @Test
+    void shouldBuildWindowParams() {
+        Map<String, String> params = YahooChartWindows.params(new Window(10, 20), "5m", "div");
+
+        assertEquals(Map.of("period1", "10", "period2", "20", "interval", "5m", "events", "div"), params);
+        assertNull(YahooChartWindows.params(new Window(10, 20), "5m", null).get("events"));
+    }
+
+    @Test
+    void shouldStitchWindowsAndDropOverlap() throws JsonProcessingException {
+        JsonNode first = chart("{\"currency\":\"USD\",\"regularMarketPrice\":1}",
+                "[100,160]", "{\"close\":[1.0,2.0],\"volume\":[10,20]}", "[1.0,2.0]",
+                "{\"dividends\":{\"100\":{\"amount\":0.1}}}");
+        JsonNode second = chart("{\"currency\":\"USD\",\"regularMarketPrice\":3}",
+                "[160,220]", "{\"close\":[2.5,3.0],\"volume\":[25,30]}", "[2.5,3.0]",
+                "{\"dividends\":{\"220\":{\"amount\":0.2}}}");
+
+        JsonNode result = YahooChartWindows.stitch(List.of(first, second))
+                .path("chart").path("result").path(0);
+
+        assertEquals("[100,160,220]", result.path("timestamp").toString());
+        assertEquals("[1.0,2.0,3.0]", result.path("indicators").path("quote").path(0).path("close").toString());
+        assertEquals("[10,20,30]", result.path("indicators").path("quote").path(0).path("volume").toString());
+        assertEquals("[1.0,2.0,3.0]",
+                result.path("indicators").path("adjclose").path(0).path("adjclose").toString());
+        assertEquals(3, result.path("meta").path("regularMarketPrice").asInt());
+        assertEquals(2, result.path("events").path("dividends").size());
+    }
+
+    @Test
+    void shouldPadColumnsMissingFromSomeWindows() throws JsonProcessingException {
+        JsonNode first = chart("{}", "[100]", "{\"close\":[1.0]}", null, null);
+        JsonNode second = chart("{}", "[200]", "{\"close\":[2.0],\"volume\":[20]}", "[2.0]", null);
+
+        JsonNode result = YahooChartWindows.stitch(List.of(first, second))
+                .path("chart").path("result").path(0);
+
+        assertEquals("[null,20]", result.path("indicators").path("quote").path(0).path("volume").toString());
+        assertEquals("[null,2.0]", result.path("indicators").path("adjclose").path(0).path("adjclose").toString());
+    }
+
+    @Test
+    void shouldSkipWindowsWithoutResult() throws JsonProcessingException {
+        JsonNode empty = MAPPER.readTree("{\"chart\":{\"result\":null,\"error\":null}}");
+        JsonNode window = chart("{}", "[100]", "{\"close\":[1.0]}", null, null);
+
+        JsonNode result = YahooChartWindows.stitch(List.of(empty, window))
+                .path("chart").path("result").path(0);
+
+        assertEquals("[100]", result.path("timestamp").toString());
+        assertTrue(result.path("events").isMissingNode());
+    }
+
+    private static JsonNode chart(String meta, String timestamps, String quote, String adjClose, String events)
+            throws JsonProcessingException {
+
+        return MAPPER.readTree("{\"chart\":{\"result\":[{"
+                + "\"meta\":" + meta
+                + ",\"timestamp\":" + timestamps
+                + (events == null ? "" : ",\"events\":" + events)
+                + ",\"indicators\":{\"quote\":[" + quote + "]"
+                + (adjClose == null ? "" : ",\"adjclose\":[{\"adjclose\":" + adjClose + "}]")
+                + "}}],\"error\":null}}");
+    }
+}
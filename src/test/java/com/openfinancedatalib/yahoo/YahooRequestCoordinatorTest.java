@@ -0,0 +1,86 @@
+package com.openfinancedatalib.yahoo;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests of the multi-symbol quote batching of
+ * {@link YahooRequestCoordinator}.
+ */
+class YahooRequestCoordinatorTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    void shouldSplitBatchesBySymbolCount() {
+        List<String> symbols = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            symbols.add("S" + i);
+        }
+
+        List<List<String>> batches = YahooRequestCoordinator.partition(symbols);
+
+        assertEquals(3, batches.size());
+        assertEquals(YahooRequestCoordinator.MAX_SYMBOLS_PER_BATCH, batches.get(0).size());
+        assertEquals(50, batches.get(2).size());
+        assertEquals("S100", batches.get(1).get(0));
+    }
+
+    @Test
+    void shouldSplitBatchesByJoinedLength() {
+        String symbol = "X".repeat(99);
+        List<String> symbols = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            symbols.add(symbol);
+        }
+
+        List<List<String>> batches = YahooRequestCoordinator.partition(symbols);
+
+        // 15 symbols and 14 commas fit in 1500 characters
+        assertEquals(List.of(15, 5), batches.stream().map(List::size).toList());
+        for (List<String> batch : batches) {
+            assertTrue(String.join(",", batch).length() <= YahooRequestCoordinator.MAX_SYMBOLS_LENGTH);
+        }
+    }
+
+    @Test
+    void shouldReturnNoBatchForNoSymbols() {
+        assertTrue(YahooRequestCoordinator.partition(List.of()).isEmpty());
+    }
+
+    @Test
+    void shouldDemultiplexBySymbolIgnoringCase() throws JsonProcessingException {
+        JsonNode response = MAPPER.readTree("{\"quoteResponse\":{\"result\":["
+                + "{\"symbol\":\"MSFT\",\"regularMarketPrice\":2},"
+                + "{\"symbol\":\"PETR4.SA\",\"regularMarketPrice\":1}"
+                + "],\"error\":null}}");
+
+        Map<String, JsonNode> quotes = new LinkedHashMap<>();
+        YahooRequestCoordinator.demultiplex(List.of("petr4.sa", "INVALID1", "MSFT"), response, quotes);
+
+        // Request order and spelling, unknown symbols skipped
+        assertEquals(List.of("petr4.sa", "MSFT"), List.copyOf(quotes.keySet()));
+        assertEquals(1, quotes.get("petr4.sa").path("regularMarketPrice").asInt());
+        assertEquals(2, quotes.get("MSFT").path("regularMarketPrice").asInt());
+    }
+
+    @Test
+    void shouldDemultiplexEmptyResponse() throws JsonProcessingException {
+        JsonNode response = MAPPER.readTree("{\"quoteResponse\":{\"result\":[],\"error\":null}}");
+
+        Map<String, JsonNode> quotes = new LinkedHashMap<>();
+        YahooRequestCoordinator.demultiplex(List.of("MSFT"), response, quotes);
+
+        assertTrue(quotes.isEmpty());
+    }
+}
@@ -0,0 +1,79 @@
+package com.openfinancedatalib.yahoo;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.openfinancedatalib.yahoo.client.YahooTransferMeter;
+import com.openfinancedatalib.yahoo.config.YahooConfig;
+import com.openfinancedatalib.yahoo.exception.YahooAuthException;
+import com.openfinancedatalib.yahoo.exception.YahooRateLimitException;
+
+/**
+ * Unit tests of the session recycling of {@link YahooSessionPool}.
+ */
+class YahooSessionPoolTest {
+
+    private static final YahooConfig CONFIG = YahooConfig.defaults();
+
+    private static final YahooAuthException REJECTED = new YahooAuthException("Unauthorized request to Yahoo");
+
+    private final AtomicInteger created = new AtomicInteger();
+
+    private final YahooSessionPool pool = new YahooSessionPool(1, () -> {
+        created.incrementAndGet();
+        return new YahooPooledSession(CONFIG, CONFIG.getEndpointResolver(), new YahooTransferMeter());
+    });
+
+    @Test
+    void shouldKeepSessionOnOtherFailures() {
+        YahooPooledSession session = pool.acquire();
+        for (int i = 0; i < YahooSessionPool.MAX_CONSECUTIVE_FAILURES; i++) {
+            pool.onFailure(session, new YahooRateLimitException("Yahoo rate limit exceeded", null));
+        }
+
+        assertSame(session, pool.acquire());
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    void shouldReplaceSessionOnceAndCloseItAfterLastCall() {
+        YahooPooledSession session = pool.acquire();
+        YahooPooledSession[] running = new YahooPooledSession[YahooSessionPool.MAX_CONSECUTIVE_FAILURES + 1];
+        for (int i = 0; i < running.length; i++) {
+            running[i] = pool.acquire();
+        }
+
+        // Concurrent failures of the same session
+        for (YahooPooledSession call : running) {
+            pool.onFailure(call, REJECTED);
+        }
+
+        YahooPooledSession fresh = pool.acquire();
+        assertNotSame(session, fresh);
+        assertEquals(2, created.get());
+
+        // The first call is still running on the old session
+        assertFalse(session.closed.get());
+        pool.onSuccess(session);
+        assertTrue(session.closed.get());
+        assertFalse(fresh.closed.get());
+    }
+
+    @Test
+    void shouldRejectCallsOnceClosed() {
+        YahooPooledSession session = pool.acquire();
+        pool.onSuccess(session);
+
+        pool.close();
+
+        assertTrue(session.closed.get());
+        assertThrows(IllegalStateException.class, pool::acquire);
+    }
+}
@@ -0,0 +1,98 @@
+package com.openfinancedatalib.yahoo.cache;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.openfinancedatalib.yahoo.YahooRequestKey;
+import com.openfinancedatalib.yahoo.enums.YahooApiType;
+
+/**
+ * Unit tests of {@link YahooResponseCache}.
+ */
+class YahooResponseCacheTest {
+
+    private static final JsonNode RESPONSE = JsonNodeFactory.instance.objectNode().put("ok", true);
+
+    @Test
+    void shouldServeFreshEntry() {
+        YahooResponseCache cache = new YahooResponseCache(YahooCacheSettings.defaults());
+
+        cache.put(quote("MSFT"), RESPONSE);
+
+        assertSame(RESPONSE, cache.get(quote("msft")));
+        assertNull(cache.get(quote("AAPL")));
+
+        YahooCacheStats stats = cache.stats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(1, stats.getSize());
+    }
+
+    @Test
+    void shouldExpireEntryAfterTtl() throws InterruptedException {
+        YahooResponseCache cache = new YahooResponseCache(YahooCacheSettings.builder()
+                .ttl(YahooApiType.QUOTE, Duration.ofMillis(50))
+                .build());
+
+        cache.put(quote("MSFT"), RESPONSE);
+        Thread.sleep(100);
+
+        assertNull(cache.get(quote("MSFT")));
+        assertEquals(0, cache.stats().getSize());
+    }
+
+    @Test
+    void shouldNotStoreWithZeroTtl() {
+        YahooResponseCache cache = new YahooResponseCache(YahooCacheSettings.builder()
+                .ttl(YahooApiType.QUOTE, Duration.ZERO)
+                .build());
+
+        cache.put(quote("MSFT"), RESPONSE);
+
+        assertNull(cache.get(quote("MSFT")));
+        assertEquals(0, cache.stats().getSize());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntry() {
+        YahooResponseCache cache = new YahooResponseCache(YahooCacheSettings.builder()
+                .maxEntries(2)
+                .build());
+
+        cache.put(quote("MSFT"), RESPONSE);
+        cache.put(quote("AAPL"), RESPONSE);
+        cache.get(quote("MSFT"));
+        cache.put(quote("GOOG"), RESPONSE);
+
+        assertNull(cache.get(quote("AAPL")));
+        assertSame(RESPONSE, cache.get(quote("MSFT")));
+        assertSame(RESPONSE, cache.get(quote("GOOG")));
+        assertEquals(1, cache.stats().getEvictions());
+        assertEquals(2, cache.stats().getSize());
+    }
+
+    @Test
+    void shouldUseShortestModuleTtl() {
+        YahooResponseCache cache = new YahooResponseCache(YahooCacheSettings.defaults());
+
+        assertEquals(Duration.ofHours(6), cache.ttlFor(summary("summaryProfile,calendarEvents")));
+        assertEquals(Duration.ofMinutes(1), cache.ttlFor(summary("summaryProfile,price")));
+        assertEquals(Duration.ofHours(24), cache.ttlFor(summary("summaryProfile")));
+        assertEquals(Duration.ofMinutes(1), cache.ttlFor(YahooRequestKey.of("MSFT", YahooApiType.QUOTE_SUMMARY, null)));
+    }
+
+    private static YahooRequestKey quote(String symbol) {
+        return YahooRequestKey.of(symbol, YahooApiType.QUOTE, Map.of());
+    }
+
+    private static YahooRequestKey summary(String modules) {
+        return YahooRequestKey.of("MSFT", YahooApiType.QUOTE_SUMMARY, Map.of("modules", modules));
+    }
+}
@@ -0,0 +1,63 @@
+package com.openfinancedatalib.yahoo.endpoint;
+
+import java.io.UncheckedIOException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.openfinancedatalib.yahoo.exception.YahooAuthException;
+import com.openfinancedatalib.yahoo.exception.YahooInvalidSymbolException;
+import com.openfinancedatalib.yahoo.exception.YahooRateLimitException;
+import com.openfinancedatalib.yahoo.exception.YahooUnavailableException;
+
+/**
+ * Unit tests of the host health tracking of {@link YahooEndpointPool}.
+ */
+class YahooEndpointPoolTest {
+
+    private static final String HOST = "https://query1.finance.yahoo.com";
+
+    private final YahooEndpointPool pool = YahooEndpointPool.defaults();
+
+    @Test
+    void shouldSuspendHostOnServerError() {
+        pool.onFailure(HOST, new YahooUnavailableException("Yahoo service unavailable (status 503)", 503));
+
+        assertFalse(pool.isAvailable(HOST));
+        assertTrue(pool.isAvailable("https://query2.finance.yahoo.com"));
+    }
+
+    @Test
+    void shouldSuspendHostOnTransportError() {
+        pool.onFailure(HOST, new RuntimeException("Request failed",
+                new UncheckedIOException(new HttpTimeoutException("request timed out"))));
+
+        assertFalse(pool.isAvailable(HOST));
+    }
+
+    @Test
+    void shouldSuspendHostOnRateLimit() {
+        pool.onFailure(HOST + "/", new YahooRateLimitException("Yahoo rate limit exceeded", Duration.ofMinutes(5)));
+
+        assertFalse(pool.isAvailable(HOST));
+    }
+
+    @Test
+    void shouldKeepHostOnErrorPayload() {
+        pool.onFailure(HOST, new YahooUnavailableException("Yahoo returned error payload"));
+        pool.onFailure(HOST, new YahooUnavailableException("Empty response from Yahoo"));
+
+        assertTrue(pool.isAvailable(HOST));
+    }
+
+    @Test
+    void shouldKeepHostOnRequestErrors() {
+        pool.onFailure(HOST, new YahooAuthException("Unauthorized request to Yahoo"));
+        pool.onFailure(HOST, new YahooInvalidSymbolException("Invalid or unsupported symbol"));
+
+        assertTrue(pool.isAvailable(HOST));
+    }
+}
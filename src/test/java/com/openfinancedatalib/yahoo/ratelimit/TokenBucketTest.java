@@ -0,0 +1,109 @@
+package com.openfinancedatalib.yahoo.ratelimit;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of {@link TokenBucket}.
+ */
+class TokenBucketTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    /** Tolerance for the time elapsed between two calls of a test */
+    private static final long SLACK = Duration.ofMillis(200).toNanos();
+
+    @Test
+    void shouldServeBurstImmediately() {
+        TokenBucket bucket = new TokenBucket(YahooRateLimit.of(2, 3));
+
+        assertEquals(0, bucket.reserve());
+        assertEquals(0, bucket.reserve());
+        assertEquals(0, bucket.reserve());
+
+        long wait = bucket.reserve();
+        assertTrue(wait > SECOND / 2 - SLACK && wait <= SECOND / 2, "wait=" + wait);
+    }
+
+    @Test
+    void shouldHalveRateAfterRateLimit() {
+        TokenBucket bucket = new TokenBucket(YahooRateLimit.of(2, 1));
+
+        bucket.onRateLimited(Duration.ofSeconds(10));
+
+        assertEquals(1, bucket.rate());
+        assertTrue(bucket.pauseRemaining() > 10 * SECOND - SLACK);
+    }
+
+    @Test
+    void shouldSpaceQueuedCallersAfterPause() {
+        TokenBucket bucket = new TokenBucket(YahooRateLimit.of(2, 1));
+
+        bucket.onRateLimited(Duration.ofSeconds(10));
+
+        long[] waits = new long[10];
+        for (int i = 0; i < waits.length; i++) {
+            waits[i] = bucket.reserve();
+        }
+
+        // First caller right after the pause, then one per second (1/s)
+        assertTrue(waits[0] > 11 * SECOND - SLACK && waits[0] <= 11 * SECOND, "wait=" + waits[0]);
+        for (int i = 1; i < waits.length; i++) {
+            long spacing = waits[i] - waits[i - 1];
+            assertTrue(Math.abs(spacing - SECOND) < SLACK, "spacing=" + spacing);
+        }
+    }
+
+    @Test
+    void shouldRequeueCallersReservedBeforeRateLimit() {
+        TokenBucket bucket = new TokenBucket(YahooRateLimit.of(2, 1));
+
+        // Due at 0, 0.5, 1, 1.5 and 2 seconds
+        long[] waits = new long[5];
+        for (int i = 0; i < waits.length; i++) {
+            waits[i] = bucket.reserve();
+        }
+        assertTrue(waits[4] <= 2 * SECOND, "wait=" + waits[4]);
+
+        bucket.onRateLimited(Duration.ofSeconds(10));
+
+        // Each caller wakes up during the pause and is queued again at 1/s
+        long[] releases = new long[waits.length];
+        for (int i = 0; i < releases.length; i++) {
+            releases[i] = bucket.recheck();
+        }
+
+        assertTrue(releases[0] > 11 * SECOND - SLACK && releases[0] <= 11 * SECOND, "release=" + releases[0]);
+        for (int i = 1; i < releases.length; i++) {
+            long spacing = releases[i] - releases[i - 1];
+            assertTrue(Math.abs(spacing - SECOND) < SLACK, "spacing=" + spacing);
+        }
+    }
+
+    @Test
+    void shouldReleaseCallerWakingAfterPause() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(YahooRateLimit.of(2, 1));
+
+        bucket.reserve();
+        bucket.onRateLimited(Duration.ofMillis(50));
+        Thread.sleep(100);
+
+        assertEquals(0, bucket.recheck());
+    }
+
+    @Test
+    void shouldNotRefillDuringPause() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(YahooRateLimit.of(100, 5));
+
+        bucket.onRateLimited(Duration.ofMillis(300));
+        Thread.sleep(100);
+
+        // 50 permits/s: no token accrues before the pause ends
+        long wait = bucket.reserve();
+        long pause = bucket.pauseRemaining();
+        assertTrue(wait >= pause + SECOND / 50 - SLACK / 10, "wait=" + wait + " pause=" + pause);
+    }
+}
@@ -0,0 +1,41 @@
+package com.openfinancedatalib.yahoo.session;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.openfinancedatalib.yahoo.config.YahooHttpSettings;
+
+/**
+ * Unit tests of the session initialization of {@link YahooSessionManager}.
+ */
+class YahooSessionManagerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    void shouldFailEveryCallerWhenSessionUrlIsInvalid() {
+        YahooSessionManager sessions = new YahooSessionManager(YahooHttpSettings.defaults(), "ftp://localhost/");
+
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            assertThrows(RuntimeException.class, sessions::getClient);
+            assertThrows(RuntimeException.class, sessions::getClient);
+            assertTrue(sessions.getClientAsync().isCompletedExceptionally());
+        });
+    }
+
+    @Test
+    void shouldFailEveryCallerWhenRequestTimeoutIsInvalid() {
+        YahooSessionManager sessions = new YahooSessionManager(
+                YahooHttpSettings.builder().requestTimeout(Duration.ZERO).build(),
+                "http://localhost/");
+
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            assertTrue(sessions.getClientAsync().isCompletedExceptionally());
+            assertThrows(RuntimeException.class, sessions::getClient);
+        });
+    }
+}
@@ -0,0 +1,92 @@
+package com.openfinancedatalib.yahoo.validator;
+
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.openfinancedatalib.yahoo.exception.YahooAuthException;
+import com.openfinancedatalib.yahoo.exception.YahooInvalidSymbolException;
+import com.openfinancedatalib.yahoo.exception.YahooRateLimitException;
+import com.openfinancedatalib.yahoo.exception.YahooUnavailableException;
+
+/**
+ * Unit tests of {@link YahooResponseValidator}.
+ */
+class YahooResponseValidatorTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    void shouldAcceptPayloadWithoutError() throws JsonProcessingException {
+        JsonNode root = MAPPER.readTree("{\"quoteResponse\":{\"result\":[{\"symbol\":\"MSFT\","
+                + "\"error\":\"text\",\"code\":\"X\"}],\"error\":null}}");
+
+        assertDoesNotThrow(() -> YahooResponseValidator.validatePayload(root));
+    }
+
+    @Test
+    void shouldAcceptPayloadWithoutWrapper() throws JsonProcessingException {
+        JsonNode root = MAPPER.readTree("{\"count\":1,\"quotes\":[{\"symbol\":\"MSFT\"}]}");
+
+        assertDoesNotThrow(() -> YahooResponseValidator.validatePayload(root));
+    }
+
+    @Test
+    void shouldRejectPayloadWithUnknownSymbol() throws JsonProcessingException {
+        JsonNode root = MAPPER.readTree("{\"chart\":{\"result\":null,"
+                + "\"error\":{\"code\":\"Not Found\",\"description\":\"No data found, symbol may be delisted\"}}}");
+
+        assertThrows(YahooInvalidSymbolException.class, () -> YahooResponseValidator.validatePayload(root));
+    }
+
+    @Test
+    void shouldRejectPayloadWithErrorObject() throws JsonProcessingException {
+        JsonNode root = MAPPER.readTree("{\"finance\":{\"result\":null,"
+                + "\"error\":{\"code\":\"Internal Server Error\",\"description\":\"failed\"}}}");
+
+        assertThrows(YahooUnavailableException.class, () -> YahooResponseValidator.validatePayload(root));
+    }
+
+    @Test
+    void shouldAcceptSuccessfulStatus() {
+        assertDoesNotThrow(() -> YahooResponseValidator.validateStatus(200, null));
+        assertDoesNotThrow(() -> YahooResponseValidator.validateStatus(404, null));
+    }
+
+    @Test
+    void shouldRejectUnauthorizedStatus() {
+        assertThrows(YahooAuthException.class, () -> YahooResponseValidator.validateStatus(401, null));
+        assertThrows(YahooAuthException.class, () -> YahooResponseValidator.validateStatus(403, null));
+    }
+
+    @Test
+    void shouldExposeRetryAfterOfRateLimit() {
+        HttpHeaders headers = HttpHeaders.of(Map.of("Retry-After", List.of("30")), (name, value) -> true);
+
+        YahooRateLimitException e = assertThrows(YahooRateLimitException.class,
+                () -> YahooResponseValidator.validateStatus(429, headers));
+
+        assertEquals(Duration.ofSeconds(30), e.getRetryAfter().orElseThrow());
+        assertTrue(assertThrows(YahooRateLimitException.class,
+                () -> YahooResponseValidator.validateStatus(429, null)).getRetryAfter().isEmpty());
+    }
+
+    @Test
+    void shouldExposeStatusOfServerError() {
+        YahooUnavailableException e = assertThrows(YahooUnavailableException.class,
+                () -> YahooResponseValidator.validateStatus(503, null));
+
+        assertEquals(OptionalInt.of(503), e.getStatusCode());
+    }
+}